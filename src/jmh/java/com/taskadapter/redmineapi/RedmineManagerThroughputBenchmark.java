@@ -0,0 +1,84 @@
+package com.taskadapter.redmineapi;
+
+import com.taskadapter.redmineapi.bean.Issue;
+import org.apache.http.conn.ClientConnectionManager;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * End-to-end throughput of RedmineManager over real HTTP, against {@link StubRedmineServer}.
+ * 8 threads share one manager, like a service handling concurrent user requests.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Threads(8)
+public class RedmineManagerThroughputBenchmark {
+    private static final int ISSUES = 1000;
+
+    @Param({"0", "5"})
+    public int latencyMillis;
+
+    @Param({"false", "true"})
+    public boolean gzip;
+
+    /**
+     * Max number of list pages loaded at once, 1 loads them one by one.
+     */
+    @Param({"1", "4"})
+    public int parallelPages;
+
+    private StubRedmineServer server;
+    private ClientConnectionManager connectionManager;
+    private ExecutorService pageExecutor;
+    private RedmineManager manager;
+
+    @Setup
+    public void setUp() throws IOException {
+        server = StubRedmineServer.start(ISSUES, 10, 10)
+                .setLatency(latencyMillis, TimeUnit.MILLISECONDS)
+                .setGzip(gzip);
+        connectionManager = RedmineManagerFactory.createDefaultConnectionManager();
+        manager = RedmineManagerFactory.createWithApiKey(server.getUri(), "key",
+                RedmineManagerFactory.getNewHttpClient(server.getUri(), connectionManager));
+        manager.setObjectsPerPage(100);
+        if (parallelPages > 1) {
+            pageExecutor = Executors.newCachedThreadPool();
+            manager.getTransport().setExecutor(pageExecutor, parallelPages);
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        if (pageExecutor != null) {
+            pageExecutor.shutdownNow();
+        }
+        connectionManager.shutdown();
+        server.close();
+    }
+
+    @Benchmark
+    public Issue getIssueById() throws RedmineException {
+        return manager.getIssueManager().getIssueById(ThreadLocalRandom.current().nextInt(ISSUES) + 1);
+    }
+
+    @Benchmark
+    public List<Issue> loadAllIssues() throws RedmineException {
+        return manager.getIssueManager().getIssues(null, null);
+    }
+}
@@ -0,0 +1,80 @@
+package com.taskadapter.redmineapi.bean;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Bean setters and getters, which go through {@link PropertyStorage}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class PropertyStorageBenchmark {
+
+    private final Date date = new Date();
+    private Issue issue;
+
+    @Setup
+    public void setUp() {
+        issue = fillIssue();
+    }
+
+    @Benchmark
+    public Issue setAllFields() {
+        return fillIssue();
+    }
+
+    @Benchmark
+    public void getAllFields(Blackhole blackhole) {
+        blackhole.consume(issue.getId());
+        blackhole.consume(issue.getSubject());
+        blackhole.consume(issue.getDescription());
+        blackhole.consume(issue.getProjectId());
+        blackhole.consume(issue.getProjectName());
+        blackhole.consume(issue.getStatusId());
+        blackhole.consume(issue.getStatusName());
+        blackhole.consume(issue.getPriorityId());
+        blackhole.consume(issue.getAssigneeId());
+        blackhole.consume(issue.getAssigneeName());
+        blackhole.consume(issue.getDoneRatio());
+        blackhole.consume(issue.getEstimatedHours());
+        blackhole.consume(issue.getStartDate());
+        blackhole.consume(issue.getCreatedOn());
+        blackhole.consume(issue.getUpdatedOn());
+    }
+
+    @Benchmark
+    public boolean isPropertySet() {
+        final PropertyStorage storage = issue.getStorage();
+        return storage.isPropertySet(Issue.SUBJECT) & storage.isPropertySet(Issue.CLOSED_ON)
+                & storage.isPropertySet(Issue.DUE_DATE) & storage.isPropertySet(Issue.STATUS_ID);
+    }
+
+    private Issue fillIssue() {
+        return new Issue()
+                .setId(1)
+                .setSubject("subject")
+                .setDescription("description")
+                .setProjectId(2)
+                .setProjectName("project")
+                .setStatusId(3)
+                .setStatusName("New")
+                .setPriorityId(4)
+                .setAssigneeId(5)
+                .setAssigneeName("assignee")
+                .setDoneRatio(50)
+                .setEstimatedHours(1.5f)
+                .setStartDate(date)
+                .setCreatedOn(date)
+                .setUpdatedOn(date);
+    }
+}
@@ -0,0 +1,96 @@
+package com.taskadapter.redmineapi.internal;
+
+import org.json.JSONArray;
+import org.json.JSONObject;
+import org.json.JSONTokener;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Benchmark input: issues from "issue/redmine_issues.json" test resource, repeated to fill pages
+ * of the requested size. "Heavy" issues get custom fields and journals, like issues loaded with
+ * "include=journals" from a long-living project.
+ */
+final class IssueFixtures {
+    static final String PLAIN = "plain";
+    static final String HEAVY = "heavy";
+
+    private static final int HEAVY_CUSTOM_FIELDS = 20;
+    private static final int HEAVY_JOURNALS = 30;
+
+    private IssueFixtures() {
+        throw new UnsupportedOperationException();
+    }
+
+    static JSONObject issue(String shape) {
+        return issue(baseIssues().getJSONObject(0), 1, shape);
+    }
+
+    /**
+     * @return list response text, as returned by "issues.json".
+     */
+    static String page(int pageSize, String shape) {
+        final JSONArray base = baseIssues();
+        final JSONArray issues = new JSONArray();
+        for (int i = 0; i < pageSize; i++) {
+            issues.put(issue(base.getJSONObject(i % base.length()), i + 1, shape));
+        }
+        return new JSONObject()
+                .put("issues", issues)
+                .put("total_count", pageSize * 10)
+                .put("offset", 0)
+                .put("limit", pageSize)
+                .toString();
+    }
+
+    private static JSONObject issue(JSONObject template, int id, String shape) {
+        final JSONObject issue = new JSONObject(template.toString());
+        issue.put("id", id);
+        issue.put("description", "Steps to reproduce:\n1. open the page\n2. click the button\n"
+                + "Expected: it works. Actual: it does not work for issue " + id);
+        if (HEAVY.equals(shape)) {
+            final JSONArray customFields = new JSONArray();
+            for (int i = 1; i <= HEAVY_CUSTOM_FIELDS; i++) {
+                customFields.put(new JSONObject()
+                        .put("id", i)
+                        .put("name", "Custom field " + i)
+                        .put("value", "value " + i));
+            }
+            issue.put("custom_fields", customFields);
+            final JSONArray journals = new JSONArray();
+            for (int i = 1; i <= HEAVY_JOURNALS; i++) {
+                journals.put(new JSONObject()
+                        .put("id", id * 1000 + i)
+                        .put("user", new JSONObject().put("id", i % 5 + 1).put("name", "User " + (i % 5 + 1)))
+                        .put("notes", i % 3 == 0 ? "" : "Comment number " + i + " with some discussion text")
+                        .put("created_on", "2020-03-" + String.format("%02d", i % 28 + 1) + "T10:15:30Z")
+                        .put("details", new JSONArray().put(new JSONObject()
+                                .put("property", "attr")
+                                .put("name", "status_id")
+                                .put("old_value", "1")
+                                .put("new_value", "2"))));
+            }
+            issue.put("journals", journals);
+        } else if (!PLAIN.equals(shape)) {
+            throw new IllegalArgumentException("Unknown shape " + shape);
+        }
+        return issue;
+    }
+
+    private static JSONArray baseIssues() {
+        try (InputStream stream = IssueFixtures.class.getClassLoader()
+                .getResourceAsStream("issue/redmine_issues.json")) {
+            if (stream == null) {
+                throw new IllegalStateException("Test resources are not on the classpath");
+            }
+            return new JSONObject(new JSONTokener(new InputStreamReader(stream, StandardCharsets.UTF_8)))
+                    .getJSONArray("issues");
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,45 @@
+package com.taskadapter.redmineapi.internal;
+
+import com.taskadapter.redmineapi.bean.Issue;
+import org.json.JSONObject;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Converting one issue between JSON and {@link Issue}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class IssueJsonBenchmark {
+
+    @Param({IssueFixtures.PLAIN, IssueFixtures.HEAVY})
+    public String shape;
+
+    private JSONObject json;
+    private Issue issue;
+
+    @Setup
+    public void setUp() {
+        json = IssueFixtures.issue(shape);
+        issue = RedmineJSONParser.parseIssue(json);
+    }
+
+    @Benchmark
+    public Issue parseIssue() {
+        return RedmineJSONParser.parseIssue(json);
+    }
+
+    @Benchmark
+    public String writeIssue() {
+        return RedmineJSONBuilder.toSimpleJSON("issue", issue, RedmineJSONBuilder::writeIssue);
+    }
+}
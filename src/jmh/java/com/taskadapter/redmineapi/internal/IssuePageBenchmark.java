@@ -0,0 +1,63 @@
+package com.taskadapter.redmineapi.internal;
+
+import com.taskadapter.redmineapi.bean.Issue;
+import com.taskadapter.redmineapi.internal.json.JsonInput;
+import com.taskadapter.redmineapi.internal.json.JsonListReader;
+import org.json.JSONObject;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.StringReader;
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Parsing a page of "issues.json" response: the streaming way used by Transport, the old
+ * "whole tree first" way for comparison, and a projection of a few dashboard fields.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class IssuePageBenchmark {
+
+    @Param({"25", "100"})
+    public int pageSize;
+
+    @Param({IssueFixtures.PLAIN, IssueFixtures.HEAVY})
+    public String shape;
+
+    private final Projection<Issue> dashboardFields = RedmineJSONParser.issueProjection(Arrays.asList(
+            Issue.SUBJECT, Issue.STATUS_NAME, Issue.ASSIGNEE_NAME, Issue.UPDATED_ON));
+
+    private String page;
+
+    @Setup
+    public void setUp() {
+        page = IssueFixtures.page(pageSize, shape);
+    }
+
+    @Benchmark
+    public JSONObject streamPage(Blackhole blackhole) {
+        return JsonListReader.readList(new StringReader(page), "issues",
+                json -> blackhole.consume(RedmineJSONParser.parseIssue(json)));
+    }
+
+    @Benchmark
+    public void parseTree(Blackhole blackhole) {
+        final JSONObject response = RedmineJSONParser.getResponse(page);
+        blackhole.consume(JsonInput.getListOrEmpty(response, "issues", RedmineJSONParser::parseIssue));
+    }
+
+    @Benchmark
+    public JSONObject streamPageProjection(Blackhole blackhole) {
+        return JsonListReader.readList(new StringReader(page), "issues", dashboardFields.getJsonFields()::contains,
+                json -> blackhole.consume(dashboardFields.getParser().parse(json)));
+    }
+}
@@ -0,0 +1,31 @@
+package com.taskadapter.redmineapi.internal;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+import java.text.ParseException;
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Parsing dates in all formats Redmine versions use.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class RedmineDateParserBenchmark {
+
+    @Param({"2020-03-15T10:15:30Z", "2020-03-15T10:15:30.123Z", "2011/01/24 13:59:25 -0800",
+            "2020-03-15", "2011/01/24"})
+    public String date;
+
+    @Benchmark
+    public Date parse() throws ParseException {
+        return RedmineDateParser.parse(date);
+    }
+}
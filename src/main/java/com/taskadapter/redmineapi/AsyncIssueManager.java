@@ -0,0 +1,75 @@
+package com.taskadapter.redmineapi;
+
+import com.taskadapter.redmineapi.bean.Issue;
+import com.taskadapter.redmineapi.bean.IssueRelation;
+import com.taskadapter.redmineapi.bean.IssueStatus;
+import com.taskadapter.redmineapi.bean.Tracker;
+import com.taskadapter.redmineapi.internal.ParallelCalls;
+import com.taskadapter.redmineapi.internal.ResultsWrapper;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+
+/**
+ * Asynchronous version of {@link IssueManager}. See the blocking methods for details.
+ *
+ * @see AsyncRedmineManager#getIssueManager()
+ */
+public class AsyncIssueManager {
+    private final IssueManager issueManager;
+    private final Executor executor;
+
+    AsyncIssueManager(IssueManager issueManager, Executor executor) {
+        this.issueManager = issueManager;
+        this.executor = executor;
+    }
+
+    public CompletableFuture<Issue> getIssueById(Integer id, Include... include) {
+        return ParallelCalls.submit(executor, () -> issueManager.getIssueById(id, include));
+    }
+
+    public CompletableFuture<Map<Integer, Issue>> getIssuesByIds(Collection<Integer> ids, Include... include) {
+        return ParallelCalls.submit(executor, () -> issueManager.getIssuesByIds(ids, include));
+    }
+
+    public CompletableFuture<List<Issue>> getIssues(String projectKey, Integer queryId, Include... include) {
+        return ParallelCalls.submit(executor, () -> issueManager.getIssues(projectKey, queryId, include));
+    }
+
+    public CompletableFuture<ResultsWrapper<Issue>> getIssues(Params parameters) {
+        return ParallelCalls.submit(executor, () -> issueManager.getIssues(parameters));
+    }
+
+    public CompletableFuture<Issue> createIssue(Issue issue) {
+        return ParallelCalls.submit(executor, () -> issueManager.createIssue(issue));
+    }
+
+    public CompletableFuture<Void> update(Issue issue) {
+        return ParallelCalls.submit(executor, () -> {
+            issueManager.update(issue);
+            return null;
+        });
+    }
+
+    public CompletableFuture<Void> deleteIssue(Integer id) {
+        return ParallelCalls.submit(executor, () -> {
+            issueManager.deleteIssue(id);
+            return null;
+        });
+    }
+
+    public CompletableFuture<IssueRelation> createRelation(Integer issueId, Integer issueToId, String type) {
+        return ParallelCalls.submit(executor, () -> issueManager.createRelation(issueId, issueToId, type));
+    }
+
+    public CompletableFuture<List<IssueStatus>> getStatuses() {
+        return ParallelCalls.submit(executor, issueManager::getStatuses);
+    }
+
+    public CompletableFuture<List<Tracker>> getTrackers() {
+        return ParallelCalls.submit(executor, issueManager::getTrackers);
+    }
+}
@@ -0,0 +1,63 @@
+package com.taskadapter.redmineapi;
+
+import com.taskadapter.redmineapi.bean.Membership;
+import com.taskadapter.redmineapi.bean.Project;
+import com.taskadapter.redmineapi.bean.Version;
+import com.taskadapter.redmineapi.internal.ParallelCalls;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+
+/**
+ * Asynchronous version of {@link ProjectManager}. See the blocking methods for details.
+ *
+ * @see AsyncRedmineManager#getProjectManager()
+ */
+public class AsyncProjectManager {
+    private final ProjectManager projectManager;
+    private final Executor executor;
+
+    AsyncProjectManager(ProjectManager projectManager, Executor executor) {
+        this.projectManager = projectManager;
+        this.executor = executor;
+    }
+
+    public CompletableFuture<List<Project>> getProjects() {
+        return ParallelCalls.submit(executor, projectManager::getProjects);
+    }
+
+    public CompletableFuture<Project> getProjectByKey(String projectKey) {
+        return ParallelCalls.submit(executor, () -> projectManager.getProjectByKey(projectKey));
+    }
+
+    public CompletableFuture<Project> getProjectById(int id) {
+        return ParallelCalls.submit(executor, () -> projectManager.getProjectById(id));
+    }
+
+    public CompletableFuture<Project> createProject(Project project) {
+        return ParallelCalls.submit(executor, () -> projectManager.createProject(project));
+    }
+
+    public CompletableFuture<Void> update(Project project) {
+        return ParallelCalls.submit(executor, () -> {
+            projectManager.update(project);
+            return null;
+        });
+    }
+
+    public CompletableFuture<Void> deleteProject(String projectKey) {
+        return ParallelCalls.submit(executor, () -> {
+            projectManager.deleteProject(projectKey);
+            return null;
+        });
+    }
+
+    public CompletableFuture<List<Version>> getVersions(int projectId) {
+        return ParallelCalls.submit(executor, () -> projectManager.getVersions(projectId));
+    }
+
+    public CompletableFuture<List<Membership>> getProjectMembers(String projectKey) {
+        return ParallelCalls.submit(executor, () -> projectManager.getProjectMembers(projectKey));
+    }
+}
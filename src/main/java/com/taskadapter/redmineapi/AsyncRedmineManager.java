@@ -0,0 +1,63 @@
+package com.taskadapter.redmineapi;
+
+import java.util.concurrent.Executor;
+
+/**
+ * Asynchronous view of {@link RedmineManager}. All methods of the managers returned by this class
+ * return {@link java.util.concurrent.CompletableFuture}s instead of blocking the calling thread.
+ * The futures are completed exceptionally with the same {@link RedmineException}s the blocking methods throw.
+ * <p>
+ * Requests are executed by the provided executor, using the transport of the wrapped RedmineManager.
+ * The calling thread (e.g. an event loop thread) is never blocked, but every request in flight still occupies
+ * one executor thread while it waits for the server. Use a virtual thread executor on Java 21+ if you need
+ * thousands of requests in flight at the same time.
+ * <pre>
+ AsyncRedmineManager async = new AsyncRedmineManager(redmineManager, executor);
+ async.getIssueManager().getIssueById(123)
+     .thenAccept(issue -> System.out.println(issue.getSubject()));
+ * </pre>
+ */
+public class AsyncRedmineManager {
+
+    private final RedmineManager redmineManager;
+    private final AsyncIssueManager issueManager;
+    private final AsyncProjectManager projectManager;
+    private final AsyncUserManager userManager;
+    private final AsyncTimeEntryManager timeEntryManager;
+
+    /**
+     * @param redmineManager manager to send requests with. It must be created with a thread-safe
+     *                       connection manager (this is the default in RedmineManagerFactory).
+     * @param executor       executor to run requests in.
+     */
+    public AsyncRedmineManager(RedmineManager redmineManager, Executor executor) {
+        this.redmineManager = redmineManager;
+        issueManager = new AsyncIssueManager(redmineManager.getIssueManager(), executor);
+        projectManager = new AsyncProjectManager(redmineManager.getProjectManager(), executor);
+        userManager = new AsyncUserManager(redmineManager.getUserManager(), executor);
+        timeEntryManager = new AsyncTimeEntryManager(redmineManager.getTimeEntryManager(), executor);
+    }
+
+    public AsyncIssueManager getIssueManager() {
+        return issueManager;
+    }
+
+    public AsyncProjectManager getProjectManager() {
+        return projectManager;
+    }
+
+    public AsyncUserManager getUserManager() {
+        return userManager;
+    }
+
+    public AsyncTimeEntryManager getTimeEntryManager() {
+        return timeEntryManager;
+    }
+
+    /**
+     * @return the blocking manager this one delegates to.
+     */
+    public RedmineManager getRedmineManager() {
+        return redmineManager;
+    }
+}
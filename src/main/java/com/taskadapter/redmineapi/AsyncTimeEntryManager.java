@@ -0,0 +1,60 @@
+package com.taskadapter.redmineapi;
+
+import com.taskadapter.redmineapi.bean.TimeEntry;
+import com.taskadapter.redmineapi.bean.TimeEntryActivity;
+import com.taskadapter.redmineapi.internal.ParallelCalls;
+import com.taskadapter.redmineapi.internal.ResultsWrapper;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+
+/**
+ * Asynchronous version of {@link TimeEntryManager}. See the blocking methods for details.
+ *
+ * @see AsyncRedmineManager#getTimeEntryManager()
+ */
+public class AsyncTimeEntryManager {
+    private final TimeEntryManager timeEntryManager;
+    private final Executor executor;
+
+    AsyncTimeEntryManager(TimeEntryManager timeEntryManager, Executor executor) {
+        this.timeEntryManager = timeEntryManager;
+        this.executor = executor;
+    }
+
+    public CompletableFuture<TimeEntry> getTimeEntry(Integer id) {
+        return ParallelCalls.submit(executor, () -> timeEntryManager.getTimeEntry(id));
+    }
+
+    public CompletableFuture<List<TimeEntry>> getTimeEntriesForIssue(Integer issueId) {
+        return ParallelCalls.submit(executor, () -> timeEntryManager.getTimeEntriesForIssue(issueId));
+    }
+
+    public CompletableFuture<ResultsWrapper<TimeEntry>> getTimeEntries(Map<String, String> parameters) {
+        return ParallelCalls.submit(executor, () -> timeEntryManager.getTimeEntries(parameters));
+    }
+
+    public CompletableFuture<TimeEntry> createTimeEntry(TimeEntry timeEntry) {
+        return ParallelCalls.submit(executor, () -> timeEntryManager.createTimeEntry(timeEntry));
+    }
+
+    public CompletableFuture<Void> update(TimeEntry timeEntry) {
+        return ParallelCalls.submit(executor, () -> {
+            timeEntryManager.update(timeEntry);
+            return null;
+        });
+    }
+
+    public CompletableFuture<Void> deleteTimeEntry(Integer id) {
+        return ParallelCalls.submit(executor, () -> {
+            timeEntryManager.deleteTimeEntry(id);
+            return null;
+        });
+    }
+
+    public CompletableFuture<List<TimeEntryActivity>> getTimeEntryActivities() {
+        return ParallelCalls.submit(executor, timeEntryManager::getTimeEntryActivities);
+    }
+}
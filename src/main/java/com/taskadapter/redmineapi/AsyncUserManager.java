@@ -0,0 +1,58 @@
+package com.taskadapter.redmineapi;
+
+import com.taskadapter.redmineapi.bean.Group;
+import com.taskadapter.redmineapi.bean.User;
+import com.taskadapter.redmineapi.internal.ParallelCalls;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+
+/**
+ * Asynchronous version of {@link UserManager}. See the blocking methods for details.
+ *
+ * @see AsyncRedmineManager#getUserManager()
+ */
+public class AsyncUserManager {
+    private final UserManager userManager;
+    private final Executor executor;
+
+    AsyncUserManager(UserManager userManager, Executor executor) {
+        this.userManager = userManager;
+        this.executor = executor;
+    }
+
+    public CompletableFuture<User> getCurrentUser() {
+        return ParallelCalls.submit(executor, userManager::getCurrentUser);
+    }
+
+    public CompletableFuture<User> getUserById(Integer userId) {
+        return ParallelCalls.submit(executor, () -> userManager.getUserById(userId));
+    }
+
+    public CompletableFuture<List<User>> getUsers() {
+        return ParallelCalls.submit(executor, userManager::getUsers);
+    }
+
+    public CompletableFuture<User> createUser(User user) {
+        return ParallelCalls.submit(executor, () -> userManager.createUser(user));
+    }
+
+    public CompletableFuture<Void> update(User user) {
+        return ParallelCalls.submit(executor, () -> {
+            userManager.update(user);
+            return null;
+        });
+    }
+
+    public CompletableFuture<Void> deleteUser(Integer userId) {
+        return ParallelCalls.submit(executor, () -> {
+            userManager.deleteUser(userId);
+            return null;
+        });
+    }
+
+    public CompletableFuture<List<Group>> getGroups() {
+        return ParallelCalls.submit(executor, userManager::getGroups);
+    }
+}
@@ -0,0 +1,143 @@
+package com.taskadapter.redmineapi;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+
+/**
+ * Runs the same Redmine call for many items at once and collects all results and errors, e.g.:
+ * <pre>
+ try (BulkExecutor bulk = BulkExecutor.create(50)) {
+     BulkResult&lt;Integer, Issue&gt; result = bulk.run(issueIds, id -&gt; issueManager.getIssueById(id));
+     result.throwIfFailed();
+     List&lt;Issue&gt; issues = result.getResults();
+ }
+ * </pre>
+ * On Java 21+ every call runs in its own virtual thread, on older JVMs a cached thread pool is used.
+ * At most maxConcurrency calls are in flight at the same time, no matter how many items are given.
+ * <p>
+ * All calls can share one RedmineManager: the default connection manager is thread-safe.
+ * Make sure its connection pool is large enough for the concurrency you use.
+ */
+public final class BulkExecutor implements AutoCloseable {
+    private static final Logger logger = LoggerFactory.getLogger(BulkExecutor.class);
+
+    private final ExecutorService executorService;
+    private final int maxConcurrency;
+
+    /**
+     * A call to execute for one item.
+     */
+    @FunctionalInterface
+    public interface Operation<T, R> {
+        R apply(T item) throws RedmineException;
+    }
+
+    /**
+     * @param executorService runs the calls. It is shut down when this BulkExecutor is closed.
+     * @param maxConcurrency  max number of calls running at the same time.
+     */
+    public BulkExecutor(ExecutorService executorService, int maxConcurrency) {
+        if (maxConcurrency <= 0) {
+            throw new IllegalArgumentException("Max concurrency must be > 0. You provided: " + maxConcurrency);
+        }
+        this.executorService = executorService;
+        this.maxConcurrency = maxConcurrency;
+    }
+
+    /**
+     * Creates an executor running each call in a new virtual thread when the JVM supports those,
+     * or in a cached thread pool otherwise.
+     */
+    public static BulkExecutor create(int maxConcurrency) {
+        return new BulkExecutor(newThreadPerTaskExecutor(), maxConcurrency);
+    }
+
+    /**
+     * Executes the operation for all items and waits for all of them to finish. An error in one call
+     * does not stop the others.
+     *
+     * @return results in the order of items.
+     * @throws RedmineException if the thread is interrupted while waiting. Calls which were not started yet are
+     *                          skipped in this case.
+     * @throws Error            first {@link Error} thrown by a call (e.g. {@link OutOfMemoryError}), after all calls
+     *                          finished. Errors are not reported as failed calls.
+     */
+    public <T, R> BulkResult<T, R> run(Collection<? extends T> items, Operation<? super T, ? extends R> operation)
+            throws RedmineException {
+        final List<T> input = new ArrayList<>(items);
+        final Object[] results = new Object[input.size()];
+        final Throwable[] errors = new Throwable[input.size()];
+        final Semaphore permits = new Semaphore(maxConcurrency);
+        final CountDownLatch done = new CountDownLatch(input.size());
+        try {
+            for (int i = 0; i < input.size(); i++) {
+                permits.acquire();
+                final int index = i;
+                try {
+                    executorService.execute(() -> {
+                        try {
+                            results[index] = operation.apply(input.get(index));
+                        } catch (Exception | Error e) {
+                            errors[index] = e;
+                        } finally {
+                            permits.release();
+                            done.countDown();
+                        }
+                    });
+                } catch (RejectedExecutionException e) {
+                    permits.release();
+                    throw e;
+                }
+            }
+            done.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RedmineException("Interrupted while running bulk operation", e);
+        }
+
+        for (Throwable error : errors) {
+            if (error instanceof Error) {
+                throw (Error) error;
+            }
+        }
+        final List<R> successful = new ArrayList<>();
+        final List<BulkResult.Failure<T>> failures = new ArrayList<>();
+        for (int i = 0; i < input.size(); i++) {
+            if (errors[i] == null) {
+                @SuppressWarnings("unchecked")
+                final R result = (R) results[i];
+                successful.add(result);
+            } else {
+                failures.add(new BulkResult.Failure<>(input.get(i), (Exception) errors[i]));
+            }
+        }
+        return new BulkResult<>(successful, failures);
+    }
+
+    /**
+     * Shuts down the executor service. Running calls are allowed to finish.
+     */
+    @Override
+    public void close() {
+        executorService.shutdown();
+    }
+
+    private static ExecutorService newThreadPerTaskExecutor() {
+        try {
+            // available since Java 21. the library is built for Java 11, so it is looked up at runtime.
+            return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+        } catch (ReflectiveOperationException e) {
+            logger.debug("Virtual threads are not available, using a cached thread pool");
+            return Executors.newCachedThreadPool();
+        }
+    }
+}
@@ -0,0 +1,106 @@
+package com.taskadapter.redmineapi;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Outcome of {@link BulkExecutor#run(java.util.Collection, BulkExecutor.Operation)}.
+ *
+ * @param <T> item type.
+ * @param <R> result type.
+ */
+public final class BulkResult<T, R> {
+    private final List<R> results;
+    private final List<Failure<T>> failures;
+    private Exception aggregateException;
+
+    BulkResult(List<R> results, List<Failure<T>> failures) {
+        this.results = Collections.unmodifiableList(results);
+        this.failures = Collections.unmodifiableList(failures);
+    }
+
+    /**
+     * @return results of successful calls, in the order of items. Failed calls are skipped.
+     */
+    public List<R> getResults() {
+        return results;
+    }
+
+    /**
+     * @return failed calls, in the order of items.
+     */
+    public List<Failure<T>> getFailures() {
+        return failures;
+    }
+
+    public boolean hasFailures() {
+        return !failures.isEmpty();
+    }
+
+    /**
+     * Throws the error of the first failed call, if any. Errors of other failed calls are added to it
+     * as suppressed exceptions. Every call throws the same exception.
+     */
+    public void throwIfFailed() throws RedmineException {
+        if (failures.isEmpty()) {
+            return;
+        }
+        final Exception aggregate = getAggregateException();
+        if (aggregate instanceof RedmineException) {
+            throw (RedmineException) aggregate;
+        }
+        throw (RuntimeException) aggregate;
+    }
+
+    /**
+     * @return RedmineException or RuntimeException.
+     */
+    private synchronized Exception getAggregateException() {
+        if (aggregateException == null) {
+            final Exception first = failures.get(0).getException();
+            for (int i = 1; i < failures.size(); i++) {
+                first.addSuppressed(failures.get(i).getException());
+            }
+            aggregateException = first instanceof RedmineException || first instanceof RuntimeException
+                    ? first : new RedmineException(first.getMessage(), first);
+        }
+        return aggregateException;
+    }
+
+    @Override
+    public String toString() {
+        return "BulkResult{" +
+                "results=" + results.size() +
+                ", failures=" + failures.size() +
+                '}';
+    }
+
+    /**
+     * Item whose call failed, with the error.
+     */
+    public static final class Failure<T> {
+        private final T item;
+        private final Exception exception;
+
+        Failure(T item, Exception exception) {
+            this.item = item;
+            this.exception = exception;
+        }
+
+        public T getItem() {
+            return item;
+        }
+
+        public Exception getException() {
+            return exception;
+        }
+
+        @Override
+        public String toString() {
+            return "Failure{" +
+                    "item=" + item +
+                    ", exception=" + exception +
+                    '}';
+        }
+    }
+}
@@ -0,0 +1,274 @@
+package com.taskadapter.redmineapi;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+/**
+ * Stops sending requests to a server which keeps failing, so that callers get an error at once instead of
+ * waiting for a timeout each.
+ * <pre>
+ CircuitBreaker breaker = new CircuitBreaker()
+         .setFailureRateThreshold(50)
+         .setSlowCallThreshold(80, 5, TimeUnit.SECONDS)
+         .setWaitInOpenState(1, TimeUnit.MINUTES)
+         .setStateListener((from, to) -&gt; log.warn("Redmine circuit breaker: " + from + " -&gt; " + to));
+ redmineManager.setCircuitBreaker(breaker);
+ * </pre>
+ * The breaker remembers outcomes of the last {@link #setSlidingWindowSize(int) N} requests. A request fails
+ * when it can't be sent or its response is not received (transport error) or when the server answers with
+ * a 5xx status. A request is slow when it takes longer than the configured duration.
+ * <ul>
+ * <li>{@link State#CLOSED}: requests are sent. When the failure rate or the slow call rate reaches its
+ * threshold (and at least the minimum number of requests was made), the breaker opens.</li>
+ * <li>{@link State#OPEN}: requests fail at once with {@link CircuitBreakerOpenException}. After the wait
+ * duration the breaker becomes half-open.</li>
+ * <li>{@link State#HALF_OPEN}: only a limited number of trial requests is sent, others fail at once.
+ * When all trial requests are complete, the breaker closes if their rates are below the thresholds,
+ * and opens again otherwise.</li>
+ * </ul>
+ * The breaker is thread-safe and can be shared by several RedmineManagers talking to the same server.
+ * Configure it before passing it to RedmineManager.
+ */
+public final class CircuitBreaker {
+
+    public enum State {
+        CLOSED, OPEN, HALF_OPEN
+    }
+
+    /**
+     * Is notified about state changes. Called by the thread which caused the change, must not block.
+     */
+    @FunctionalInterface
+    public interface StateListener {
+        void onStateChange(State from, State to);
+    }
+
+    private static final byte FAILED = 1;
+    private static final byte SLOW = 2;
+
+    private final LongSupplier clock;
+
+    private double failureRateThreshold = 50;
+    private double slowCallRateThreshold = 100;
+    private long slowCallDurationNanos = TimeUnit.SECONDS.toNanos(60);
+    private int minimumNumberOfCalls = 10;
+    private long waitInOpenStateNanos = TimeUnit.SECONDS.toNanos(30);
+    private int permittedCallsInHalfOpenState = 3;
+    private volatile StateListener stateListener = (from, to) -> {
+    };
+
+    private State state = State.CLOSED;
+    /**
+     * Increased on each state change, so that results of requests started in a previous state are ignored.
+     */
+    private long generation;
+    private long openedAtNanos;
+    private byte[] outcomes = new byte[100];
+    private int outcomeIndex;
+    private int recordedCalls;
+    private int failedCalls;
+    private int slowCalls;
+    private int trialCallsStarted;
+
+    public CircuitBreaker() {
+        this(System::nanoTime);
+    }
+
+    CircuitBreaker(LongSupplier clock) {
+        this.clock = clock;
+    }
+
+    /**
+     * @param percent the breaker opens when this percentage of requests fails. Default: 50.
+     */
+    public CircuitBreaker setFailureRateThreshold(double percent) {
+        checkPercent(percent);
+        this.failureRateThreshold = percent;
+        return this;
+    }
+
+    /**
+     * @param percent  the breaker opens when this percentage of requests is slow. Default: 100.
+     * @param duration requests taking this long or longer are slow. Default: 60 seconds.
+     */
+    public CircuitBreaker setSlowCallThreshold(double percent, long duration, TimeUnit unit) {
+        checkPercent(percent);
+        if (duration <= 0) {
+            throw new IllegalArgumentException("Slow call duration must be > 0. You provided: " + duration);
+        }
+        this.slowCallRateThreshold = percent;
+        this.slowCallDurationNanos = unit.toNanos(duration);
+        return this;
+    }
+
+    /**
+     * @param size number of last requests to compute rates from. Default: 100.
+     */
+    public synchronized CircuitBreaker setSlidingWindowSize(int size) {
+        if (size <= 0) {
+            throw new IllegalArgumentException("Sliding window size must be > 0. You provided: " + size);
+        }
+        this.outcomes = new byte[size];
+        resetWindow();
+        return this;
+    }
+
+    /**
+     * @param calls rates are not evaluated until this many requests were made. Default: 10.
+     */
+    public CircuitBreaker setMinimumNumberOfCalls(int calls) {
+        if (calls <= 0) {
+            throw new IllegalArgumentException("Minimum number of calls must be > 0. You provided: " + calls);
+        }
+        this.minimumNumberOfCalls = calls;
+        return this;
+    }
+
+    /**
+     * @param duration how long the breaker stays open before trial requests are allowed. Default: 30 seconds.
+     */
+    public CircuitBreaker setWaitInOpenState(long duration, TimeUnit unit) {
+        if (duration < 0) {
+            throw new IllegalArgumentException("Wait duration must be >= 0. You provided: " + duration);
+        }
+        this.waitInOpenStateNanos = unit.toNanos(duration);
+        return this;
+    }
+
+    /**
+     * @param calls number of trial requests in half-open state. Default: 3.
+     */
+    public CircuitBreaker setPermittedCallsInHalfOpenState(int calls) {
+        if (calls <= 0) {
+            throw new IllegalArgumentException("Permitted calls must be > 0. You provided: " + calls);
+        }
+        this.permittedCallsInHalfOpenState = calls;
+        return this;
+    }
+
+    public CircuitBreaker setStateListener(StateListener stateListener) {
+        this.stateListener = stateListener;
+        return this;
+    }
+
+    public synchronized State getState() {
+        return state;
+    }
+
+    /**
+     * Asks for a permission to send a request. Each permission must be followed by
+     * {@link #onComplete(long, long, boolean)}.
+     *
+     * @return permission to pass to {@link #onComplete(long, long, boolean)}.
+     * @throws CircuitBreakerOpenException if the request must not be sent.
+     */
+    public long acquirePermission() throws CircuitBreakerOpenException {
+        final long permission;
+        State changedFrom = null;
+        synchronized (this) {
+            if (state == State.OPEN && clock.getAsLong() - openedAtNanos >= waitInOpenStateNanos) {
+                changedFrom = state;
+                switchTo(State.HALF_OPEN);
+            }
+            if (state == State.OPEN
+                    || state == State.HALF_OPEN && trialCallsStarted >= permittedCallsInHalfOpenState) {
+                permission = -1;
+            } else {
+                if (state == State.HALF_OPEN) {
+                    trialCallsStarted++;
+                }
+                permission = generation;
+            }
+        }
+        if (changedFrom != null) {
+            stateListener.onStateChange(changedFrom, State.HALF_OPEN);
+        }
+        if (permission < 0) {
+            throw new CircuitBreakerOpenException("Circuit breaker is open, request was not sent");
+        }
+        return permission;
+    }
+
+    /**
+     * Records outcome of a request.
+     *
+     * @param permission     value returned by {@link #acquirePermission()}.
+     * @param durationNanos  how long the request took.
+     * @param failed         TRUE if the request failed.
+     */
+    public void onComplete(long permission, long durationNanos, boolean failed) {
+        final State from;
+        final State to;
+        synchronized (this) {
+            if (permission != generation) {
+                return;
+            }
+            from = state;
+            record((byte) ((failed ? FAILED : 0) | (durationNanos >= slowCallDurationNanos ? SLOW : 0)));
+            if (state == State.CLOSED && recordedCalls >= minimumNumberOfCalls && isOverThreshold()) {
+                switchTo(State.OPEN);
+            } else if (state == State.HALF_OPEN
+                    && recordedCalls >= Math.min(permittedCallsInHalfOpenState, outcomes.length)) {
+                switchTo(isOverThreshold() ? State.OPEN : State.CLOSED);
+            }
+            to = state;
+        }
+        if (from != to) {
+            stateListener.onStateChange(from, to);
+        }
+    }
+
+    private boolean isOverThreshold() {
+        return failedCalls * 100.0 / recordedCalls >= failureRateThreshold
+                || slowCalls * 100.0 / recordedCalls >= slowCallRateThreshold;
+    }
+
+    private void record(byte outcome) {
+        if (recordedCalls == outcomes.length) {
+            forget(outcomes[outcomeIndex]);
+        } else {
+            recordedCalls++;
+        }
+        outcomes[outcomeIndex] = outcome;
+        outcomeIndex = (outcomeIndex + 1) % outcomes.length;
+        if ((outcome & FAILED) != 0) {
+            failedCalls++;
+        }
+        if ((outcome & SLOW) != 0) {
+            slowCalls++;
+        }
+    }
+
+    private void forget(byte outcome) {
+        if ((outcome & FAILED) != 0) {
+            failedCalls--;
+        }
+        if ((outcome & SLOW) != 0) {
+            slowCalls--;
+        }
+    }
+
+    private void switchTo(State newState) {
+        state = newState;
+        generation++;
+        trialCallsStarted = 0;
+        if (newState == State.OPEN) {
+            openedAtNanos = clock.getAsLong();
+        }
+        resetWindow();
+    }
+
+    private void resetWindow() {
+        outcomeIndex = 0;
+        recordedCalls = 0;
+        failedCalls = 0;
+        slowCalls = 0;
+    }
+
+    private static void checkPercent(double percent) {
+        if (percent <= 0 || percent > 100) {
+            throw new IllegalArgumentException("Threshold must be between 0 (exclusive) and 100. You provided: "
+                    + percent);
+        }
+    }
+}
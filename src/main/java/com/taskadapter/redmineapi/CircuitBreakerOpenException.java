@@ -0,0 +1,12 @@
+package com.taskadapter.redmineapi;
+
+/**
+ * The request was not sent because the {@link CircuitBreaker} considers the server unhealthy.
+ */
+public class CircuitBreakerOpenException extends RedmineException {
+	private static final long serialVersionUID = -2916052860157418736L;
+
+	public CircuitBreakerOpenException(String message) {
+		super(message);
+	}
+}
@@ -6,20 +6,30 @@ import com.taskadapter.redmineapi.bean.IssuePriority;
 import com.taskadapter.redmineapi.bean.IssueRelation;
 import com.taskadapter.redmineapi.bean.IssueStatus;
 import com.taskadapter.redmineapi.bean.Project;
+import com.taskadapter.redmineapi.bean.Property;
 import com.taskadapter.redmineapi.bean.SavedQuery;
 import com.taskadapter.redmineapi.bean.Tracker;
 import com.taskadapter.redmineapi.bean.Watcher;
 import com.taskadapter.redmineapi.internal.DirectObjectsSearcher;
 import com.taskadapter.redmineapi.internal.Joiner;
+import com.taskadapter.redmineapi.internal.RedmineCallable;
+import com.taskadapter.redmineapi.internal.RedmineJSONParser;
 import com.taskadapter.redmineapi.internal.RequestParam;
 import com.taskadapter.redmineapi.internal.ResultsWrapper;
 import com.taskadapter.redmineapi.internal.Transport;
 
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.EnumSet;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.stream.Stream;
 
 /**
  * Works with Issues, Time Entries, Issue Statuses, Issue Relations.
@@ -38,6 +48,18 @@ import java.util.Set;
  * @see RedmineManager#getIssueManager()
  */
 public class IssueManager {
+    /**
+     * Max number of issue ids sent in one request by {@link #getIssuesByIds(Collection, Include...)}.
+     * This is the max page size of a default Redmine installation. 100 ids of up to 10 digits take about 1 KB
+     * of the URL (3 KB when commas are encoded), well below the usual 8 KB limit of web servers and proxies.
+     */
+    public static final int MAX_IDS_PER_REQUEST = 100;
+
+    /**
+     * Includes supported by the issues list. Others are silently ignored by Redmine there.
+     */
+    private static final Set<Include> LIST_INCLUDES = EnumSet.of(Include.relations, Include.attachments);
+
     private final Transport transport;
 
     IssueManager(Transport transport) {
@@ -111,6 +133,21 @@ public class IssueManager {
         return transport.getObjectsListNoPaging(Issue.class, parameters.getList());
     }
 
+    /**
+     * Same as {@link #getIssues(Params)}, but only the given properties (and the ID) are read from the response,
+     * all other issue properties stay unset. Use this for wide list queries when you only need a few fields:
+     * <pre>
+     ResultsWrapper&lt;Issue&gt; page = issueManager.getIssuesWithFields(params,
+             Issue.SUBJECT, Issue.STATUS_NAME, Issue.ASSIGNEE_NAME, Issue.UPDATED_ON);
+     * </pre>
+     *
+     * @param properties Issue properties, e.g. {@link Issue#SUBJECT}.
+     */
+    public ResultsWrapper<Issue> getIssuesWithFields(Params parameters, Property<?>... properties) throws RedmineException {
+        return transport.getObjectsListNoPaging(Issue.class, parameters.getList(),
+                RedmineJSONParser.issueProjection(Arrays.asList(properties)));
+    }
+
     /**
      * @param id      Redmine issue Id
      * @param include list of "includes". e.g. "relations", "journals", ...
@@ -125,6 +162,77 @@ public class IssueManager {
         return transport.getObject(Issue.class, id, new RequestParam("include", value));
     }
 
+    /**
+     * Loads many issues by their ids with as few requests as possible: ids are sent in "issue_id" filter,
+     * up to {@link #MAX_IDS_PER_REQUEST} ids per request. Requests run in parallel if an executor is configured
+     * in the transport (see {@link Transport#setExecutor(java.util.concurrent.Executor, int)}).
+     * <p>
+     * Closed issues are included. Issues which do not exist or are not visible to the current user are
+     * silently skipped: check the result map if you need to know which ones are missing.
+     *
+     * @param ids     issue ids. duplicates and NULLs are ignored.
+     * @param include list of "includes": only {@link Include#relations} and {@link Include#attachments} are
+     *                supported by the issues list. Use {@link #getIssueById(Integer, Include...)} for others.
+     * @return issues by id, in the order of the given ids. never NULL.
+     * @throws IllegalArgumentException if an include is not supported by the issues list.
+     */
+    public Map<Integer, Issue> getIssuesByIds(Collection<Integer> ids, Include... include) throws RedmineException {
+        for (Include value : include) {
+            if (!LIST_INCLUDES.contains(value)) {
+                throw new IllegalArgumentException("Include '" + value + "' is not supported by the issues list, "
+                        + "load these issues with getIssueById(). Supported includes: " + LIST_INCLUDES);
+            }
+        }
+        final List<List<Integer>> chunks = splitIds(ids);
+        final String includeStr = Joiner.join(",", include);
+        final List<RedmineCallable<List<Issue>>> calls = new ArrayList<>();
+        for (List<Integer> chunk : chunks) {
+            calls.add(() -> getIssuesChunk(chunk, includeStr));
+        }
+        final Map<Integer, Issue> found = new HashMap<>();
+        for (List<Issue> issues : transport.callAll(calls)) {
+            issues.forEach(issue -> found.put(issue.getId(), issue));
+        }
+        final Map<Integer, Issue> result = new LinkedHashMap<>();
+        for (List<Integer> chunk : chunks) {
+            for (Integer id : chunk) {
+                final Issue issue = found.get(id);
+                if (issue != null) {
+                    result.put(id, issue);
+                }
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Splits ids into groups small enough to fit into one request URL.
+     */
+    static List<List<Integer>> splitIds(Collection<Integer> ids) {
+        final List<List<Integer>> chunks = new ArrayList<>();
+        List<Integer> chunk = new ArrayList<>();
+        for (Integer id : new LinkedHashSet<>(ids)) {
+            if (id == null) {
+                continue;
+            }
+            if (chunk.size() == MAX_IDS_PER_REQUEST) {
+                chunks.add(chunk);
+                chunk = new ArrayList<>();
+            }
+            chunk.add(id);
+        }
+        if (!chunk.isEmpty()) {
+            chunks.add(chunk);
+        }
+        return chunks;
+    }
+
+    private List<Issue> getIssuesChunk(List<Integer> ids, String include) throws RedmineException {
+        return transport.getObjectsByIds(Issue.class, "issue_id", ids, Arrays.asList(
+                new RequestParam("status_id", "*"),
+                new RequestParam("include", include)));
+    }
+
     /**
      * DEPRECATED. use issue.addWatcher(..)
      */
@@ -178,6 +286,10 @@ public class IssueManager {
      * @see Issue
      */
     public List<Issue> getIssues(String projectKey, Integer queryId, Include... include) throws RedmineException {
+        return transport.getObjectsList(Issue.class, getIssuesParams(projectKey, queryId, include));
+    }
+
+    private static List<RequestParam> getIssuesParams(String projectKey, Integer queryId, Include... include) {
         List<RequestParam> params = new ArrayList<>();
         if (queryId != null) {
             params.add(new RequestParam("query_id", String.valueOf(queryId)));
@@ -188,8 +300,50 @@ public class IssueManager {
         }
         String includeStr = Joiner.join(",", include);
         params.add(new RequestParam("include", includeStr));
+        return params;
+    }
 
-        return transport.getObjectsList(Issue.class, params);
+    /**
+     * Same as {@link #getIssues(String, Integer, Include...)}, but loads the issues lazily: the next page is
+     * requested from the server only when the stream consumer reaches the end of the current page.
+     * Use this to process more issues than you want to keep in memory at once.
+     * <p>
+     * Server errors are thrown as {@link UncheckedRedmineException} while the stream is consumed.
+     *
+     * @param projectKey ignored if NULL
+     * @param queryId    id of the saved query in Redmine. NULL to get all available issues.
+     */
+    public Stream<Issue> streamIssues(String projectKey, Integer queryId, Include... include) {
+        return transport.streamObjects(Issue.class, getIssuesParams(projectKey, queryId, include));
+    }
+
+    /**
+     * Lazy version of {@link #getIssues(Params)} which handles paging for you.
+     * See {@link #streamIssues(String, Integer, Include...)}.
+     */
+    public Stream<Issue> streamIssues(Params parameters) {
+        return transport.streamObjects(Issue.class, parameters.getList());
+    }
+
+    /**
+     * Loads all issues found with the parameters into a column-oriented {@link IssueTable}, handling paging for you.
+     * Issues are added to the table while the responses are read, no Issue beans are created. Use this to aggregate
+     * large result sets, e.g. count issues by status.
+     */
+    public IssueTable getIssueTable(Params parameters) throws RedmineException {
+        final IssueTable table = new IssueTable();
+        transport.forEachJsonObject(Issue.class, parameters.getList(), IssueTable.getJsonFields(), table::add);
+        table.trimToSize();
+        return table;
+    }
+
+    /**
+     * Same as {@link #streamIssues(Params)}, but only the given properties (and the ID) are read from the responses.
+     * See {@link #getIssuesWithFields(Params, Property[])}.
+     */
+    public Stream<Issue> streamIssuesWithFields(Params parameters, Property<?>... properties) {
+        return transport.streamObjects(Issue.class, parameters.getList(),
+                RedmineJSONParser.issueProjection(Arrays.asList(properties)));
     }
 
     /**
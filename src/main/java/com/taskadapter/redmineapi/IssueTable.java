@@ -0,0 +1,462 @@
+package com.taskadapter.redmineapi;
+
+import com.taskadapter.redmineapi.internal.RedmineDateParser;
+import com.taskadapter.redmineapi.internal.json.JsonInput;
+import org.json.JSONException;
+import org.json.JSONObject;
+
+import java.text.ParseException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.IntPredicate;
+
+/**
+ * Column-oriented storage of many issues for reporting. Instead of one Issue bean per issue, every field is kept
+ * in a primitive array indexed by row: ints for IDs and done ratio, floats for hours, epoch milliseconds for dates.
+ * Names of projects, trackers, statuses etc. are dictionary-encoded: each distinct name is stored once and rows keep
+ * an int code. Filled directly from the list response with
+ * {@link IssueManager#getIssueTable(Params)}.
+ * <p>
+ * Missing values are {@link #NO_VALUE} for ints, {@link #NO_DATE} for dates, NaN for hours and NULL for strings.
+ * <p>
+ * Sample usage:
+ * <pre>
+ IssueTable table = issueManager.getIssueTable(new Params().add("status_id", "*"));
+ Map&lt;String, Integer&gt; perStatus = table.countBy(IssueTable.Dimension.STATUS);
+ IssueTable bugs = table.filter(table.where(IssueTable.Dimension.TRACKER, "Bug"));
+ Map&lt;String, Double&gt; hoursPerAssignee = bugs.sumBy(IssueTable.Dimension.ASSIGNEE,
+         IssueTable.Measure.SPENT_HOURS);
+ * </pre>
+ * Not thread-safe while being filled. Tables returned by {@link #filter(IntPredicate)} share name dictionaries
+ * with the original table.
+ */
+public final class IssueTable {
+
+    public static final int NO_VALUE = Integer.MIN_VALUE;
+    public static final long NO_DATE = Long.MIN_VALUE;
+
+    /**
+     * References to other objects, stored as ID plus dictionary-encoded name. Issues can be grouped by these.
+     */
+    public enum Dimension {
+        PROJECT("project"),
+        TRACKER("tracker"),
+        STATUS("status"),
+        PRIORITY("priority"),
+        ASSIGNEE("assigned_to"),
+        AUTHOR("author");
+
+        private final String jsonField;
+
+        Dimension(String jsonField) {
+            this.jsonField = jsonField;
+        }
+    }
+
+    /**
+     * Numeric columns which can be summed up by {@link #sumBy(Dimension, Measure)}.
+     */
+    public enum Measure {
+        ESTIMATED_HOURS,
+        SPENT_HOURS,
+        DONE_RATIO
+    }
+
+    private static final int INITIAL_CAPACITY = 64;
+    private static final Set<String> JSON_FIELDS;
+
+    static {
+        final Set<String> fields = new HashSet<>(Arrays.asList("id", "subject", "parent", "category", "fixed_version",
+                "done_ratio", "estimated_hours", "spent_hours",
+                "start_date", "due_date", "created_on", "updated_on", "closed_on"));
+        for (Dimension dimension : Dimension.values()) {
+            fields.add(dimension.jsonField);
+        }
+        JSON_FIELDS = Collections.unmodifiableSet(fields);
+    }
+
+    private final Dictionary[] dictionaries;
+    private int size;
+
+    private int[] ids;
+    private String[] subjects;
+    private int[] parentIds;
+    private int[] categoryIds;
+    private int[] targetVersionIds;
+    private int[] doneRatios;
+    private float[] estimatedHours;
+    private float[] spentHours;
+    private long[] startDates;
+    private long[] dueDates;
+    private long[] createdOn;
+    private long[] updatedOn;
+    private long[] closedOn;
+    private final int[][] dimensionIds = new int[Dimension.values().length][];
+    private final int[][] dimensionCodes = new int[Dimension.values().length][];
+
+    IssueTable() {
+        this(newDictionaries(), INITIAL_CAPACITY);
+    }
+
+    private IssueTable(Dictionary[] dictionaries, int capacity) {
+        this.dictionaries = dictionaries;
+        allocate(Math.max(capacity, 1));
+    }
+
+    private static Dictionary[] newDictionaries() {
+        final Dictionary[] result = new Dictionary[Dimension.values().length];
+        for (int i = 0; i < result.length; i++) {
+            result[i] = new Dictionary();
+        }
+        return result;
+    }
+
+    /**
+     * @return top-level fields of issue JSON objects used by the table. Other fields can be skipped while reading.
+     */
+    static Set<String> getJsonFields() {
+        return JSON_FIELDS;
+    }
+
+    /**
+     * Adds a row with the fields of an issue JSON object, as sent by Redmine.
+     */
+    void add(JSONObject issue) throws JSONException {
+        if (size == ids.length) {
+            allocate(Math.max(INITIAL_CAPACITY, size + (size >> 1)));
+        }
+        final int row = size;
+        ids[row] = intOrNone(issue, "id");
+        subjects[row] = JsonInput.getStringOrNull(issue, "subject");
+        parentIds[row] = referenceId(issue, "parent");
+        categoryIds[row] = referenceId(issue, "category");
+        targetVersionIds[row] = referenceId(issue, "fixed_version");
+        doneRatios[row] = intOrNone(issue, "done_ratio");
+        estimatedHours[row] = floatOrNaN(issue, "estimated_hours");
+        spentHours[row] = floatOrNaN(issue, "spent_hours");
+        startDates[row] = dateOrNone(issue, "start_date");
+        dueDates[row] = dateOrNone(issue, "due_date");
+        createdOn[row] = dateOrNone(issue, "created_on");
+        updatedOn[row] = dateOrNone(issue, "updated_on");
+        closedOn[row] = dateOrNone(issue, "closed_on");
+        for (Dimension dimension : Dimension.values()) {
+            final int d = dimension.ordinal();
+            final JSONObject reference = JsonInput.getObjectOrNull(issue, dimension.jsonField);
+            if (reference == null) {
+                dimensionIds[d][row] = NO_VALUE;
+                dimensionCodes[d][row] = Dictionary.NONE;
+            } else {
+                dimensionIds[d][row] = intOrNone(reference, "id");
+                dimensionCodes[d][row] = dictionaries[d].encode(JsonInput.getStringOrNull(reference, "name"));
+            }
+        }
+        size++;
+    }
+
+    /**
+     * Releases unused capacity once the table is filled.
+     */
+    void trimToSize() {
+        if (size < ids.length) {
+            allocate(size);
+        }
+    }
+
+    private void allocate(int capacity) {
+        ids = ids == null ? new int[capacity] : Arrays.copyOf(ids, capacity);
+        subjects = subjects == null ? new String[capacity] : Arrays.copyOf(subjects, capacity);
+        parentIds = parentIds == null ? new int[capacity] : Arrays.copyOf(parentIds, capacity);
+        categoryIds = categoryIds == null ? new int[capacity] : Arrays.copyOf(categoryIds, capacity);
+        targetVersionIds = targetVersionIds == null ? new int[capacity] : Arrays.copyOf(targetVersionIds, capacity);
+        doneRatios = doneRatios == null ? new int[capacity] : Arrays.copyOf(doneRatios, capacity);
+        estimatedHours = estimatedHours == null ? new float[capacity] : Arrays.copyOf(estimatedHours, capacity);
+        spentHours = spentHours == null ? new float[capacity] : Arrays.copyOf(spentHours, capacity);
+        startDates = startDates == null ? new long[capacity] : Arrays.copyOf(startDates, capacity);
+        dueDates = dueDates == null ? new long[capacity] : Arrays.copyOf(dueDates, capacity);
+        createdOn = createdOn == null ? new long[capacity] : Arrays.copyOf(createdOn, capacity);
+        updatedOn = updatedOn == null ? new long[capacity] : Arrays.copyOf(updatedOn, capacity);
+        closedOn = closedOn == null ? new long[capacity] : Arrays.copyOf(closedOn, capacity);
+        for (int d = 0; d < dimensionIds.length; d++) {
+            dimensionIds[d] = dimensionIds[d] == null ? new int[capacity] : Arrays.copyOf(dimensionIds[d], capacity);
+            dimensionCodes[d] = dimensionCodes[d] == null ? new int[capacity]
+                    : Arrays.copyOf(dimensionCodes[d], capacity);
+        }
+    }
+
+    /**
+     * @return number of rows (issues).
+     */
+    public int size() {
+        return size;
+    }
+
+    public int getId(int row) {
+        return ids[checkRow(row)];
+    }
+
+    public String getSubject(int row) {
+        return subjects[checkRow(row)];
+    }
+
+    public int getParentId(int row) {
+        return parentIds[checkRow(row)];
+    }
+
+    public int getCategoryId(int row) {
+        return categoryIds[checkRow(row)];
+    }
+
+    public int getTargetVersionId(int row) {
+        return targetVersionIds[checkRow(row)];
+    }
+
+    public int getDoneRatio(int row) {
+        return doneRatios[checkRow(row)];
+    }
+
+    public float getEstimatedHours(int row) {
+        return estimatedHours[checkRow(row)];
+    }
+
+    public float getSpentHours(int row) {
+        return spentHours[checkRow(row)];
+    }
+
+    /**
+     * @return milliseconds since the epoch or {@link #NO_DATE}.
+     */
+    public long getStartDate(int row) {
+        return startDates[checkRow(row)];
+    }
+
+    public long getDueDate(int row) {
+        return dueDates[checkRow(row)];
+    }
+
+    public long getCreatedOn(int row) {
+        return createdOn[checkRow(row)];
+    }
+
+    public long getUpdatedOn(int row) {
+        return updatedOn[checkRow(row)];
+    }
+
+    public long getClosedOn(int row) {
+        return closedOn[checkRow(row)];
+    }
+
+    /**
+     * @return ID of the referenced object (e.g. status ID) or {@link #NO_VALUE}.
+     */
+    public int getId(Dimension dimension, int row) {
+        return dimensionIds[dimension.ordinal()][checkRow(row)];
+    }
+
+    /**
+     * @return name of the referenced object (e.g. status name) or NULL.
+     */
+    public String getName(Dimension dimension, int row) {
+        final int d = dimension.ordinal();
+        return dictionaries[d].decode(dimensionCodes[d][checkRow(row)]);
+    }
+
+    /**
+     * @return number of rows per name of the dimension, in the order names were first seen.
+     * Rows without a value are counted under NULL key.
+     */
+    public Map<String, Integer> countBy(Dimension dimension) {
+        final int d = dimension.ordinal();
+        final Dictionary dictionary = dictionaries[d];
+        final int[] codes = dimensionCodes[d];
+        // slot 0 is for rows without a value
+        final int[] counts = new int[dictionary.size() + 1];
+        for (int row = 0; row < size; row++) {
+            counts[codes[row] + 1]++;
+        }
+        final Map<String, Integer> result = new LinkedHashMap<>();
+        for (int slot = 0; slot < counts.length; slot++) {
+            if (counts[slot] > 0) {
+                result.put(dictionary.decode(slot - 1), counts[slot]);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * @return sum of the measure per name of the dimension, in the order names were first seen.
+     * Missing values are skipped. Rows without a dimension value are summed under NULL key.
+     */
+    public Map<String, Double> sumBy(Dimension dimension, Measure measure) {
+        final int d = dimension.ordinal();
+        final Dictionary dictionary = dictionaries[d];
+        final int[] codes = dimensionCodes[d];
+        final double[] sums = new double[dictionary.size() + 1];
+        final boolean[] present = new boolean[sums.length];
+        for (int row = 0; row < size; row++) {
+            final double value = measure(measure, row);
+            if (!Double.isNaN(value)) {
+                sums[codes[row] + 1] += value;
+                present[codes[row] + 1] = true;
+            }
+        }
+        final Map<String, Double> result = new LinkedHashMap<>();
+        for (int slot = 0; slot < sums.length; slot++) {
+            if (present[slot]) {
+                result.put(dictionary.decode(slot - 1), sums[slot]);
+            }
+        }
+        return result;
+    }
+
+    private double measure(Measure measure, int row) {
+        switch (measure) {
+            case ESTIMATED_HOURS:
+                return estimatedHours[row];
+            case SPENT_HOURS:
+                return spentHours[row];
+            case DONE_RATIO:
+                return doneRatios[row] == NO_VALUE ? Double.NaN : doneRatios[row];
+            default:
+                throw new IllegalArgumentException("Unknown measure " + measure);
+        }
+    }
+
+    /**
+     * @return row filter matching rows with the given name, e.g. {@code where(Dimension.STATUS, "New")}.
+     * The name is resolved once, rows are compared by their int code.
+     */
+    public IntPredicate where(Dimension dimension, String name) {
+        final int d = dimension.ordinal();
+        final int code = name == null ? Dictionary.NONE : dictionaries[d].codeOf(name);
+        if (code == Dictionary.UNKNOWN) {
+            return row -> false;
+        }
+        return row -> dimensionCodes[d][row] == code;
+    }
+
+    /**
+     * @return row filter matching rows referencing the object with the given ID.
+     */
+    public IntPredicate whereId(Dimension dimension, int id) {
+        final int d = dimension.ordinal();
+        return row -> dimensionIds[d][row] == id;
+    }
+
+    /**
+     * @return new table with the rows accepted by the filter, in the same order.
+     */
+    public IssueTable filter(IntPredicate rowFilter) {
+        final int[] rows = new int[size];
+        int count = 0;
+        for (int row = 0; row < size; row++) {
+            if (rowFilter.test(row)) {
+                rows[count++] = row;
+            }
+        }
+        final IssueTable result = new IssueTable(dictionaries, count);
+        for (int i = 0; i < count; i++) {
+            result.copyRow(this, rows[i]);
+        }
+        return result;
+    }
+
+    private void copyRow(IssueTable source, int row) {
+        final int target = size;
+        ids[target] = source.ids[row];
+        subjects[target] = source.subjects[row];
+        parentIds[target] = source.parentIds[row];
+        categoryIds[target] = source.categoryIds[row];
+        targetVersionIds[target] = source.targetVersionIds[row];
+        doneRatios[target] = source.doneRatios[row];
+        estimatedHours[target] = source.estimatedHours[row];
+        spentHours[target] = source.spentHours[row];
+        startDates[target] = source.startDates[row];
+        dueDates[target] = source.dueDates[row];
+        createdOn[target] = source.createdOn[row];
+        updatedOn[target] = source.updatedOn[row];
+        closedOn[target] = source.closedOn[row];
+        for (int d = 0; d < dimensionIds.length; d++) {
+            dimensionIds[d][target] = source.dimensionIds[d][row];
+            dimensionCodes[d][target] = source.dimensionCodes[d][row];
+        }
+        size++;
+    }
+
+    private int checkRow(int row) {
+        if (row < 0 || row >= size) {
+            throw new IndexOutOfBoundsException("Row " + row + " out of " + size);
+        }
+        return row;
+    }
+
+    private static int intOrNone(JSONObject obj, String field) throws JSONException {
+        final Integer value = JsonInput.getIntOrNull(obj, field);
+        return value == null ? NO_VALUE : value;
+    }
+
+    private static float floatOrNaN(JSONObject obj, String field) throws JSONException {
+        final Float value = JsonInput.getFloatOrNull(obj, field);
+        return value == null ? Float.NaN : value;
+    }
+
+    private static int referenceId(JSONObject obj, String field) throws JSONException {
+        final JSONObject reference = JsonInput.getObjectOrNull(obj, field);
+        return reference == null ? NO_VALUE : intOrNone(reference, "id");
+    }
+
+    private static long dateOrNone(JSONObject obj, String field) throws JSONException {
+        final String value = JsonInput.getStringOrNull(obj, field);
+        if (value == null) {
+            return NO_DATE;
+        }
+        try {
+            return RedmineDateParser.parseMillis(value);
+        } catch (ParseException e) {
+            throw new JSONException("Cannot parse this date: " + value);
+        }
+    }
+
+    /**
+     * Distinct strings of one column. Codes are positions in the value list, never change and are shared
+     * by filtered copies of the table.
+     */
+    private static final class Dictionary {
+        static final int NONE = -1;
+        static final int UNKNOWN = -2;
+
+        private final Map<String, Integer> codes = new HashMap<>();
+        private final List<String> values = new ArrayList<>();
+
+        int encode(String value) {
+            if (value == null) {
+                return NONE;
+            }
+            final Integer code = codes.get(value);
+            if (code != null) {
+                return code;
+            }
+            values.add(value);
+            codes.put(value, values.size() - 1);
+            return values.size() - 1;
+        }
+
+        int codeOf(String value) {
+            return codes.getOrDefault(value, UNKNOWN);
+        }
+
+        String decode(int code) {
+            return code == NONE ? null : values.get(code);
+        }
+
+        int size() {
+            return values.size();
+        }
+    }
+}
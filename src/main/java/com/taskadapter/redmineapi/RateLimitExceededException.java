@@ -0,0 +1,13 @@
+package com.taskadapter.redmineapi;
+
+/**
+ * The request was not sent because the client-side {@link RateLimiter} has no permits left
+ * and is configured to fail fast.
+ */
+public class RateLimitExceededException extends RedmineException {
+	private static final long serialVersionUID = 4283470951326459571L;
+
+	public RateLimitExceededException(String message) {
+		super(message);
+	}
+}
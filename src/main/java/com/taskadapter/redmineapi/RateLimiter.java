@@ -0,0 +1,123 @@
+package com.taskadapter.redmineapi;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+/**
+ * Token bucket limiting the rate of requests sent to the server. The bucket holds up to "burst" permits and is
+ * refilled at "permits per second" rate, each request takes one permit.
+ * <pre>
+ // 5 requests per second on average, up to 10 at once; writes are limited separately
+ redmineManager.setRateLimiters(new RateLimiter(5, 10), new RateLimiter(1, 2).setFailFast(true));
+ * </pre>
+ * When no permit is available, the calling thread waits for one (default) or gets
+ * {@link RateLimitExceededException} if the limiter is set to fail fast. Waiting threads are served
+ * in the order they came. The limiter is thread-safe and can be shared by several RedmineManagers
+ * which talk to the same server.
+ */
+public final class RateLimiter {
+    private final double permitsPerNano;
+    private final double burst;
+    private final LongSupplier clock;
+    private final Sleeper sleeper;
+    private volatile boolean failFast;
+
+    /**
+     * Free permits. Goes below zero when blocked callers reserved permits which are not refilled yet.
+     */
+    private double permits;
+    private long lastRefillNanos;
+
+    /**
+     * Waits until a reserved permit can be used.
+     */
+    interface Sleeper {
+        void sleep(long nanos) throws InterruptedException;
+    }
+
+    /**
+     * @param permitsPerSecond average number of requests per second.
+     * @param burst            max number of requests which can be sent at once after a quiet period.
+     */
+    public RateLimiter(double permitsPerSecond, int burst) {
+        this(permitsPerSecond, burst, System::nanoTime, TimeUnit.NANOSECONDS::sleep);
+    }
+
+    RateLimiter(double permitsPerSecond, int burst, LongSupplier clock, Sleeper sleeper) {
+        if (!(permitsPerSecond > 0) || burst <= 0) {
+            throw new IllegalArgumentException("Permits per second and burst must be > 0. You provided: permitsPerSecond="
+                    + permitsPerSecond + ", burst=" + burst);
+        }
+        this.permitsPerNano = permitsPerSecond / TimeUnit.SECONDS.toNanos(1);
+        this.burst = burst;
+        this.clock = clock;
+        this.sleeper = sleeper;
+        this.permits = burst;
+        this.lastRefillNanos = clock.getAsLong();
+    }
+
+    /**
+     * @param failFast TRUE to throw {@link RateLimitExceededException} instead of waiting for a permit.
+     */
+    public RateLimiter setFailFast(boolean failFast) {
+        this.failFast = failFast;
+        return this;
+    }
+
+    public boolean isFailFast() {
+        return failFast;
+    }
+
+    /**
+     * Takes a permit, waiting for it if necessary.
+     *
+     * @param description what the permit is for, used in the error message.
+     * @throws RateLimitExceededException if there are no free permits and the limiter fails fast.
+     * @throws RedmineException           if the thread was interrupted while waiting.
+     */
+    public void acquire(String description) throws RedmineException {
+        final long waitNanos = reserve();
+        if (waitNanos < 0) {
+            throw new RateLimitExceededException("Client-side rate limit exceeded, request was not sent: " + description);
+        }
+        if (waitNanos > 0) {
+            try {
+                sleeper.sleep(waitNanos);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new RedmineException("Interrupted while waiting for rate limiter: " + description, e);
+            }
+        }
+    }
+
+    /**
+     * @return number of free permits now.
+     */
+    public synchronized double getAvailablePermits() {
+        refill();
+        return Math.max(0, permits);
+    }
+
+    /**
+     * @return nanoseconds to wait before the reserved permit may be used, or -1 if failing fast.
+     */
+    private synchronized long reserve() {
+        refill();
+        if (permits >= 1) {
+            permits -= 1;
+            return 0;
+        }
+        if (failFast) {
+            return -1;
+        }
+        final long waitNanos = (long) Math.ceil((1 - permits) / permitsPerNano);
+        permits -= 1;
+        return waitNanos;
+    }
+
+    private void refill() {
+        final long now = clock.getAsLong();
+        permits = Math.min(burst, permits + (now - lastRefillNanos) * permitsPerNano);
+        lastRefillNanos = now;
+    }
+}
@@ -16,7 +16,9 @@
 
 package com.taskadapter.redmineapi;
 
+import com.taskadapter.redmineapi.internal.ConditionalGetCache;
 import com.taskadapter.redmineapi.internal.Transport;
+import com.taskadapter.redmineapi.metrics.TransportMetrics;
 
 /**
  * Wrapper to hold all manager classes.
@@ -118,6 +120,64 @@ public class RedmineManager {
         transport.setOnBehalfOfUser(loginName);
     }
 
+    /**
+     * Enables in-memory caching of rarely changing lists, like issue statuses and trackers.
+     * NULL disables caching (default).
+     *
+     * @see ReferenceDataCache
+     */
+    public void setReferenceDataCache(ReferenceDataCache cache) {
+        transport.setReferenceDataCache(cache);
+    }
+
+    /**
+     * Enables conditional GET requests ("If-None-Match", "If-Modified-Since") for single objects like a project,
+     * a version or an issue. Objects which did not change on the server are not downloaded again.
+     * NULL disables conditional requests (default).
+     */
+    public void setConditionalGetCache(ConditionalGetCache cache) {
+        transport.setConditionalGetCache(cache);
+    }
+
+    /**
+     * Failed requests (e.g. while the server restarts) are sent again as the policy says.
+     * NULL disables retries (default).
+     *
+     * @see RetryPolicy
+     */
+    public void setRetryPolicy(RetryPolicy policy) {
+        transport.setRetryPolicy(policy);
+    }
+
+    /**
+     * Limits the rate of requests sent to the server, separately for reads and writes.
+     * NULL means no limit (default).
+     *
+     * @see RateLimiter
+     */
+    public void setRateLimiters(RateLimiter readLimiter, RateLimiter writeLimiter) {
+        transport.setRateLimiters(readLimiter, writeLimiter);
+    }
+
+    /**
+     * Stops sending requests while the server keeps failing. NULL disables the breaker (default).
+     *
+     * @see CircuitBreaker
+     */
+    public void setCircuitBreaker(CircuitBreaker breaker) {
+        transport.setCircuitBreaker(breaker);
+    }
+
+    /**
+     * Reports latencies of request phases, transferred bytes and errors to the given metrics.
+     * NULL disables measuring (default).
+     *
+     * @see com.taskadapter.redmineapi.metrics.InMemoryTransportMetrics
+     */
+    public void setMetrics(TransportMetrics metrics) {
+        transport.setMetrics(metrics);
+    }
+
     public Transport getTransport() {
         return transport;
     }
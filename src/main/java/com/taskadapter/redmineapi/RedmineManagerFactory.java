@@ -4,6 +4,7 @@ import com.taskadapter.redmineapi.internal.Transport;
 import com.taskadapter.redmineapi.internal.URIConfigurator;
 import com.taskadapter.redmineapi.internal.comm.BaseCommunicator;
 import com.taskadapter.redmineapi.internal.comm.Communicator;
+import com.taskadapter.redmineapi.internal.comm.EvictingConnectionManager;
 import com.taskadapter.redmineapi.internal.comm.betterssl.BetterSSLFactory;
 import com.taskadapter.redmineapi.internal.comm.naivessl.NaiveSSLFactory;
 import com.taskadapter.redmineapi.internal.comm.redmine.RedmineApiKeyAuthenticator;
@@ -20,7 +21,6 @@ import org.apache.http.conn.scheme.Scheme;
 import org.apache.http.conn.scheme.SchemeRegistry;
 import org.apache.http.conn.ssl.SSLSocketFactory;
 import org.apache.http.impl.client.DefaultHttpClient;
-import org.apache.http.impl.conn.BasicClientConnectionManager;
 import org.apache.http.params.BasicHttpParams;
 import org.apache.http.params.HttpParams;
 import org.apache.http.params.HttpProtocolParams;
@@ -35,6 +35,7 @@ import java.security.KeyStore;
 import java.security.KeyStoreException;
 import java.util.Collection;
 import java.util.List;
+import java.util.concurrent.TimeUnit;
 
 /**
  * <strong>Entry point</strong> for the API. Use this class to communicate with Redmine servers.
@@ -56,6 +57,21 @@ import java.util.List;
 public final class RedmineManagerFactory {
     private static final String DEFAULT_USER_PASSWORD_AUTHENTICATOR_CHARSET = "UTF-8";
 
+    /**
+     * Max number of pooled connections, see {@link #createConnectionManager(SSLSocketFactory)}.
+     */
+    public static final int DEFAULT_MAX_CONNECTIONS_TOTAL = 50;
+
+    /**
+     * Max number of pooled connections to one Redmine host.
+     */
+    public static final int DEFAULT_MAX_CONNECTIONS_PER_ROUTE = 20;
+
+    /**
+     * Pooled connections idle for longer than this number of seconds are closed.
+     */
+    public static final long DEFAULT_IDLE_CONNECTION_TIMEOUT_SECONDS = 30;
+
     /**
      * Prevent construction of this object even with use of dirty tricks.
      */
@@ -246,11 +262,35 @@ public final class RedmineManagerFactory {
         return createConnectionManager(SSLSocketFactory.getSystemSocketFactory());
     }
 
+    /**
+     * Creates a thread-safe pooling connection manager with default limits: {@value #DEFAULT_MAX_CONNECTIONS_TOTAL}
+     * connections total, {@value #DEFAULT_MAX_CONNECTIONS_PER_ROUTE} per host. Connections are reused
+     * (keep-alive) and closed after {@value #DEFAULT_IDLE_CONNECTION_TIMEOUT_SECONDS} seconds of inactivity.
+     * <p>
+     * An HttpClient using this manager can be shared by many threads, so one RedmineManager instance can serve
+     * concurrent callers.
+     */
     public static ClientConnectionManager createConnectionManager(SSLSocketFactory sslSocketFactory) {
+        return createConnectionManager(sslSocketFactory, DEFAULT_MAX_CONNECTIONS_TOTAL,
+                DEFAULT_MAX_CONNECTIONS_PER_ROUTE, DEFAULT_IDLE_CONNECTION_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+    }
+
+    /**
+     * Creates a thread-safe pooling connection manager.
+     *
+     * @param sslSocketFactory socket factory for "https" scheme.
+     * @param maxTotal         max number of connections in the pool.
+     * @param maxPerRoute      max number of connections to one host.
+     * @param idleTimeout      connections idle for longer than this are closed.
+     * @param idleTimeoutUnit  time unit for idleTimeout.
+     */
+    public static ClientConnectionManager createConnectionManager(SSLSocketFactory sslSocketFactory,
+                                                                  int maxTotal, int maxPerRoute,
+                                                                  long idleTimeout, TimeUnit idleTimeoutUnit) {
         SchemeRegistry registry = new SchemeRegistry();
         registry.register(new Scheme("http", 80, PlainSocketFactory.getSocketFactory()));
         registry.register(new Scheme("https", 443, sslSocketFactory));
-        return new BasicClientConnectionManager(registry);
+        return new EvictingConnectionManager(registry, maxTotal, maxPerRoute, idleTimeout, idleTimeoutUnit);
     }
 
     public static HttpClient createDefaultHttpClient(String uri) {
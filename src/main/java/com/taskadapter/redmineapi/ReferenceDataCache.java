@@ -0,0 +1,175 @@
+package com.taskadapter.redmineapi;
+
+import com.taskadapter.redmineapi.bean.CustomFieldDefinition;
+import com.taskadapter.redmineapi.bean.IssuePriority;
+import com.taskadapter.redmineapi.bean.IssueStatus;
+import com.taskadapter.redmineapi.bean.Role;
+import com.taskadapter.redmineapi.bean.TimeEntryActivity;
+import com.taskadapter.redmineapi.bean.Tracker;
+import com.taskadapter.redmineapi.internal.RedmineCallable;
+import com.taskadapter.redmineapi.internal.RequestParam;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * Keeps lists of rarely changing objects (issue statuses, trackers, priorities, time entry activities, roles,
+ * custom field definitions) in memory, so that they are not requested from the server every time.
+ * Lists are cached per object class and request parameters, for the configured time.
+ * <pre>
+ ReferenceDataCache cache = new ReferenceDataCache()
+         .setTimeToLive(IssueStatus.class, 1, TimeUnit.HOURS)
+         .setTimeToLive(Version.class, 5, TimeUnit.MINUTES);
+ redmineManager.setReferenceDataCache(cache);
+ * </pre>
+ * By default the classes listed above are cached for {@link #DEFAULT_TIME_TO_LIVE_MINUTES} minutes,
+ * other classes are not cached. The cache is thread-safe and can be shared by several RedmineManagers
+ * connected to the same server with the same user.
+ * <p>
+ * Cached objects are shared between callers, do not modify them.
+ */
+public final class ReferenceDataCache {
+    public static final long DEFAULT_TIME_TO_LIVE_MINUTES = 10;
+
+    private final Map<Class<?>, Long> timeToLiveNanos = new ConcurrentHashMap<>();
+    private final Map<Key, Entry> entries = new ConcurrentHashMap<>();
+    private final Map<Class<?>, AtomicLong> hits = new ConcurrentHashMap<>();
+    private final Map<Class<?>, AtomicLong> misses = new ConcurrentHashMap<>();
+    private final LongSupplier clock;
+
+    public ReferenceDataCache() {
+        this(System::nanoTime);
+    }
+
+    ReferenceDataCache(LongSupplier clock) {
+        this.clock = clock;
+        final long defaultTtl = TimeUnit.MINUTES.toNanos(DEFAULT_TIME_TO_LIVE_MINUTES);
+        for (Class<?> objectClass : List.of(IssueStatus.class, Tracker.class, IssuePriority.class,
+                TimeEntryActivity.class, Role.class, CustomFieldDefinition.class)) {
+            timeToLiveNanos.put(objectClass, defaultTtl);
+        }
+    }
+
+    /**
+     * Sets how long lists of the given objects are kept. 0 disables caching for this class.
+     */
+    public ReferenceDataCache setTimeToLive(Class<?> objectClass, long timeToLive, TimeUnit unit) {
+        if (timeToLive < 0) {
+            throw new IllegalArgumentException("Time to live must be >= 0. You provided: " + timeToLive);
+        }
+        if (timeToLive == 0) {
+            timeToLiveNanos.remove(objectClass);
+            invalidate(objectClass);
+        } else {
+            timeToLiveNanos.put(objectClass, unit.toNanos(timeToLive));
+        }
+        return this;
+    }
+
+    public boolean isCached(Class<?> objectClass) {
+        return timeToLiveNanos.containsKey(objectClass);
+    }
+
+    /**
+     * Returns the cached list or loads it with the loader if there is no fresh list in the cache.
+     * Errors are not cached.
+     *
+     * @return a new list with cached objects.
+     */
+    public <T> List<T> get(Class<T> objectClass, Collection<? extends RequestParam> params,
+                           RedmineCallable<List<T>> loader) throws RedmineException {
+        final Long timeToLive = timeToLiveNanos.get(objectClass);
+        if (timeToLive == null) {
+            return loader.call();
+        }
+        final Key key = new Key(objectClass, new ArrayList<>(params));
+        final Entry cached = entries.get(key);
+        final long now = clock.getAsLong();
+        if (cached != null && now - cached.loadedAt < timeToLive) {
+            counter(hits, objectClass).incrementAndGet();
+            @SuppressWarnings("unchecked")
+            final List<T> objects = (List<T>) cached.objects;
+            return new ArrayList<>(objects);
+        }
+        counter(misses, objectClass).incrementAndGet();
+        final List<T> loaded = loader.call();
+        entries.put(key, new Entry(new ArrayList<>(loaded), now));
+        return loaded;
+    }
+
+    /**
+     * Removes all cached lists of the given objects, e.g. after you changed them on the server.
+     */
+    public void invalidate(Class<?> objectClass) {
+        entries.keySet().removeIf(key -> key.objectClass.equals(objectClass));
+    }
+
+    public void invalidateAll() {
+        entries.clear();
+    }
+
+    public long getHitCount() {
+        return sum(hits);
+    }
+
+    public long getMissCount() {
+        return sum(misses);
+    }
+
+    public long getHitCount(Class<?> objectClass) {
+        return counter(hits, objectClass).get();
+    }
+
+    public long getMissCount(Class<?> objectClass) {
+        return counter(misses, objectClass).get();
+    }
+
+    private static AtomicLong counter(Map<Class<?>, AtomicLong> counters, Class<?> objectClass) {
+        return counters.computeIfAbsent(objectClass, c -> new AtomicLong());
+    }
+
+    private static long sum(Map<Class<?>, AtomicLong> counters) {
+        return counters.values().stream().mapToLong(AtomicLong::get).sum();
+    }
+
+    private static final class Entry {
+        private final List<?> objects;
+        private final long loadedAt;
+
+        Entry(List<?> objects, long loadedAt) {
+            this.objects = objects;
+            this.loadedAt = loadedAt;
+        }
+    }
+
+    private static final class Key {
+        private final Class<?> objectClass;
+        private final List<RequestParam> params;
+
+        Key(Class<?> objectClass, List<RequestParam> params) {
+            this.objectClass = objectClass;
+            this.params = params;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (o == null || getClass() != o.getClass()) return false;
+            Key key = (Key) o;
+            return objectClass.equals(key.objectClass) &&
+                    params.equals(key.params);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(objectClass, params);
+        }
+    }
+}
@@ -0,0 +1,149 @@
+package com.taskadapter.redmineapi;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
+
+/**
+ * Says which failed requests are sent again and how long to wait before that.
+ * <pre>
+ RetryPolicy policy = new RetryPolicy()
+         .setMaxAttempts(5)
+         .setBackoff(1, 60, TimeUnit.SECONDS);
+ redmineManager.setRetryPolicy(policy);
+ * </pre>
+ * Defaults: 3 attempts; waiting 500 ms before the first retry, twice as long before each next one, at most
+ * 30 seconds; up to half of each delay is taken off randomly (jitter), so that many clients do not come back
+ * at the same moment. Transport errors (e.g. connection refused) and HTTP statuses 429, 502, 503 and 504
+ * are retried. "Retry-After" response header is respected.
+ * <p>
+ * Only idempotent requests (GET, HEAD, OPTIONS, PUT, DELETE) are retried by default: when a POST fails
+ * with a transport error, we can't know if the server already created the object.
+ * Note that updating an issue with notes twice adds the notes twice, remove PUT from the methods
+ * if that matters to you.
+ * <p>
+ * Configure the policy before passing it to RedmineManager, it must not be changed after that.
+ */
+public final class RetryPolicy {
+    private int maxAttempts = 3;
+    private long initialBackoffMillis = 500;
+    private long maxBackoffMillis = 30_000;
+    private double multiplier = 2;
+    private double jitter = 0.5;
+    private boolean respectRetryAfter = true;
+    private Set<Integer> retryableStatusCodes = new HashSet<>(Arrays.asList(429, 502, 503, 504));
+    private Set<String> retryableMethods = new HashSet<>(Arrays.asList("GET", "HEAD", "OPTIONS", "PUT", "DELETE"));
+    private Predicate<? super RedmineException> retryableExceptions = e -> e instanceof RedmineTransportException;
+
+    /**
+     * @param maxAttempts max number of times a request is sent, including the first one. 1 disables retries.
+     */
+    public RetryPolicy setMaxAttempts(int maxAttempts) {
+        if (maxAttempts <= 0) {
+            throw new IllegalArgumentException("Max attempts must be > 0. You provided: " + maxAttempts);
+        }
+        this.maxAttempts = maxAttempts;
+        return this;
+    }
+
+    /**
+     * @param initialBackoff delay before the first retry.
+     * @param maxBackoff     max delay between attempts. Also limits delays requested with "Retry-After" header.
+     */
+    public RetryPolicy setBackoff(long initialBackoff, long maxBackoff, TimeUnit unit) {
+        if (initialBackoff < 0 || maxBackoff < initialBackoff) {
+            throw new IllegalArgumentException("Backoff must be 0 <= initial <= max. You provided: initial="
+                    + initialBackoff + ", max=" + maxBackoff);
+        }
+        this.initialBackoffMillis = unit.toMillis(initialBackoff);
+        this.maxBackoffMillis = unit.toMillis(maxBackoff);
+        return this;
+    }
+
+    /**
+     * @param multiplier each next delay is this times longer than the previous one. 1 means fixed delay.
+     */
+    public RetryPolicy setMultiplier(double multiplier) {
+        if (multiplier < 1) {
+            throw new IllegalArgumentException("Multiplier must be >= 1. You provided: " + multiplier);
+        }
+        this.multiplier = multiplier;
+        return this;
+    }
+
+    /**
+     * @param jitter part of each delay which is taken off randomly, from 0 (no jitter) to 1 (delay is random
+     *               between 0 and the computed value).
+     */
+    public RetryPolicy setJitter(double jitter) {
+        if (jitter < 0 || jitter > 1) {
+            throw new IllegalArgumentException("Jitter must be between 0 and 1. You provided: " + jitter);
+        }
+        this.jitter = jitter;
+        return this;
+    }
+
+    public RetryPolicy setRespectRetryAfter(boolean respectRetryAfter) {
+        this.respectRetryAfter = respectRetryAfter;
+        return this;
+    }
+
+    public RetryPolicy setRetryableStatusCodes(Integer... statusCodes) {
+        this.retryableStatusCodes = new HashSet<>(Arrays.asList(statusCodes));
+        return this;
+    }
+
+    /**
+     * @param methods HTTP methods, like "GET".
+     */
+    public RetryPolicy setRetryableMethods(String... methods) {
+        this.retryableMethods = new HashSet<>(Arrays.asList(methods));
+        return this;
+    }
+
+    /**
+     * @param retryableExceptions decides which exceptions thrown while sending a request or reading its response
+     *                            are worth a retry. By default it is {@link RedmineTransportException}.
+     */
+    public RetryPolicy setRetryableExceptions(Predicate<? super RedmineException> retryableExceptions) {
+        this.retryableExceptions = retryableExceptions;
+        return this;
+    }
+
+    public int getMaxAttempts() {
+        return maxAttempts;
+    }
+
+    public long getMaxBackoffMillis() {
+        return maxBackoffMillis;
+    }
+
+    public boolean isRespectRetryAfter() {
+        return respectRetryAfter;
+    }
+
+    public boolean isRetryableMethod(String method) {
+        return retryableMethods.contains(method);
+    }
+
+    public boolean isRetryableStatus(int statusCode) {
+        return retryableStatusCodes.contains(statusCode);
+    }
+
+    public boolean isRetryableException(RedmineException exception) {
+        return retryableExceptions.test(exception);
+    }
+
+    /**
+     * @param retryNumber 1 for the first retry (second attempt), 2 for the next one, etc.
+     * @return delay before the retry, with jitter applied.
+     */
+    public long getDelayMillis(int retryNumber) {
+        final double exponential = initialBackoffMillis * Math.pow(multiplier, retryNumber - 1);
+        final double delay = Math.min(exponential, maxBackoffMillis);
+        return (long) (delay * (1 - jitter * ThreadLocalRandom.current().nextDouble()));
+    }
+}
@@ -7,8 +7,10 @@ import com.taskadapter.redmineapi.internal.RequestParam;
 import com.taskadapter.redmineapi.internal.ResultsWrapper;
 import com.taskadapter.redmineapi.internal.Transport;
 
+import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
+import java.util.stream.Stream;
 
 /**
  * Class to operate on Time Entry instances.
@@ -31,6 +33,18 @@ public final class TimeEntryManager {
         return transport.getObjectsList(TimeEntry.class);
     }
 
+    /**
+     * Loads all time entries lazily: the next page is requested from the server only when the stream consumer
+     * reaches the end of the current page, so memory usage does not grow with the number of entries.
+     * <p>
+     * Server errors are thrown as {@link UncheckedRedmineException} while the stream is consumed.
+     *
+     * @param params optional filters, e.g. "project_id", "user_id", "from", "to"
+     */
+    public Stream<TimeEntry> streamTimeEntries(RequestParam... params) {
+        return transport.streamObjects(TimeEntry.class, Arrays.asList(params));
+    }
+
     /**
      * @param id the database Id of the TimeEntry record
      */
@@ -0,0 +1,20 @@
+package com.taskadapter.redmineapi;
+
+import java.util.Objects;
+
+/**
+ * Wraps a {@link RedmineException} where checked exceptions cannot be thrown,
+ * e.g. while iterating over a lazily loaded {@link java.util.stream.Stream} of objects.
+ */
+public class UncheckedRedmineException extends RuntimeException {
+    private static final long serialVersionUID = 4137405634417405267L;
+
+    public UncheckedRedmineException(RedmineException cause) {
+        super(Objects.requireNonNull(cause));
+    }
+
+    @Override
+    public synchronized RedmineException getCause() {
+        return (RedmineException) super.getCause();
+    }
+}
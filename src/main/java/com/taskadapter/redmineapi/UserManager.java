@@ -9,8 +9,10 @@ import com.taskadapter.redmineapi.internal.ResultsWrapper;
 import com.taskadapter.redmineapi.internal.Transport;
 import org.apache.http.message.BasicNameValuePair;
 
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
+import java.util.stream.Stream;
 
 /**
  * Works with Users and Groups.
@@ -88,6 +90,18 @@ public class UserManager {
                 "include", "memberships,groups"));
     }
 
+    /**
+     * Lazy version of {@link #getUsers()}: the next page is requested from the server only when the stream
+     * consumer reaches the end of the current page.
+     * <p><strong>This operation requires "Redmine Administrator" permission.</strong>
+     * <p>
+     * Server errors are thrown as {@link UncheckedRedmineException} while the stream is consumed.
+     */
+    public Stream<User> streamUsers() {
+        return transport.streamObjects(User.class, Collections.singletonList(new RequestParam(
+                "include", "memberships,groups")));
+    }
+
     /**
      * <p>This method does NOT handle paging for you. You need to provide "offset" and "limit" parameters
      * if you want to control paging.
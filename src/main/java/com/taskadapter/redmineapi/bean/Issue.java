@@ -73,7 +73,6 @@ public class Issue implements Identifiable, FluentStyle {
     private Transport transport;
 
     public Issue() {
-        initCollections(storage);
     }
 
     public Issue(Transport transport) {
@@ -100,16 +99,6 @@ public class Issue implements Identifiable, FluentStyle {
         setProjectId(projectId);
     }
 
-    private void initCollections(PropertyStorage storage) {
-        storage.set(CUSTOM_FIELDS, new HashSet<>());
-        storage.set(CHILDREN, new HashSet<>());
-        storage.set(WATCHERS, new HashSet<>());
-        storage.set(CHANGESETS, new HashSet<>());
-        storage.set(ATTACHMENTS, new HashSet<>());
-        storage.set(RELATIONS, new HashSet<>());
-        storage.set(JOURNALS, new HashSet<>());
-    }
-
     public Integer getProjectId() {
         return storage.get(PROJECT_ID);
     }
@@ -346,7 +335,7 @@ public class Issue implements Identifiable, FluentStyle {
      * @return unmodifiable collection of Custom Field objects. the collection may be empty, but it is never NULL.
      */
     public Collection<CustomField> getCustomFields() {
-        return Collections.unmodifiableCollection(storage.get(CUSTOM_FIELDS));
+        return Collections.unmodifiableCollection(storage.getSet(CUSTOM_FIELDS));
     }
 
     public Issue clearCustomFields() {
@@ -359,7 +348,7 @@ public class Issue implements Identifiable, FluentStyle {
      * This is Redmine REST API's requirement.
      */
     public Issue addCustomFields(Collection<CustomField> customFields) {
-        storage.get(CUSTOM_FIELDS).addAll(customFields);
+        storage.addAll(CUSTOM_FIELDS, customFields);
         return this;
     }
 
@@ -370,7 +359,7 @@ public class Issue implements Identifiable, FluentStyle {
      * @param customField the field to add to the issue.
      */
     public Issue addCustomField(CustomField customField) {
-        storage.get(CUSTOM_FIELDS).add(customField);
+        storage.add(CUSTOM_FIELDS, customField);
         return this;
     }
 
@@ -415,7 +404,7 @@ public class Issue implements Identifiable, FluentStyle {
      * @see com.taskadapter.redmineapi.Include#journals
      */
     public Collection<Journal> getJournals() {
-        return Collections.unmodifiableCollection(storage.get(JOURNALS));
+        return Collections.unmodifiableCollection(storage.getSet(JOURNALS));
     }
 
     /**
@@ -428,7 +417,7 @@ public class Issue implements Identifiable, FluentStyle {
      * TODO hide this method. https://github.com/taskadapter/redmine-java-api/issues/199
      */
     public void addJournals(Collection<Journal> journals) {
-        storage.get(JOURNALS).addAll(journals);
+        storage.addAll(JOURNALS, journals);
     }
 
     /**
@@ -440,11 +429,11 @@ public class Issue implements Identifiable, FluentStyle {
      * @see com.taskadapter.redmineapi.Include#changesets
      */
     public Collection<Changeset> getChangesets() {
-        return Collections.unmodifiableCollection(storage.get(CHANGESETS));
+        return Collections.unmodifiableCollection(storage.getSet(CHANGESETS));
     }
 
     public Issue addChangesets(Collection<Changeset> changesets) {
-        storage.get(CHANGESETS).addAll(changesets);
+        storage.addAll(CHANGESETS, changesets);
         return this;
     }
 
@@ -457,11 +446,11 @@ public class Issue implements Identifiable, FluentStyle {
      * @see com.taskadapter.redmineapi.Include#watchers
      */
     public Collection<Watcher> getWatchers() {
-        return Collections.unmodifiableCollection(storage.get(WATCHERS));
+        return Collections.unmodifiableCollection(storage.getSet(WATCHERS));
     }
 
     public Issue addWatchers(Collection<Watcher> watchers) {
-        storage.get(WATCHERS).addAll(watchers);
+        storage.addAll(WATCHERS, watchers);
         return this;
     }
 
@@ -474,11 +463,11 @@ public class Issue implements Identifiable, FluentStyle {
       * @see com.taskadapter.redmineapi.Include#children
       */
     public Collection<Issue> getChildren() {
-        return Collections.unmodifiableCollection(storage.get(CHILDREN));
+        return Collections.unmodifiableCollection(storage.getSet(CHILDREN));
     }
 
     public Issue addChildren(Collection<Issue> children) {
-        storage.get(CHILDREN).addAll(children);
+        storage.addAll(CHILDREN, children);
         return this;
     }
 
@@ -506,7 +495,7 @@ public class Issue implements Identifiable, FluentStyle {
      * @return the custom field with given Id or NULL if the field is not found
      */
     public CustomField getCustomFieldById(int customFieldId) {
-        for (CustomField customField : storage.get(CUSTOM_FIELDS)) {
+        for (CustomField customField : storage.getSet(CUSTOM_FIELDS)) {
             if (customFieldId == customField.getId()) {
                 return customField;
             }
@@ -518,7 +507,7 @@ public class Issue implements Identifiable, FluentStyle {
      * @return the custom field with given name or NULL if the field is not found
      */
     public CustomField getCustomFieldByName(String customFieldName) {
-        for (CustomField customField : storage.get(CUSTOM_FIELDS)) {
+        for (CustomField customField : storage.getSet(CUSTOM_FIELDS)) {
             if (customFieldName.equals(customField.getName())) {
                 return customField;
             }
@@ -546,11 +535,11 @@ public class Issue implements Identifiable, FluentStyle {
      * @see com.taskadapter.redmineapi.Include#relations
      */
     public Collection<IssueRelation> getRelations() {
-        return Collections.unmodifiableCollection(storage.get(RELATIONS));
+        return Collections.unmodifiableCollection(storage.getSet(RELATIONS));
     }
 
     public Issue addRelations(Collection<IssueRelation> collection) {
-        storage.get(RELATIONS).addAll(collection);
+        storage.addAll(RELATIONS, collection);
         return this;
     }
 
@@ -576,16 +565,16 @@ public class Issue implements Identifiable, FluentStyle {
      * @see com.taskadapter.redmineapi.Include#attachments
      */
     public Collection<Attachment> getAttachments() {
-        return Collections.unmodifiableCollection(storage.get(ATTACHMENTS));
+        return Collections.unmodifiableCollection(storage.getSet(ATTACHMENTS));
     }
 
     public Issue addAttachments(Collection<Attachment> collection) {
-        storage.get(ATTACHMENTS).addAll(collection);
+        storage.addAll(ATTACHMENTS, collection);
         return this;
     }
 
     public Issue addAttachment(Attachment attachment) {
-        storage.get(ATTACHMENTS).add(attachment);
+        storage.add(ATTACHMENTS, attachment);
         return this;
     }
 
@@ -58,7 +58,6 @@ public class Project implements Identifiable, Serializable, FluentStyle {
 
     public Project(Transport transport) {
         this.transport = transport;
-        storage.set(CUSTOM_FIELDS, new HashSet<>());
     }
 
     public Project(Transport transport, String name, String key) {
@@ -120,9 +119,7 @@ public class Project implements Identifiable, Serializable, FluentStyle {
      * @return Trackers allowed in this project (e.g.: Bug, Feature, Support, Task, ...)
      */
     public Collection<Tracker> getTrackers() {
-    	if (!storage.isPropertySet(TRACKERS)) //checks because trackers storage is not created for new projects
-    		return Collections.unmodifiableCollection(new HashSet<Tracker>());
-        return Collections.unmodifiableCollection(storage.get(TRACKERS));
+        return Collections.unmodifiableCollection(storage.getSet(TRACKERS));
     }
 
     /**
@@ -131,9 +128,7 @@ public class Project implements Identifiable, Serializable, FluentStyle {
      * each tracker id must be a valid tracker on the server.
      */
     public Project addTrackers(Collection<Tracker> trackers) {
-    	if (!storage.isPropertySet(TRACKERS)) //checks because trackers storage is not created for new projects
-    		storage.set(TRACKERS, new HashSet<>());
-        storage.get(TRACKERS).addAll(trackers);
+        storage.addAll(TRACKERS, trackers);
         return this;
     }
 
@@ -261,17 +256,20 @@ public class Project implements Identifiable, Serializable, FluentStyle {
         return this;
     }
 
+    /**
+     * @return modifiable collection of custom fields, changes are applied to this project. Never NULL.
+     */
     public Collection<CustomField> getCustomFields() {
-        return storage.get(CUSTOM_FIELDS);
+        return storage.modifiableSet(CUSTOM_FIELDS);
     }
 
     public Project addCustomFields(Collection<CustomField> customFields) {
-        storage.get(CUSTOM_FIELDS).addAll(customFields);
+        storage.addAll(CUSTOM_FIELDS, customFields);
         return this;
     }
 
     public CustomField getCustomFieldById(int customFieldId) {
-        for (CustomField customField : getCustomFields()) {
+        for (CustomField customField : storage.getSet(CUSTOM_FIELDS)) {
             if (customFieldId == customField.getId()) {
                 return customField;
             }
@@ -1,13 +1,42 @@
 package com.taskadapter.redmineapi.bean;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
 public class Property<T> {
 
+    /**
+     * {@link PropertyStorage} keeps "is set" flags in one long, so a class can't declare more properties than this.
+     */
+    static final int MAX_PROPERTIES_PER_CLASS = Long.SIZE;
+
+    private static final StackWalker STACK_WALKER = StackWalker.getInstance(StackWalker.Option.RETAIN_CLASS_REFERENCE);
+    private static final Map<Class<?>, Declared> DECLARED = new ConcurrentHashMap<>();
+
     private final Class<T> type;
     private final String name;
+    private final Class<?> owner;
+    private final Declared declared;
+    private final int ordinal;
 
     Property(Class<T> type, String name) {
         this.type = type;
         this.name = name;
+        // properties are static fields of bean classes, so the caller is the bean class being initialized
+        this.owner = STACK_WALKER.getCallerClass();
+        this.declared = DECLARED.computeIfAbsent(owner, c -> new Declared());
+        this.ordinal = declared.register(this);
+    }
+
+    /**
+     * @return properties declared by the class, in declaration order. {@link #getOrdinal()} is the index in this list.
+     */
+    static List<Property<?>> declaredBy(Class<?> owner) {
+        final Declared declared = DECLARED.get(owner);
+        return declared == null ? Collections.emptyList() : declared.snapshot();
     }
 
     public final String getName() {
@@ -18,6 +47,49 @@ public class Property<T> {
         return type;
     }
 
+    /**
+     * @return bean class declaring this property.
+     */
+    final Class<?> getOwner() {
+        return owner;
+    }
+
+    /**
+     * @return position of this property among the properties of the same bean class, starting from 0.
+     */
+    final int getOrdinal() {
+        return ordinal;
+    }
+
+    /**
+     * @return number of properties declared so far by the owner class, without copying {@link #declaredBy(Class)}.
+     */
+    final int getDeclaredCount() {
+        return declared.count;
+    }
+
+    /**
+     * Properties of one bean class. The count is kept separately from the list, so sizing a {@link PropertyStorage}
+     * does not need to lock or copy the list.
+     */
+    private static final class Declared {
+        private final List<Property<?>> properties = new ArrayList<>();
+        private volatile int count;
+
+        synchronized int register(Property<?> property) {
+            if (properties.size() == MAX_PROPERTIES_PER_CLASS) {
+                throw new IllegalStateException("Too many properties declared in " + property.owner.getName());
+            }
+            properties.add(property);
+            count = properties.size();
+            return count - 1;
+        }
+
+        synchronized List<Property<?>> snapshot() {
+            return new ArrayList<>(properties);
+        }
+    }
+
     @Override
     public String toString() {
         return "Property{" +
@@ -25,4 +97,4 @@ public class Property<T> {
                 ", name='" + name + '\'' +
                 '}';
     }
-}
\ No newline at end of file
+}
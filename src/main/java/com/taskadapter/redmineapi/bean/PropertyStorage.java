@@ -1,25 +1,99 @@
 package com.taskadapter.redmineapi.bean;
 
-import java.util.HashMap;
+import java.util.AbstractMap;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 
+/**
+ * Property values of one bean. Values are kept in an array indexed by {@link Property#getOrdinal()}, plus a bit mask
+ * of properties that were set (possibly to NULL). Both are sized by the number of properties the bean class declares,
+ * so a bean costs the same whether it has 1 or 30 fields set, with no per-field entry objects.
+ * <p>
+ * All properties stored in one instance must be declared by the same bean class.
+ */
 public final class PropertyStorage {
-    private final Map<Property<?>, Object> map = new HashMap<>();
+    private Class<?> owner;
+    private Object[] values;
+    private long setMask;
 
     public final <T> T get(Property<T> prop) {
-        return prop.getType().cast(map.get(prop));
+        if (!isPropertySet(prop)) {
+            return null;
+        }
+        return prop.getType().cast(values[prop.getOrdinal()]);
     }
 
     final <T> void set(Property<T> prop, T value) {
-        map.put(prop, value);
+        if (owner == null) {
+            owner = prop.getOwner();
+            values = new Object[prop.getDeclaredCount()];
+        } else if (owner != prop.getOwner()) {
+            throw new IllegalArgumentException(prop + " is declared by " + prop.getOwner().getName()
+                    + ", this storage keeps properties of " + owner.getName());
+        } else if (prop.getOrdinal() >= values.length) {
+            // only possible if a bean was created while its class was still declaring properties
+            values = Arrays.copyOf(values, prop.getDeclaredCount());
+        }
+        values[prop.getOrdinal()] = value;
+        setMask |= 1L << prop.getOrdinal();
+    }
+
+    /**
+     * @return the set stored for the property, or an immutable empty set if nothing was stored yet. Never NULL.
+     */
+    final <E> Set<E> getSet(Property<Set<E>> prop) {
+        final Set<E> set = get(prop);
+        return set == null ? Collections.emptySet() : set;
+    }
+
+    /**
+     * Adds the elements to the set stored for the property. The set is created on first use, so beans which never
+     * get any elements do not allocate one. The property is marked as set even if there are no elements.
+     */
+    final <E> void addAll(Property<Set<E>> prop, Collection<? extends E> elements) {
+        modifiableSet(prop).addAll(elements);
+    }
+
+    final <E> void add(Property<Set<E>> prop, E element) {
+        modifiableSet(prop).add(element);
+    }
+
+    /**
+     * @return the set stored for the property, created and stored if there is none yet.
+     */
+    final <E> Set<E> modifiableSet(Property<Set<E>> prop) {
+        Set<E> set = get(prop);
+        if (set == null) {
+            set = new HashSet<>();
+            set(prop, set);
+        }
+        return set;
     }
 
     public final boolean isPropertySet(Property<?> property) {
-        return map.containsKey(property);
+        return owner == property.getOwner() && (setMask & (1L << property.getOrdinal())) != 0;
     }
 
+    /**
+     * @return a snapshot of all properties which were set, in their declaration order.
+     */
     public Set<Map.Entry<Property<?>, Object>> getProperties() {
-        return map.entrySet();
+        if (owner == null) {
+            return Collections.emptySet();
+        }
+        final List<Property<?>> declared = Property.declaredBy(owner);
+        final Set<Map.Entry<Property<?>, Object>> result = new LinkedHashSet<>();
+        for (int i = 0; i < values.length; i++) {
+            if ((setMask & (1L << i)) != 0) {
+                result.add(new AbstractMap.SimpleImmutableEntry<>(declared.get(i), values[i]));
+            }
+        }
+        return Collections.unmodifiableSet(result);
     }
 }
@@ -11,7 +11,7 @@ public class PropertyStorageUtil {
      */
     public static void updateCollections(PropertyStorage storage, Transport transport) {
         storage.getProperties().forEach(e -> {
-            if (Collection.class.isAssignableFrom(e.getKey().getType())) {
+            if (Collection.class.isAssignableFrom(e.getKey().getType()) && e.getValue() != null) {
                 // found a collection in properties
                 ((Collection) e.getValue()).forEach(i -> {
                     if (i instanceof FluentStyle) {
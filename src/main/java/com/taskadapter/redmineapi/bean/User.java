@@ -46,16 +46,9 @@ public class User implements Identifiable, FluentStyle {
     private Transport transport;
 
     public User(Transport transport) {
-        initCollections();
         setTransport(transport);
     }
 
-    private void initCollections() {
-        this.storage.set(CUSTOM_FIELDS, new HashSet<>());
-        this.storage.set(MEMBERSHIP, new HashSet<>());
-        this.storage.set(GROUPS, new HashSet<>());
-    }
-
     public User setId(int id) {
         storage.set(ID, id);
         return this;
@@ -220,7 +213,7 @@ public class User implements Identifiable, FluentStyle {
      * @return Custom Fields, NEVER NULL.
      */
     public Collection<CustomField> getCustomFields() {
-        return Collections.unmodifiableCollection(storage.get(CUSTOM_FIELDS));
+        return Collections.unmodifiableCollection(storage.getSet(CUSTOM_FIELDS));
     }
 
     public void clearCustomFields() {
@@ -232,7 +225,7 @@ public class User implements Identifiable, FluentStyle {
      * ID can be seen in database or in Redmine administration when editing the custom field (number is part of the URL!).
      */
     public User addCustomFields(Collection<CustomField> customFields) {
-        storage.get(CUSTOM_FIELDS).addAll(customFields);
+        storage.addAll(CUSTOM_FIELDS, customFields);
         return this;
     }
 
@@ -243,28 +236,25 @@ public class User implements Identifiable, FluentStyle {
      * @param customField the field to add.
      */
     public User addCustomField(CustomField customField) {
-        storage.get(CUSTOM_FIELDS).add(customField);
+        storage.add(CUSTOM_FIELDS, customField);
         return this;
     }
 
 	public Collection<Membership> getMemberships() {
-		return Collections.unmodifiableCollection(storage.get(MEMBERSHIP));
+		return Collections.unmodifiableCollection(storage.getSet(MEMBERSHIP));
 	}
 
 	public User addMemberships(Collection<Membership> memberships) {
-		storage.get(MEMBERSHIP).addAll(memberships);
+		storage.addAll(MEMBERSHIP, memberships);
         return this;
 	}
 
 	public Collection<Group> getGroups() {
-        return Collections.unmodifiableCollection(storage.get(GROUPS));
+        return Collections.unmodifiableCollection(storage.getSet(GROUPS));
     }
 
 	public User addGroups(Collection<Group> groups) {
-        if (!storage.isPropertySet(GROUPS)) {
-            storage.set(GROUPS, new HashSet<Group>());
-        }
-        storage.get(GROUPS).addAll(groups);
+        storage.addAll(GROUPS, groups);
         return this;
 	}
 
@@ -0,0 +1,114 @@
+package com.taskadapter.redmineapi.internal;
+
+import com.taskadapter.redmineapi.internal.comm.BasicHttpResponse;
+import org.apache.http.HttpRequest;
+import org.json.JSONObject;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Remembers "ETag" and "Last-Modified" validators of single-object responses together with the parsed response.
+ * The next request for the same URI is sent with "If-None-Match" / "If-Modified-Since" headers, and if the server
+ * answers "304 Not Modified", the remembered response is used instead of downloading and parsing it again.
+ * <p>
+ * A new bean is created from the remembered JSON for every call, so callers never share mutable objects.
+ * The least recently used responses are dropped when the cache is full. The cache is thread-safe.
+ *
+ * @see Transport#setConditionalGetCache(ConditionalGetCache)
+ */
+public final class ConditionalGetCache {
+    public static final int DEFAULT_MAX_ENTRIES = 1000;
+
+    private final Map<String, Validators> entries;
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+
+    public ConditionalGetCache() {
+        this(DEFAULT_MAX_ENTRIES);
+    }
+
+    /**
+     * @param maxEntries max number of responses to remember.
+     */
+    public ConditionalGetCache(int maxEntries) {
+        if (maxEntries <= 0) {
+            throw new IllegalArgumentException("Max entries must be > 0. You provided: " + maxEntries);
+        }
+        this.entries = new LinkedHashMap<String, Validators>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Validators> eldest) {
+                return size() > maxEntries;
+            }
+        };
+    }
+
+    /**
+     * @return number of requests answered with "304 Not Modified".
+     */
+    public long getHitCount() {
+        return hits.get();
+    }
+
+    /**
+     * @return number of requests which downloaded the response.
+     */
+    public long getMissCount() {
+        return misses.get();
+    }
+
+    public synchronized void clear() {
+        entries.clear();
+    }
+
+    synchronized int size() {
+        return entries.size();
+    }
+
+    synchronized Validators get(String key) {
+        return entries.get(key);
+    }
+
+    JSONObject hit(Validators entry) {
+        hits.incrementAndGet();
+        return entry.json;
+    }
+
+    /**
+     * Remembers the response if it has validators, forgets the old one otherwise.
+     */
+    void put(String key, BasicHttpResponse response, JSONObject json) {
+        misses.incrementAndGet();
+        final String etag = response.getHeader("ETag");
+        final String lastModified = response.getHeader("Last-Modified");
+        synchronized (this) {
+            if (etag == null && lastModified == null) {
+                entries.remove(key);
+            } else {
+                entries.put(key, new Validators(etag, lastModified, json));
+            }
+        }
+    }
+
+    static final class Validators {
+        private final String etag;
+        private final String lastModified;
+        private final JSONObject json;
+
+        Validators(String etag, String lastModified, JSONObject json) {
+            this.etag = etag;
+            this.lastModified = lastModified;
+            this.json = json;
+        }
+
+        void addConditions(HttpRequest request) {
+            if (etag != null) {
+                request.setHeader("If-None-Match", etag);
+            }
+            if (lastModified != null) {
+                request.setHeader("If-Modified-Since", lastModified);
+            }
+        }
+    }
+}
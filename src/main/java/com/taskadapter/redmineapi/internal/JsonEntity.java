@@ -0,0 +1,88 @@
+package com.taskadapter.redmineapi.internal;
+
+import com.taskadapter.redmineapi.RedmineInternalError;
+import com.taskadapter.redmineapi.internal.io.CountingOutputStream;
+import com.taskadapter.redmineapi.internal.json.JsonObjectWriter;
+import org.apache.http.entity.AbstractHttpEntity;
+import org.json.JSONException;
+
+import java.io.BufferedWriter;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Request body with an object in "simple" json form, like <code>{"issue":{...}}</code>.
+ * The object is serialized straight into the connection output as UTF-8 when the request is sent,
+ * without building the whole body in memory first.
+ * <p>
+ * The entity is repeatable: every {@link #writeTo(OutputStream)} serializes the object again, so a retried request
+ * sends the object as it is at that moment. Content length is not known in advance, the body is sent chunked.
+ */
+public final class JsonEntity<T> extends AbstractHttpEntity {
+    private static final int BUFFER_SIZE = 8192;
+
+    private final String tag;
+    private final T object;
+    private final JsonObjectWriter<T> writer;
+    private volatile long bytesWritten = -1;
+
+    public JsonEntity(String tag, T object, JsonObjectWriter<T> writer, String contentType) {
+        this.tag = tag;
+        this.object = object;
+        this.writer = writer;
+        setContentType(contentType);
+        setChunked(true);
+    }
+
+    @Override
+    public boolean isRepeatable() {
+        return true;
+    }
+
+    @Override
+    public long getContentLength() {
+        return -1;
+    }
+
+    @Override
+    public boolean isStreaming() {
+        return false;
+    }
+
+    /**
+     * @return number of bytes sent by the last {@link #writeTo(OutputStream)}, -1 if the entity was not written yet.
+     */
+    public long getBytesWritten() {
+        return bytesWritten;
+    }
+
+    @Override
+    public InputStream getContent() throws IOException {
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        writeTo(bytes);
+        return new ByteArrayInputStream(bytes.toByteArray());
+    }
+
+    @Override
+    public void writeTo(OutputStream outStream) throws IOException {
+        final CountingOutputStream counter = new CountingOutputStream(outStream);
+        final Writer output = new BufferedWriter(new OutputStreamWriter(counter, StandardCharsets.UTF_8), BUFFER_SIZE);
+        try {
+            RedmineJSONBuilder.writeSimpleJSON(output, tag, object, writer);
+        } catch (JSONException e) {
+            if (e.getCause() instanceof IOException) {
+                throw (IOException) e.getCause();
+            }
+            throw new RedmineInternalError("Unexpected JSONException", e);
+        }
+        // the caller owns the stream, it is flushed but never closed here
+        output.flush();
+        bytesWritten = counter.getCount();
+    }
+}
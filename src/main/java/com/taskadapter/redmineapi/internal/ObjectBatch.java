@@ -0,0 +1,113 @@
+package com.taskadapter.redmineapi.internal;
+
+import com.taskadapter.redmineapi.RedmineException;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Explicit batch of single-object lookups. Lookups are only collected until {@link #execute()} (or
+ * {@link #close()}) is called, then lookups which can be grouped are loaded with one list request per group
+ * of at most maxBatchSize ids and all futures are completed:
+ * <pre>
+ try (ObjectBatch batch = transport.startBatch()) {
+     parentFuture = batch.getObject(Issue.class, parentId);
+     relatedFuture = batch.getObject(Issue.class, relatedId, new RequestParam("include", "relations"));
+ }
+ Issue parent = parentFuture.get();
+ * </pre>
+ * Lookups which can't be grouped (see {@link Transport#getObject(Class, String, RequestParam...)})
+ * are executed one by one. Requests run in parallel if an executor is configured in the transport.
+ * <p>
+ * Do not wait for the futures inside the batch scope: they are completed when the batch is executed.
+ * This class is not thread-safe.
+ */
+public final class ObjectBatch implements AutoCloseable {
+    private final Transport transport;
+    private final RequestCoalescer.BatchLoader loader;
+    private final int maxBatchSize;
+    /**
+     * Groups which still have room for more lookups.
+     */
+    private final Map<RequestCoalescer.BatchKey, RequestCoalescer.Lookups> openGroups = new LinkedHashMap<>();
+    private final List<RequestCoalescer.Lookups> groups = new ArrayList<>();
+    private final List<RedmineCallable<Void>> singleLookups = new ArrayList<>();
+    private final List<CompletableFuture<?>> singleFutures = new ArrayList<>();
+    private boolean executed;
+
+    ObjectBatch(Transport transport, RequestCoalescer.BatchLoader loader, int maxBatchSize) {
+        this.transport = transport;
+        this.loader = loader;
+        this.maxBatchSize = maxBatchSize;
+    }
+
+    public <T> CompletableFuture<T> getObject(Class<T> objectClass, Integer id, RequestParam... params) {
+        return getObject(objectClass, id.toString(), params);
+    }
+
+    public <T> CompletableFuture<T> getObject(Class<T> objectClass, String key, RequestParam... params) {
+        if (executed) {
+            throw new IllegalStateException("Batch is already executed");
+        }
+        if (transport.isBatchable(objectClass, key, params)) {
+            final RequestCoalescer.BatchKey batchKey = new RequestCoalescer.BatchKey(objectClass,
+                    Transport.normalizeBatchParams(params));
+            RequestCoalescer.Lookups current = openGroups.get(batchKey);
+            if (current == null) {
+                current = new RequestCoalescer.Lookups(batchKey);
+                openGroups.put(batchKey, current);
+                groups.add(current);
+            }
+            final CompletableFuture<Object> result = current.add(key);
+            if (current.size() >= maxBatchSize) {
+                openGroups.remove(batchKey);
+            }
+            return result.thenApply(objectClass::cast);
+        }
+        final CompletableFuture<T> future = new CompletableFuture<>();
+        final List<RequestParam> paramsCopy = Arrays.asList(params.clone());
+        singleLookups.add(() -> {
+            try {
+                future.complete(transport.getObject(objectClass, key, paramsCopy.toArray(new RequestParam[0])));
+            } catch (Exception e) {
+                future.completeExceptionally(e);
+            }
+            return null;
+        });
+        singleFutures.add(future);
+        return future;
+    }
+
+    /**
+     * Sends all collected lookups and completes their futures. Errors are reported through the futures only.
+     */
+    public void execute() {
+        if (executed) {
+            return;
+        }
+        executed = true;
+        final List<RedmineCallable<Void>> calls = new ArrayList<>();
+        groups.forEach(lookups -> calls.add(() -> {
+            lookups.load(loader);
+            return null;
+        }));
+        calls.addAll(singleLookups);
+        try {
+            transport.callAll(calls);
+        } catch (RedmineException | RuntimeException e) {
+            // calls complete their futures themselves and never throw, so we get here only if the thread was
+            // interrupted while waiting for them. nobody must wait forever for a lookup which was not executed.
+            groups.forEach(lookups -> lookups.fail(e));
+            singleFutures.forEach(future -> future.completeExceptionally(e));
+        }
+    }
+
+    @Override
+    public void close() {
+        execute();
+    }
+}
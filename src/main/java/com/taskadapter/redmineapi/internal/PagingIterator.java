@@ -0,0 +1,62 @@
+package com.taskadapter.redmineapi.internal;
+
+import com.taskadapter.redmineapi.RedmineException;
+import com.taskadapter.redmineapi.UncheckedRedmineException;
+
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+/**
+ * Iterates over all objects of a paged list. The next page is only requested from the server when
+ * all objects of the current page were consumed, so at most one page is kept in memory.
+ * <p>
+ * Errors are thrown as {@link UncheckedRedmineException} from {@link #hasNext()}.
+ */
+final class PagingIterator<T> implements Iterator<T> {
+
+    interface PageLoader<T> {
+        ResultsWrapper<T> load(int offset) throws RedmineException;
+    }
+
+    private final PageLoader<T> loader;
+    private Iterator<T> currentPage = Collections.emptyIterator();
+    private int nextOffset = 0;
+    private boolean lastPageLoaded = false;
+
+    PagingIterator(PageLoader<T> loader) {
+        this.loader = loader;
+    }
+
+    @Override
+    public boolean hasNext() {
+        while (!currentPage.hasNext() && !lastPageLoaded) {
+            loadNextPage();
+        }
+        return currentPage.hasNext();
+    }
+
+    @Override
+    public T next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        return currentPage.next();
+    }
+
+    private void loadNextPage() {
+        final ResultsWrapper<T> page;
+        try {
+            page = loader.load(nextOffset);
+        } catch (RedmineException e) {
+            throw new UncheckedRedmineException(e);
+        }
+        final List<T> results = page.hasSomeResults() ? page.getResults() : Collections.emptyList();
+        currentPage = results.iterator();
+        nextOffset += results.size();
+        final Integer total = page.getTotalFoundOnServer();
+        // lists without paging support (like trackers) do not report total_count
+        lastPageLoaded = total == null || results.isEmpty() || nextOffset >= total;
+    }
+}
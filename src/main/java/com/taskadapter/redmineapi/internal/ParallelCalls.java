@@ -0,0 +1,95 @@
+package com.taskadapter.redmineapi.internal;
+
+import com.taskadapter.redmineapi.RedmineException;
+import com.taskadapter.redmineapi.RedmineInternalError;
+
+import java.util.ArrayDeque;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.function.Consumer;
+
+/**
+ * Helpers to run {@link RedmineCallable}s in an executor and to get their results back
+ * with the original {@link RedmineException}s.
+ */
+public final class ParallelCalls {
+
+    private ParallelCalls() {
+        throw new UnsupportedOperationException();
+    }
+
+    public static <T> CompletableFuture<T> submit(Executor executor, RedmineCallable<T> callable) {
+        return CompletableFuture.supplyAsync(() -> {
+            try {
+                return callable.call();
+            } catch (RedmineException e) {
+                throw new CompletionException(e);
+            }
+        }, executor);
+    }
+
+    /**
+     * Waits for the future and returns its result. A {@link RedmineException} thrown by the call
+     * is re-thrown as is.
+     */
+    public static <T> T await(CompletableFuture<T> future) throws RedmineException {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            future.cancel(true);
+            throw new RedmineException("Interrupted while waiting for Redmine response", e);
+        } catch (CancellationException e) {
+            throw new RedmineException("Request was cancelled", e);
+        } catch (ExecutionException e) {
+            throw unwrap(e.getCause());
+        }
+    }
+
+    /**
+     * Runs the calls in the executor, at most maxParallel at a time, and passes their results to the consumer
+     * in the order of calls. If a call fails (or the consumer throws), calls which are still waiting are cancelled
+     * and the exception is thrown.
+     */
+    public static <T> void runInOrder(Executor executor, int maxParallel,
+                                      Iterator<? extends RedmineCallable<? extends T>> calls,
+                                      Consumer<? super T> consumer) throws RedmineException {
+        final Deque<CompletableFuture<? extends T>> window = new ArrayDeque<>();
+        try {
+            while (calls.hasNext() || !window.isEmpty()) {
+                while (calls.hasNext() && window.size() < maxParallel) {
+                    window.add(submit(executor, calls.next()));
+                }
+                consumer.accept(await(window.poll()));
+            }
+        } finally {
+            cancelAll(window);
+        }
+    }
+
+    public static void cancelAll(Collection<? extends CompletableFuture<?>> futures) {
+        futures.forEach(f -> f.cancel(true));
+    }
+
+    static RedmineException unwrap(Throwable cause) {
+        if (cause instanceof CompletionException && cause.getCause() != null) {
+            cause = cause.getCause();
+        }
+        if (cause instanceof RedmineException) {
+            return (RedmineException) cause;
+        }
+        if (cause instanceof RuntimeException) {
+            throw (RuntimeException) cause;
+        }
+        if (cause instanceof Error) {
+            throw (Error) cause;
+        }
+        throw new RedmineInternalError(cause);
+    }
+}
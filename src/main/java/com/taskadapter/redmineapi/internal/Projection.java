@@ -0,0 +1,36 @@
+package com.taskadapter.redmineapi.internal;
+
+import com.taskadapter.redmineapi.internal.json.JsonObjectParser;
+
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * Reads only some fields of list elements: the other JSON fields are skipped while the response is read,
+ * and the parser leaves the matching bean properties unset.
+ *
+ * @param <T> object type.
+ * @see RedmineJSONParser#issueProjection(java.util.Collection)
+ */
+public final class Projection<T> {
+    private final Set<String> jsonFields;
+    private final JsonObjectParser<T> parser;
+
+    /**
+     * @param jsonFields names of top-level JSON fields to read.
+     * @param parser     parser which only expects those fields.
+     */
+    public Projection(Set<String> jsonFields, JsonObjectParser<T> parser) {
+        this.jsonFields = Collections.unmodifiableSet(new HashSet<>(jsonFields));
+        this.parser = parser;
+    }
+
+    public Set<String> getJsonFields() {
+        return jsonFields;
+    }
+
+    public JsonObjectParser<T> getParser() {
+        return parser;
+    }
+}
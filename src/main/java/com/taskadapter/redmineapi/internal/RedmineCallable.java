@@ -0,0 +1,13 @@
+package com.taskadapter.redmineapi.internal;
+
+import com.taskadapter.redmineapi.RedmineException;
+
+/**
+ * A piece of work talking to Redmine server, e.g. loading one page of objects.
+ *
+ * @param <T> result type.
+ */
+@FunctionalInterface
+public interface RedmineCallable<T> {
+    T call() throws RedmineException;
+}
@@ -1,7 +1,11 @@
 package com.taskadapter.redmineapi.internal;
 
 import java.text.ParseException;
-import java.text.SimpleDateFormat;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.time.zone.ZoneOffsetTransition;
+import java.time.zone.ZoneRules;
 import java.util.Date;
 
 // side note... can you PLEASE stop changing date formats already? please?
@@ -37,55 +41,234 @@ public final class RedmineDateParser {
      */
     public static final LocalDateFormat SHORT_DATE_FORMAT_V2 = new LocalDateFormat(SHORT_DATE_PATTERN_V2);
 
-    private static final int SHORT_DATE_FORMAT_MAX_LENGTH = Math.max(SHORT_DATE_PATTERN_V1.length(), SHORT_DATE_PATTERN_V2.length());
+    private static final int SHORT_DATE_LENGTH = SHORT_DATE_PATTERN_V2.length();
+    private static final long MILLIS_PER_DAY = 86_400_000L;
+    private static final long DAYS_0000_TO_1970 = 719_528L;
 
+    /**
+     * Offset of the default time zone around the last parsed short date.
+     */
+    private static volatile ZoneOffsetRange lastOffsetRange;
+
+    /**
+     * Parses any date format Redmine has used so far. Fixed-layout fields are read directly from the string,
+     * so no formatter or intermediate strings are involved.
+     * <p>Short dates are returned as midnight in the default time zone, the way {@link #SHORT_DATE_FORMAT} would
+     * parse them.
+     */
     static Date parse(String dateStr) throws ParseException {
-        if (dateStr.length() > SHORT_DATE_FORMAT_MAX_LENGTH) {
-            return parseLongFormat(dateStr);
+        return new Date(parseMillis(dateStr));
+    }
+
+    /**
+     * Same as {@link #parse(String)}, but returns milliseconds since the epoch, without creating a Date.
+     */
+    public static long parseMillis(String dateStr) throws ParseException {
+        if (dateStr.length() < SHORT_DATE_LENGTH) {
+            throw new ParseException("Bad date value " + dateStr, dateStr.length());
+        }
+        final char separator = dateStr.charAt(4);
+        if (separator != '-' && separator != '/') {
+            throw new ParseException("Bad date value " + dateStr, 4);
+        }
+        expect(dateStr, 7, separator);
+        final int year = digits(dateStr, 0, 4);
+        final int month = digits(dateStr, 5, 2);
+        final int day = digits(dateStr, 8, 2);
+        if (month < 1 || month > 12 || day < 1 || day > lengthOfMonth(year, month)) {
+            throw new ParseException("Bad date value " + dateStr, 5);
+        }
+        if (dateStr.length() == SHORT_DATE_LENGTH) {
+            return startOfDayMillis(year, month, day);
+        }
+        return parseTime(dateStr, separator, epochDay(year, month, day) * MILLIS_PER_DAY);
+    }
+
+    /**
+     * Midnight in the default time zone. The zone offset is looked up only when the date is not in the period
+     * of the previous lookup, so usually no objects are created.
+     */
+    private static long startOfDayMillis(int year, int month, int day) {
+        final long localMillis = epochDay(year, month, day) * MILLIS_PER_DAY;
+        final ZoneId zone = ZoneId.systemDefault();
+        final ZoneOffsetRange range = lastOffsetRange;
+        if (range != null && range.zone.equals(zone)) {
+            final long millis = localMillis - range.offsetMillis;
+            if (millis >= range.fromMillis && millis < range.untilMillis) {
+                return millis;
+            }
+        }
+        final long millis = LocalDate.of(year, month, day).atStartOfDay(zone).toInstant().toEpochMilli();
+        lastOffsetRange = ZoneOffsetRange.around(zone, millis);
+        return millis;
+    }
+
+    /**
+     * Period in which the zone has a constant offset, shrunk by two days on each side. Any local time mapped
+     * with the offset into this period is unambiguous: zone offsets differ by less than two days, so gaps and
+     * overlaps of the neighbour transitions can't reach it.
+     */
+    private static final class ZoneOffsetRange {
+        private static final long MARGIN_MILLIS = 2 * MILLIS_PER_DAY;
+
+        final ZoneId zone;
+        final long offsetMillis;
+        final long fromMillis;
+        final long untilMillis;
+
+        private ZoneOffsetRange(ZoneId zone, long offsetMillis, long fromMillis, long untilMillis) {
+            this.zone = zone;
+            this.offsetMillis = offsetMillis;
+            this.fromMillis = fromMillis;
+            this.untilMillis = untilMillis;
+        }
+
+        static ZoneOffsetRange around(ZoneId zone, long millis) {
+            final ZoneRules rules = zone.getRules();
+            final Instant instant = Instant.ofEpochMilli(millis);
+            // a midnight in a gap is moved to the transition itself, which must count as the previous one
+            final ZoneOffsetTransition previous = rules.previousTransition(instant.plusNanos(1));
+            final ZoneOffsetTransition next = rules.nextTransition(instant);
+            return new ZoneOffsetRange(zone, rules.getOffset(instant).getTotalSeconds() * 1000L,
+                    previous == null ? Long.MIN_VALUE : previous.toEpochSecond() * 1000 + MARGIN_MILLIS,
+                    next == null ? Long.MAX_VALUE : next.toEpochSecond() * 1000 - MARGIN_MILLIS);
         }
-        return parseShortFormat(dateStr);
     }
 
-    private static Date parseShortFormat(String dateStr) throws ParseException {
-        final SimpleDateFormat format;
-        if (dateStr.length() >= 5 && dateStr.charAt(4) == '/') {
-            format = RedmineDateParser.SHORT_DATE_FORMAT.get();
-        } else {
-            format = RedmineDateParser.SHORT_DATE_FORMAT_V2.get();
+    /**
+     * Handles the time part: "T17:22:37[.fraction](Z|+hh:mm|+hhmm|+hh)" or, for the
+     * slash format, " 17:22:37 -0700".
+     */
+    private static long parseTime(String dateStr, char separator, long dayMillis) throws ParseException {
+        expect(dateStr, 10, separator == '/' ? ' ' : 'T');
+        expect(dateStr, 13, ':');
+        expect(dateStr, 16, ':');
+        final int hour = digits(dateStr, 11, 2);
+        final int minute = digits(dateStr, 14, 2);
+        final int second = digits(dateStr, 17, 2);
+        if (hour > 23 || minute > 59 || second > 59) {
+            throw new ParseException("Bad time value " + dateStr, 11);
+        }
+        long millis = dayMillis + ((hour * 60L + minute) * 60L + second) * 1000L;
+
+        int pos = 19;
+        if (pos < dateStr.length() && dateStr.charAt(pos) == '.') {
+            pos++;
+            final int fractionStart = pos;
+            int fractionMillis = 0;
+            while (pos < dateStr.length() && isDigit(dateStr.charAt(pos))) {
+                if (pos - fractionStart < 3) {
+                    fractionMillis = fractionMillis * 10 + (dateStr.charAt(pos) - '0');
+                }
+                pos++;
+            }
+            final int fractionLength = pos - fractionStart;
+            if (fractionLength == 0 || fractionLength > 9) {
+                throw new ParseException("Bad fraction of second " + dateStr, fractionStart);
+            }
+            for (int i = fractionLength; i < 3; i++) {
+                fractionMillis *= 10;
+            }
+            millis += fractionMillis;
         }
-        return format.parse(dateStr);
+        if (separator == '/') {
+            expect(dateStr, pos, ' ');
+            pos++;
+        }
+        return millis - offsetMillis(dateStr, pos);
     }
 
-    private static Date parseLongFormat(String dateStr) throws ParseException {
-        final SimpleDateFormat format;
-        if (dateStr.length() >= 5 && dateStr.charAt(4) == '/') {
-            format = RedmineDateParser.FULL_DATE_FORMAT.get();
-            return format.parse(dateStr);
+    private static long offsetMillis(String dateStr, int pos) throws ParseException {
+        final int remaining = dateStr.length() - pos;
+        if (remaining == 1 && dateStr.charAt(pos) == 'Z') {
+            return 0;
+        }
+        if (remaining < 3) {
+            throw new ParseException("Bad time zone " + dateStr, pos);
+        }
+        final char sign = dateStr.charAt(pos);
+        if (sign != '+' && sign != '-') {
+            throw new ParseException("Bad time zone " + dateStr, pos);
+        }
+        final int hours = digits(dateStr, pos + 1, 2);
+        final int minutes;
+        switch (remaining) {
+            case 3:
+                minutes = 0;
+                break;
+            case 5:
+                minutes = digits(dateStr, pos + 3, 2);
+                break;
+            case 6:
+                expect(dateStr, pos + 3, ':');
+                minutes = digits(dateStr, pos + 4, 2);
+                break;
+            default:
+                throw new ParseException("Bad time zone " + dateStr, pos);
         }
-        dateStr = normalizeTimeZoneInfo(dateStr);
+        if (hours > 18 || minutes > 59) {
+            throw new ParseException("Bad time zone " + dateStr, pos);
+        }
+        final long offset = (hours * 60L + minutes) * 60_000L;
+        return sign == '-' ? -offset : offset;
+    }
 
-        if (dateStr.indexOf('.') < 0) {
-            format = RedmineDateParser.FULL_DATE_FORMAT_V2.get();
-        } else {
-            format = RedmineDateParser.FULL_DATE_FORMAT_V3.get();
+    private static int digits(String str, int start, int count) throws ParseException {
+        if (start + count > str.length()) {
+            throw new ParseException("Bad date value " + str, str.length());
+        }
+        int value = 0;
+        for (int i = start; i < start + count; i++) {
+            final char c = str.charAt(i);
+            if (!isDigit(c)) {
+                throw new ParseException("Bad date value " + str, i);
+            }
+            value = value * 10 + (c - '0');
+        }
+        return value;
+    }
+
+    private static void expect(String str, int pos, char expected) throws ParseException {
+        if (pos >= str.length() || str.charAt(pos) != expected) {
+            throw new ParseException("Expected '" + expected + "' in date value " + str, pos);
         }
-        return format.parse(dateStr);
     }
 
-    private static String normalizeTimeZoneInfo(String dateStr) throws ParseException {
-        if (dateStr.endsWith("Z")) {
-            dateStr = dateStr.substring(0, dateStr.length() - 1)
-                    + "GMT-00:00";
-        } else {
-            final int inset = 6;
-            if (dateStr.length() <= inset) {
-                throw new ParseException("Bad date value " + dateStr, inset);
+    private static boolean isDigit(char c) {
+        return c >= '0' && c <= '9';
+    }
+
+    private static int lengthOfMonth(int year, int month) {
+        switch (month) {
+            case 2:
+                return isLeapYear(year) ? 29 : 28;
+            case 4:
+            case 6:
+            case 9:
+            case 11:
+                return 30;
+            default:
+                return 31;
+        }
+    }
+
+    private static boolean isLeapYear(int year) {
+        return (year & 3) == 0 && (year % 100 != 0 || year % 400 == 0);
+    }
+
+    /**
+     * Same as {@link LocalDate#toEpochDay()} for years 0-9999, without creating the LocalDate.
+     */
+    private static long epochDay(int year, int month, int day) {
+        long total = 365L * year + (year + 3) / 4 - (year + 99) / 100 + (year + 399) / 400;
+        total += (367 * month - 362) / 12;
+        total += day - 1;
+        if (month > 2) {
+            total--;
+            if (!isLeapYear(year)) {
+                total--;
             }
-            String s0 = dateStr.substring(0, dateStr.length() - inset);
-            String s1 = dateStr.substring(dateStr.length() - inset,
-                    dateStr.length());
-            dateStr = s0 + "GMT" + s1;
         }
-        return dateStr;
+        return total - DAYS_0000_TO_1970;
     }
 }
@@ -26,6 +26,7 @@ import org.json.JSONException;
 import org.json.JSONWriter;
 
 import java.io.StringWriter;
+import java.io.Writer;
 import java.text.SimpleDateFormat;
 import java.util.ArrayList;
 import java.util.Collection;
@@ -52,15 +53,37 @@ public class RedmineJSONBuilder {
 	 */
 	public static void writeProject(JSONWriter writer, Project project)
 			throws IllegalArgumentException, JSONException {
-		/* Validate project */
+		validateProject(project);
+		writeProject(project, writer);
+	}
+
+	/**
+	 * Runs the checks the writers make, so that an invalid object is rejected before a request is sent.
+	 *
+	 * @throws IllegalArgumentException
+	 *             if the object can't be written.
+	 */
+	public static void validate(Object object) throws IllegalArgumentException {
+		if (object instanceof Project) {
+			validateProject((Project) object);
+		} else if (object instanceof IssueRelation) {
+			validateRelation((IssueRelation) object);
+		}
+	}
+
+	private static void validateProject(Project project) {
 		if (project.getName() == null)
 			throw new IllegalArgumentException(
 					"Project name must be set to create a new project");
 		if (project.getIdentifier() == null)
 			throw new IllegalArgumentException(
 					"Project identifier must be set to create a new project");
+	}
 
-		writeProject(project, writer);
+	private static void validateRelation(IssueRelation relation) {
+		if (relation.getStorage().get(IssueRelation.ISSUE_TO_ID).isEmpty()) {
+			throw new IllegalArgumentException("cannot create a relation object with no target issues defined.");
+		}
 	}
 
 	static void writeTimeEntry(JSONWriter writer, TimeEntry timeEntry)
@@ -81,10 +104,8 @@ public class RedmineJSONBuilder {
 
 	static void writeRelation(JSONWriter writer, IssueRelation relation)
 			throws JSONException {
+		validateRelation(relation);
 		PropertyStorage storage = relation.getStorage();
-		if (storage.get(IssueRelation.ISSUE_TO_ID).isEmpty()) {
-			throw new IllegalArgumentException("cannot create a relation object with no target issues defined.");
-		}
 
 		addIfSet(writer, "relation_type", storage, IssueRelation.RELATION_TYPE);
 		addIfSet(writer, "delay", storage, IssueRelation.DELAY);
@@ -130,14 +151,8 @@ public class RedmineJSONBuilder {
 	public static <T> String toSimpleJSON(String tag, T object,
 			JsonObjectWriter<T> writer) throws RedmineInternalError {
 		final StringWriter swriter = new StringWriter();
-		final JSONWriter jsWriter = new JSONWriter(swriter);
 		try {
-			jsWriter.object();
-			jsWriter.key(tag);
-			jsWriter.object();
-			writer.write(jsWriter, object);
-			jsWriter.endObject();
-			jsWriter.endObject();
+			writeSimpleJSON(swriter, tag, object, writer);
 		} catch (JSONException e) {
 			throw new RedmineInternalError("Unexpected JSONException", e);
 		}
@@ -145,6 +160,24 @@ public class RedmineJSONBuilder {
 		return swriter.toString();
 	}
 
+	/**
+	 * Writes object as a "simple" json directly to the output, see
+	 * {@link #toSimpleJSON(String, Object, JsonObjectWriter)}.
+	 * 
+	 * @throws JSONException
+	 *             if conversion fails or the output throws IOException.
+	 */
+	public static <T> void writeSimpleJSON(Writer output, String tag, T object,
+			JsonObjectWriter<T> writer) throws JSONException {
+		final JSONWriter jsWriter = new JSONWriter(output);
+		jsWriter.object();
+		jsWriter.key(tag);
+		jsWriter.object();
+		writer.write(jsWriter, object);
+		jsWriter.endObject();
+		jsWriter.endObject();
+	}
+
 	public static void writeProject(Project project, final JSONWriter writer)
 			throws JSONException {
 		PropertyStorage storage = project.getStorage();
@@ -16,6 +16,7 @@ import com.taskadapter.redmineapi.bean.JournalDetail;
 import com.taskadapter.redmineapi.bean.Membership;
 import com.taskadapter.redmineapi.bean.News;
 import com.taskadapter.redmineapi.bean.Project;
+import com.taskadapter.redmineapi.bean.Property;
 import com.taskadapter.redmineapi.bean.Role;
 import com.taskadapter.redmineapi.bean.SavedQuery;
 import com.taskadapter.redmineapi.bean.TimeEntry;
@@ -33,16 +34,69 @@ import org.json.JSONObject;
 
 import java.text.ParseException;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Date;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.function.Consumer;
 
 /**
  * A parser for JSON items sent by Redmine.
  */
 public final class RedmineJSONParser {
 
+	/**
+	 * Names of statuses, trackers, priorities, projects, users etc. repeat in every object of a list.
+	 * Parsed objects share canonical copies of those names.
+	 */
+	private static final StringPool NAMES = new StringPool(4096, 128);
+
+	/**
+	 * JSON fields holding values of Issue properties.
+	 */
+	private static final Map<Property<?>, String> ISSUE_JSON_FIELDS = new HashMap<>();
+
+	static {
+		ISSUE_JSON_FIELDS.put(Issue.DATABASE_ID, "id");
+		ISSUE_JSON_FIELDS.put(Issue.SUBJECT, "subject");
+		ISSUE_JSON_FIELDS.put(Issue.START_DATE, "start_date");
+		ISSUE_JSON_FIELDS.put(Issue.DUE_DATE, "due_date");
+		ISSUE_JSON_FIELDS.put(Issue.CREATED_ON, "created_on");
+		ISSUE_JSON_FIELDS.put(Issue.UPDATED_ON, "updated_on");
+		ISSUE_JSON_FIELDS.put(Issue.CLOSED_ON, "closed_on");
+		ISSUE_JSON_FIELDS.put(Issue.DONE_RATIO, "done_ratio");
+		ISSUE_JSON_FIELDS.put(Issue.PARENT_ID, "parent");
+		ISSUE_JSON_FIELDS.put(Issue.PRIORITY_ID, "priority");
+		ISSUE_JSON_FIELDS.put(Issue.PRIORITY_TEXT, "priority");
+		ISSUE_JSON_FIELDS.put(Issue.ESTIMATED_HOURS, "estimated_hours");
+		ISSUE_JSON_FIELDS.put(Issue.SPENT_HOURS, "spent_hours");
+		ISSUE_JSON_FIELDS.put(Issue.ASSIGNEE_ID, "assigned_to");
+		ISSUE_JSON_FIELDS.put(Issue.ASSIGNEE_NAME, "assigned_to");
+		ISSUE_JSON_FIELDS.put(Issue.NOTES, "notes");
+		ISSUE_JSON_FIELDS.put(Issue.PRIVATE_NOTES, "private_notes");
+		ISSUE_JSON_FIELDS.put(Issue.PROJECT_ID, "project");
+		ISSUE_JSON_FIELDS.put(Issue.PROJECT_NAME, "project");
+		ISSUE_JSON_FIELDS.put(Issue.AUTHOR_ID, "author");
+		ISSUE_JSON_FIELDS.put(Issue.AUTHOR_NAME, "author");
+		ISSUE_JSON_FIELDS.put(Issue.TRACKER, "tracker");
+		ISSUE_JSON_FIELDS.put(Issue.DESCRIPTION, "description");
+		ISSUE_JSON_FIELDS.put(Issue.STATUS_ID, "status");
+		ISSUE_JSON_FIELDS.put(Issue.STATUS_NAME, "status");
+		ISSUE_JSON_FIELDS.put(Issue.TARGET_VERSION, "fixed_version");
+		ISSUE_JSON_FIELDS.put(Issue.ISSUE_CATEGORY, "category");
+		ISSUE_JSON_FIELDS.put(Issue.PRIVATE_ISSUE, "is_private");
+		ISSUE_JSON_FIELDS.put(Issue.CUSTOM_FIELDS, "custom_fields");
+		ISSUE_JSON_FIELDS.put(Issue.JOURNALS, "journals");
+		ISSUE_JSON_FIELDS.put(Issue.RELATIONS, "relations");
+		ISSUE_JSON_FIELDS.put(Issue.ATTACHMENTS, "attachments");
+		ISSUE_JSON_FIELDS.put(Issue.CHANGESETS, "changesets");
+		ISSUE_JSON_FIELDS.put(Issue.WATCHERS, "watchers");
+		ISSUE_JSON_FIELDS.put(Issue.CHILDREN, "children");
+	}
+
 	/**
 	 * Parses a tracker.
 	 *
@@ -52,7 +106,7 @@ public final class RedmineJSONParser {
 	 */
 	public static Tracker parseTracker(JSONObject object) throws JSONException {
 		final int id = JsonInput.getInt(object, "id");
-		final String name = JsonInput.getStringNotNull(object, "name");
+		final String name = NAMES.canonical(JsonInput.getStringNotNull(object, "name"));
 		return new Tracker().setId(id).setName(name);
 	}
 
@@ -66,7 +120,7 @@ public final class RedmineJSONParser {
 	public static IssueStatus parseStatus(JSONObject object)
 			throws JSONException {
 		final int id = JsonInput.getInt(object, "id");
-		final String name = JsonInput.getStringNotNull(object, "name");
+		final String name = NAMES.canonical(JsonInput.getStringNotNull(object, "name"));
 		final IssueStatus result = new IssueStatus().setId(id).setName(name);
 		if (object.has("is_default"))
 			result.setDefaultStatus(JsonInput.getOptionalBool(object,
@@ -106,19 +160,18 @@ public final class RedmineJSONParser {
 				"project");
 		if (projectObject != null) {
 			result.setProjectId(JsonInput.getIntOrNull(projectObject, "id"));
-			result.setProjectName(JsonInput.getStringOrNull(projectObject,
-					"name"));
+			result.setProjectName(getNameOrNull(projectObject));
 		}
 		final JSONObject user = JsonInput.getObjectOrNull(object, "user");
 		if (user != null) {
 			result.setUserId(JsonInput.getIntOrNull(user, "id"));
-			result.setUserName(JsonInput.getStringOrNull(user, "name"));
+			result.setUserName(getNameOrNull(user));
 		}
 		final JSONObject activity = JsonInput.getObjectOrNull(object,
 				"activity");
 		if (activity != null) {
 			result.setActivityId(JsonInput.getIntOrNull(activity, "id"));
-			result.setActivityName(JsonInput.getStringOrNull(activity, "name"));
+			result.setActivityName(getNameOrNull(activity));
 		}
 		result.setHours(JsonInput.getFloatOrNull(object, "hours"));
 		result.setComment(JsonInput.getStringOrEmpty(object, "comments"));
@@ -139,8 +192,8 @@ public final class RedmineJSONParser {
 	public static Project parseMinimalProject(JSONObject content)
 			throws JSONException {
 		final Project result = new Project(null).setId(JsonInput.getInt(content, "id"));
-		result.setIdentifier(JsonInput.getStringOrNull(content, "identifier"));
-		result.setName(JsonInput.getStringNotNull(content, "name"));
+		result.setIdentifier(NAMES.canonical(JsonInput.getStringOrNull(content, "identifier")));
+		result.setName(NAMES.canonical(JsonInput.getStringNotNull(content, "name")));
 		return result;
 	}
 
@@ -166,81 +219,155 @@ public final class RedmineJSONParser {
 		if (parentProject != null)
 			result.setParentId(JsonInput.getInt(parentProject, "id"));
 		result.setStatus(JsonInput.getIntOrNull(content, "status"));
-		result.addTrackers(JsonInput.getListOrEmpty(content, "trackers", RedmineJSONParser::parseTracker));
-        result.addCustomFields(JsonInput.getListOrEmpty(content, "custom_fields", RedmineJSONParser::parseCustomField));
+		addIfNotEmpty(result::addTrackers, JsonInput.getListOrEmpty(content, "trackers", RedmineJSONParser::parseTracker));
+        addIfNotEmpty(result::addCustomFields, JsonInput.getListOrEmpty(content, "custom_fields", RedmineJSONParser::parseCustomField));
 		return result;
 	}
 
-	@SuppressWarnings("deprecation")
 	public static Issue parseIssue(JSONObject content) throws JSONException {
-		final Issue result = new Issue().setId(JsonInput.getIntOrNull(content, "id"))
-			.setSubject(JsonInput.getStringOrNull(content, "subject"));
-		final JSONObject parentIssueObject = JsonInput.getObjectOrNull(content,
-				"parent");
-		if (parentIssueObject != null)
-			result.setParentId(JsonInput.getInt(parentIssueObject, "id"));
-		result.setEstimatedHours(JsonInput.getFloatOrNull(content,
-				"estimated_hours"));
-		result.setSpentHours(JsonInput.getFloatOrNull(content, "spent_hours"));
+		return parseIssue(content, null);
+	}
+
+	/**
+	 * Parses the given issue properties only, all other properties stay unset. The ID is always parsed.
+	 *
+	 * @param properties Issue properties to parse, NULL to parse all.
+	 */
+	@SuppressWarnings("deprecation")
+	public static Issue parseIssue(JSONObject content, Set<Property<?>> properties) throws JSONException {
+		final Issue result = new Issue().setId(JsonInput.getIntOrNull(content, "id"));
+		if (wants(properties, Issue.SUBJECT))
+			result.setSubject(JsonInput.getStringOrNull(content, "subject"));
+		if (wants(properties, Issue.PARENT_ID)) {
+			final JSONObject parentIssueObject = JsonInput.getObjectOrNull(content,
+					"parent");
+			if (parentIssueObject != null)
+				result.setParentId(JsonInput.getInt(parentIssueObject, "id"));
+		}
+		if (wants(properties, Issue.ESTIMATED_HOURS))
+			result.setEstimatedHours(JsonInput.getFloatOrNull(content,
+					"estimated_hours"));
+		if (wants(properties, Issue.SPENT_HOURS))
+			result.setSpentHours(JsonInput.getFloatOrNull(content, "spent_hours"));
 		JSONObject assignedToObject = JsonInput.getObjectOrNull(content, "assigned_to");
 		if (assignedToObject != null) {
-			result.setAssigneeId(JsonInput.getIntOrNull(assignedToObject, "id"));
-			result.setAssigneeName(JsonInput.getStringNotNull(assignedToObject, "name"));
+			if (wants(properties, Issue.ASSIGNEE_ID))
+				result.setAssigneeId(JsonInput.getIntOrNull(assignedToObject, "id"));
+			if (wants(properties, Issue.ASSIGNEE_NAME))
+				result.setAssigneeName(NAMES.canonical(JsonInput.getStringNotNull(assignedToObject, "name")));
 		}
 
 		final JSONObject priorityObject = JsonInput.getObjectOrNull(content,
 				"priority");
 		if (priorityObject != null) {
-			result.setPriorityText(JsonInput.getStringOrNull(priorityObject,
-					"name"));
-			result.setPriorityId(JsonInput.getIntOrNull(priorityObject, "id"));
+			if (wants(properties, Issue.PRIORITY_TEXT))
+				result.setPriorityText(getNameOrNull(priorityObject));
+			if (wants(properties, Issue.PRIORITY_ID))
+				result.setPriorityId(JsonInput.getIntOrNull(priorityObject, "id"));
 		}
 
-		result.setDoneRatio(JsonInput.getIntOrNull(content, "done_ratio"));
-		final Project project = JsonInput.getObjectOrNull(content, "project", RedmineJSONParser::parseMinimalProject);
-		if (project != null) {
-			result.setProjectId(project.getId())
-					.setProjectName(project.getName());
+		if (wants(properties, Issue.DONE_RATIO))
+			result.setDoneRatio(JsonInput.getIntOrNull(content, "done_ratio"));
+		final JSONObject projectObject = JsonInput.getObjectOrNull(content, "project");
+		if (projectObject != null) {
+			if (wants(properties, Issue.PROJECT_ID))
+				result.setProjectId(JsonInput.getInt(projectObject, "id"));
+			if (wants(properties, Issue.PROJECT_NAME))
+				result.setProjectName(NAMES.canonical(JsonInput.getStringNotNull(projectObject, "name")));
 		}
-		final User author = JsonInput.getObjectOrNull(content, "author", RedmineJSONParser::parseUser);
-		if (author != null) {
-			result.setAuthorId(author.getId());
-			result.setAuthorName(author.getFullName());
+		final JSONObject authorObject = JsonInput.getObjectOrNull(content, "author");
+		if (authorObject != null) {
+			if (wants(properties, Issue.AUTHOR_ID))
+				result.setAuthorId(JsonInput.getIntOrNull(authorObject, "id"));
+			if (wants(properties, Issue.AUTHOR_NAME))
+				result.setAuthorName(getNameOrNull(authorObject));
 		}
-		result.setStartDate(getDateOrNull(content, "start_date"));
-		result.setDueDate(getDateOrNull(content, "due_date"));
-		result.setTracker(JsonInput.getObjectOrNull(content, "tracker", RedmineJSONParser::parseTracker));
-		result.setDescription(JsonInput.getStringOrNull(content, "description"));
-		result.setCreatedOn(getDateOrNull(content, "created_on"));
-		result.setUpdatedOn(getDateOrNull(content, "updated_on"));
-		result.setClosedOn(getDateOrNull(content, "closed_on"));
+		if (wants(properties, Issue.START_DATE))
+			result.setStartDate(getDateOrNull(content, "start_date"));
+		if (wants(properties, Issue.DUE_DATE))
+			result.setDueDate(getDateOrNull(content, "due_date"));
+		if (wants(properties, Issue.TRACKER))
+			result.setTracker(JsonInput.getObjectOrNull(content, "tracker", RedmineJSONParser::parseTracker));
+		if (wants(properties, Issue.DESCRIPTION))
+			result.setDescription(JsonInput.getStringOrNull(content, "description"));
+		if (wants(properties, Issue.CREATED_ON))
+			result.setCreatedOn(getDateOrNull(content, "created_on"));
+		if (wants(properties, Issue.UPDATED_ON))
+			result.setUpdatedOn(getDateOrNull(content, "updated_on"));
+		if (wants(properties, Issue.CLOSED_ON))
+			result.setClosedOn(getDateOrNull(content, "closed_on"));
 		final JSONObject statusObject = JsonInput.getObjectOrNull(content,
 				"status");
 		if (statusObject != null) {
-			result.setStatusName(JsonInput
-					.getStringOrNull(statusObject, "name"));
-			result.setStatusId(JsonInput.getIntOrNull(statusObject, "id"));
+			if (wants(properties, Issue.STATUS_NAME))
+				result.setStatusName(getNameOrNull(statusObject));
+			if (wants(properties, Issue.STATUS_ID))
+				result.setStatusId(JsonInput.getIntOrNull(statusObject, "id"));
 		}
 
-		result.setPrivateIssue(JsonInput.getOptionalBool(content, "is_private"));
-
-		result.addCustomFields(JsonInput.getListOrEmpty(content,
-				"custom_fields", RedmineJSONParser::parseCustomField));
-		result.setNotes(JsonInput.getStringOrNull(content, "notes"));
-		result.addJournals(JsonInput.getListOrEmpty(content, "journals", RedmineJSONParser::parseJournal));
-		result.addAttachments(
-				JsonInput.getListOrEmpty(content, "attachments",
-						RedmineJSONParser::parseAttachments));
-		result.addRelations(JsonInput.getListOrEmpty(content, "relations", RedmineJSONParser::parseRelation));
-		result.setTargetVersion(JsonInput.getObjectOrNull(content, "fixed_version", RedmineJSONParser::parseVersion));
-		result.setCategory(JsonInput.getObjectOrNull(content, "category",
-				RedmineJSONParser::parseCategory));
-		result.addChangesets(JsonInput.getListOrEmpty(content, "changesets", RedmineJSONParser::parseChangeset));
-		result.addWatchers(JsonInput.getListOrEmpty(content, "watchers", RedmineJSONParser::parseWatcher));
-		result.addChildren(JsonInput.getListOrEmpty(content, "children", RedmineJSONParser::parseIssue));
+		if (wants(properties, Issue.PRIVATE_ISSUE))
+			result.setPrivateIssue(JsonInput.getOptionalBool(content, "is_private"));
+
+		if (wants(properties, Issue.CUSTOM_FIELDS))
+			addIfNotEmpty(result::addCustomFields, JsonInput.getListOrEmpty(content,
+					"custom_fields", RedmineJSONParser::parseCustomField));
+		if (wants(properties, Issue.NOTES))
+			result.setNotes(JsonInput.getStringOrNull(content, "notes"));
+		if (wants(properties, Issue.JOURNALS))
+			addIfNotEmpty(result::addJournals, JsonInput.getListOrEmpty(content, "journals", RedmineJSONParser::parseJournal));
+		if (wants(properties, Issue.ATTACHMENTS))
+			addIfNotEmpty(result::addAttachments,
+					JsonInput.getListOrEmpty(content, "attachments",
+							RedmineJSONParser::parseAttachments));
+		if (wants(properties, Issue.RELATIONS))
+			addIfNotEmpty(result::addRelations, JsonInput.getListOrEmpty(content, "relations", RedmineJSONParser::parseRelation));
+		if (wants(properties, Issue.TARGET_VERSION))
+			result.setTargetVersion(JsonInput.getObjectOrNull(content, "fixed_version", RedmineJSONParser::parseVersion));
+		if (wants(properties, Issue.ISSUE_CATEGORY))
+			result.setCategory(JsonInput.getObjectOrNull(content, "category",
+					RedmineJSONParser::parseCategory));
+		if (wants(properties, Issue.CHANGESETS))
+			addIfNotEmpty(result::addChangesets, JsonInput.getListOrEmpty(content, "changesets", RedmineJSONParser::parseChangeset));
+		if (wants(properties, Issue.WATCHERS))
+			addIfNotEmpty(result::addWatchers, JsonInput.getListOrEmpty(content, "watchers", RedmineJSONParser::parseWatcher));
+		if (wants(properties, Issue.CHILDREN))
+			addIfNotEmpty(result::addChildren, JsonInput.getListOrEmpty(content, "children", RedmineJSONParser::parseIssue));
 		return result;
 	}
 
+	private static boolean wants(Set<Property<?>> properties, Property<?> property) {
+		return properties == null || properties.contains(property);
+	}
+
+	/**
+	 * Arrays missing from the response are parsed as empty lists. They are not passed to the bean, so that it does
+	 * not allocate a set for them and does not mark the property as set.
+	 */
+	private static <T> void addIfNotEmpty(Consumer<List<T>> adder, List<T> elements) {
+		if (!elements.isEmpty()) {
+			adder.accept(elements);
+		}
+	}
+
+	/**
+	 * Creates a projection which reads only the given Issue properties (plus the ID) from issue lists.
+	 *
+	 * @throws IllegalArgumentException if a property is not an Issue property.
+	 */
+	public static Projection<Issue> issueProjection(Collection<? extends Property<?>> properties) {
+		final Set<Property<?>> wanted = new HashSet<>(properties);
+		final Set<String> jsonFields = new HashSet<>();
+		jsonFields.add("id");
+		for (Property<?> property : wanted) {
+			final String field = ISSUE_JSON_FIELDS.get(property);
+			if (field == null) {
+				throw new IllegalArgumentException(property + " is not an Issue property");
+			}
+			jsonFields.add(field);
+		}
+		return new Projection<>(jsonFields, json -> parseIssue(json, wanted));
+	}
+
 	public static IssueCategory parseCategory(JSONObject content)
 			throws JSONException {
 		final IssueCategory result = new IssueCategory(null).setId(JsonInput.getInt(content, "id"));
@@ -366,15 +493,15 @@ public final class RedmineJSONParser {
 		result.setCreatedOn(getDateOrNull(content, "created_on"));
 		result.setLastLoginOn(getDateOrNull(content, "last_login_on"));
                 result.setApiKey(JsonInput.getStringOrNull(content, "api_key"));
-		result.addCustomFields(JsonInput.getListOrEmpty(content,
+		addIfNotEmpty(result::addCustomFields, JsonInput.getListOrEmpty(content,
 				"custom_fields", RedmineJSONParser::parseCustomField));
 		result.setStatus(JsonInput.getIntOrNull(content, "status"));
 		final String name = JsonInput.getStringOrNull(content, "name");
 		if (name != null)
 			result.setFullName(name);
-		result.addMemberships(JsonInput.getListOrEmpty(content, "memberships",
+		addIfNotEmpty(result::addMemberships, JsonInput.getListOrEmpty(content, "memberships",
 				RedmineJSONParser::parseMembership));
-		result.addGroups(JsonInput.getListOrEmpty(content, "groups",
+		addIfNotEmpty(result::addGroups, JsonInput.getListOrEmpty(content, "groups",
 				RedmineJSONParser::parseGroup));
 		/* Fix user for membership */
 		for (Membership m : result.getMemberships())
@@ -479,6 +606,13 @@ public final class RedmineJSONParser {
 		return result;
 	}
 
+	/**
+	 * @return canonical copy of the "name" field of a reference object like {"id": 3, "name": "Bug"}.
+	 */
+	private static String getNameOrNull(JSONObject obj) throws JSONException {
+		return NAMES.canonical(JsonInput.getStringOrNull(obj, "name"));
+	}
+
 	/**
 	 * Fetches an optional date from an object.
 	 *
@@ -0,0 +1,153 @@
+package com.taskadapter.redmineapi.internal;
+
+import com.taskadapter.redmineapi.NotFoundException;
+import com.taskadapter.redmineapi.RedmineException;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Groups single-object lookups ("get issue 5", "get issue 7", ...) made by different threads at about the same
+ * time and loads them with one list request.
+ * <p>
+ * The first lookup of a group waits for the configured time window (or until the group is full), then loads
+ * the whole group. Other threads just wait for their own result. Lookups with different classes or
+ * parameters (e.g. "include") are never mixed.
+ */
+final class RequestCoalescer {
+
+    /**
+     * Loads objects of one group.
+     */
+    interface BatchLoader {
+        /**
+         * @return loaded objects by their keys. Objects which are not found must be absent.
+         */
+        Map<String, ?> load(Class<?> objectClass, Collection<String> keys, List<RequestParam> params)
+                throws RedmineException;
+    }
+
+    private final BatchLoader loader;
+    private final long windowNanos;
+    private final int maxBatchSize;
+    private final Map<BatchKey, Lookups> pending = new HashMap<>();
+
+    RequestCoalescer(BatchLoader loader, long window, TimeUnit unit, int maxBatchSize) {
+        this.loader = loader;
+        this.windowNanos = unit.toNanos(window);
+        this.maxBatchSize = maxBatchSize;
+    }
+
+    <T> T get(Class<T> objectClass, String key, List<RequestParam> params) throws RedmineException {
+        final BatchKey batchKey = new BatchKey(objectClass, params);
+        final Lookups lookups;
+        final CompletableFuture<Object> result;
+        final boolean leader;
+        synchronized (pending) {
+            Lookups current = pending.get(batchKey);
+            leader = current == null;
+            if (leader) {
+                current = new Lookups(batchKey);
+                pending.put(batchKey, current);
+            }
+            result = current.add(key);
+            if (current.size() >= maxBatchSize) {
+                pending.remove(batchKey);
+                current.full.countDown();
+            }
+            lookups = current;
+        }
+        if (leader) {
+            try {
+                lookups.full.await(windowNanos, TimeUnit.NANOSECONDS);
+            } catch (InterruptedException e) {
+                // other threads are waiting for this group, so load it anyway
+                Thread.currentThread().interrupt();
+            }
+            synchronized (pending) {
+                pending.remove(batchKey, lookups);
+            }
+            lookups.load(loader);
+        }
+        return objectClass.cast(ParallelCalls.await(result));
+    }
+
+    /**
+     * Lookups which can be loaded with one request.
+     */
+    static final class Lookups {
+        private final BatchKey key;
+        private final Map<String, CompletableFuture<Object>> futures = new LinkedHashMap<>();
+        private final CountDownLatch full = new CountDownLatch(1);
+
+        Lookups(BatchKey key) {
+            this.key = key;
+        }
+
+        CompletableFuture<Object> add(String id) {
+            return futures.computeIfAbsent(id, k -> new CompletableFuture<>());
+        }
+
+        int size() {
+            return futures.size();
+        }
+
+        /**
+         * Loads all objects and completes their futures. Never throws.
+         */
+        void load(BatchLoader loader) {
+            try {
+                final Map<String, ?> loaded = loader.load(key.objectClass, futures.keySet(), key.params);
+                futures.forEach((id, future) -> {
+                    final Object object = loaded.get(id);
+                    if (object == null) {
+                        future.completeExceptionally(new NotFoundException(key.objectClass.getSimpleName()
+                                + " with id " + id + " is not found or is not visible to the current user"));
+                    } else {
+                        future.complete(object);
+                    }
+                });
+            } catch (RedmineException | RuntimeException e) {
+                fail(e);
+            }
+        }
+
+        /**
+         * Completes futures which are not completed yet with the error.
+         */
+        void fail(Throwable error) {
+            futures.values().forEach(future -> future.completeExceptionally(error));
+        }
+    }
+
+    static final class BatchKey {
+        private final Class<?> objectClass;
+        private final List<RequestParam> params;
+
+        BatchKey(Class<?> objectClass, List<RequestParam> params) {
+            this.objectClass = objectClass;
+            this.params = params;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (o == null || getClass() != o.getClass()) return false;
+            BatchKey that = (BatchKey) o;
+            return objectClass.equals(that.objectClass) &&
+                    params.equals(that.params);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(objectClass, params);
+        }
+    }
+}
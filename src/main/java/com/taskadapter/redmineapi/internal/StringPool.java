@@ -0,0 +1,45 @@
+package com.taskadapter.redmineapi.internal;
+
+/**
+ * Bounded table of canonical String instances for low-cardinality values like status, tracker or project names.
+ * Objects parsed from many responses then share one copy of each name instead of keeping their own.
+ * <p>
+ * This is a direct-mapped cache: a value takes over the slot of its hash, replacing whatever was there. Memory stays
+ * bounded and a collision only costs a duplicate string. Racy slot updates are harmless since Strings are immutable,
+ * so no locking is needed. Long strings are never pooled.
+ */
+final class StringPool {
+    private final String[] slots;
+    private final int mask;
+    private final int maxLength;
+
+    /**
+     * @param capacity  number of slots, must be a power of two.
+     * @param maxLength longer strings are returned as is.
+     */
+    StringPool(int capacity, int maxLength) {
+        if (capacity <= 0 || Integer.bitCount(capacity) != 1) {
+            throw new IllegalArgumentException("Capacity must be a power of two. You provided: " + capacity);
+        }
+        this.slots = new String[capacity];
+        this.mask = capacity - 1;
+        this.maxLength = maxLength;
+    }
+
+    /**
+     * @return a previously seen String equal to the value, or the value itself. NULL for NULL.
+     */
+    String canonical(String value) {
+        if (value == null || value.length() > maxLength) {
+            return value;
+        }
+        final int hash = value.hashCode();
+        final int index = (hash ^ (hash >>> 16)) & mask;
+        final String cached = slots[index];
+        if (value.equals(cached)) {
+            return cached;
+        }
+        slots[index] = value;
+        return value;
+    }
+}
@@ -1,11 +1,18 @@
 package com.taskadapter.redmineapi.internal;
 
+import com.taskadapter.redmineapi.CircuitBreaker;
+import com.taskadapter.redmineapi.Include;
+import com.taskadapter.redmineapi.IssueManager;
 import com.taskadapter.redmineapi.NotFoundException;
 import com.taskadapter.redmineapi.RedmineAuthenticationException;
 import com.taskadapter.redmineapi.RedmineException;
 import com.taskadapter.redmineapi.RedmineFormatException;
 import com.taskadapter.redmineapi.RedmineInternalError;
 import com.taskadapter.redmineapi.RedmineManager;
+import com.taskadapter.redmineapi.RedmineTransportException;
+import com.taskadapter.redmineapi.RateLimiter;
+import com.taskadapter.redmineapi.ReferenceDataCache;
+import com.taskadapter.redmineapi.RetryPolicy;
 import com.taskadapter.redmineapi.bean.Attachment;
 import com.taskadapter.redmineapi.bean.CustomFieldDefinition;
 import com.taskadapter.redmineapi.bean.File;
@@ -32,17 +39,26 @@ import com.taskadapter.redmineapi.bean.WikiPage;
 import com.taskadapter.redmineapi.bean.WikiPageDetail;
 import com.taskadapter.redmineapi.internal.comm.BaseCommunicator;
 import com.taskadapter.redmineapi.internal.comm.BasicHttpResponse;
+import com.taskadapter.redmineapi.internal.comm.CircuitBreakerCommunicator;
 import com.taskadapter.redmineapi.internal.comm.Communicator;
 import com.taskadapter.redmineapi.internal.comm.Communicators;
 import com.taskadapter.redmineapi.internal.comm.ContentHandler;
-import com.taskadapter.redmineapi.internal.comm.SimpleCommunicator;
+import com.taskadapter.redmineapi.internal.comm.RateLimitingCommunicator;
+import com.taskadapter.redmineapi.internal.comm.RetryingCommunicator;
+import com.taskadapter.redmineapi.internal.comm.SingleFlightCommunicator;
 import com.taskadapter.redmineapi.internal.comm.redmine.RedmineAuthenticator;
 import com.taskadapter.redmineapi.internal.comm.redmine.RedmineErrorHandler;
+import com.taskadapter.redmineapi.internal.io.CountingInputStream;
 import com.taskadapter.redmineapi.internal.json.JsonInput;
+import com.taskadapter.redmineapi.internal.json.JsonListReader;
 import com.taskadapter.redmineapi.internal.json.JsonObjectParser;
 import com.taskadapter.redmineapi.internal.json.JsonObjectWriter;
+import com.taskadapter.redmineapi.metrics.TransportMetrics;
+import com.taskadapter.redmineapi.metrics.TransportMetrics.Phase;
+import org.apache.http.HttpEntity;
 import org.apache.http.HttpEntityEnclosingRequest;
 import org.apache.http.HttpResponse;
+import org.apache.http.HttpStatus;
 import org.apache.http.client.HttpClient;
 import org.apache.http.client.methods.HttpDelete;
 import org.apache.http.client.methods.HttpGet;
@@ -50,6 +66,7 @@ import org.apache.http.client.methods.HttpPost;
 import org.apache.http.client.methods.HttpPut;
 import org.apache.http.client.methods.HttpRequestBase;
 import org.apache.http.entity.AbstractHttpEntity;
+import org.apache.http.entity.BufferedHttpEntity;
 import org.apache.http.entity.InputStreamEntity;
 import org.apache.http.entity.StringEntity;
 import org.json.JSONException;
@@ -58,7 +75,9 @@ import org.json.JSONWriter;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.io.IOException;
 import java.io.InputStream;
+import java.io.Reader;
 import java.io.StringWriter;
 import java.net.URI;
 import java.nio.charset.UnsupportedCharsetException;
@@ -66,8 +85,19 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 public class Transport {
 	private static final Map<Class<?>, EntityConfig<?>> OBJECT_CONFIGS = new HashMap<>();
@@ -76,10 +106,17 @@ public class Transport {
 	private static final String KEY_TOTAL_COUNT = "total_count";
 	private static final String KEY_LIMIT = "limit";
 	private static final String KEY_OFFSET = "offset";
+	private static final Set<String> BATCHABLE_ISSUE_INCLUDES = Set.of(
+			Include.relations.name(), Include.attachments.name());
 
 	private final Logger logger = LoggerFactory.getLogger(RedmineManager.class);
-	private SimpleCommunicator<String> communicator;
+	private CircuitBreakerCommunicator circuitBreakerCommunicator;
+	private RateLimitingCommunicator rateLimitingCommunicator;
+	private RetryingCommunicator retryingCommunicator;
 	private Communicator<BasicHttpResponse> errorCheckingCommunicator;
+	private Communicator<BasicHttpResponse> requestCommunicator;
+	private volatile TransportMetrics metrics;
+	private volatile boolean bufferRequestBodies;
 	private Communicator<HttpResponse> authenticator;
 
     private String onBehalfOfUser = null;
@@ -183,6 +220,12 @@ public class Transport {
 	private int objectsPerPage = DEFAULT_OBJECTS_PER_PAGE;
 	private static final String CHARSET = "UTF-8";
 
+	private Executor executor;
+	private int maxParallelRequests = 1;
+	private RequestCoalescer coalescer;
+	private ReferenceDataCache referenceDataCache;
+	private ConditionalGetCache conditionalGetCache;
+
 	public Transport(URIConfigurator configurator, HttpClient client) {
 		var baseCommunicator = new BaseCommunicator(client);
 		var redmineAuthenticator = new RedmineAuthenticator<>(baseCommunicator, CHARSET);
@@ -197,21 +240,19 @@ public class Transport {
 		this.configurator = configurator;
 		this.authenticator = communicator;
 		final ContentHandler<BasicHttpResponse, BasicHttpResponse> errorProcessor = new RedmineErrorHandler();
-		errorCheckingCommunicator = Communicators.fmap(
-				authenticator,
-				Communicators.compose(errorProcessor,
-						Communicators.transportDecoder()));
-		Communicator<String> coreCommunicator = Communicators.fmap(errorCheckingCommunicator,
-				Communicators.contentReader());
-		this.communicator = Communicators.simplify(coreCommunicator,
-				Communicators.<String>identityHandler());
+		circuitBreakerCommunicator = new CircuitBreakerCommunicator(
+				Communicators.fmap(authenticator, Communicators.transportDecoder()));
+		rateLimitingCommunicator = new RateLimitingCommunicator(circuitBreakerCommunicator);
+		retryingCommunicator = new RetryingCommunicator(rateLimitingCommunicator);
+		errorCheckingCommunicator = Communicators.fmap(retryingCommunicator, errorProcessor);
+		requestCommunicator = errorCheckingCommunicator;
 	}
 
 	public User getCurrentUser(RequestParam... params) throws RedmineException {
 		URI uri = getURIConfigurator().createURI("users/current.json", params);
 		HttpGet http = new HttpGet(uri);
-		String response = send(http);
-		return parseResponse(response, "user", RedmineJSONParser::parseUser);
+		String response = send(User.class, http);
+		return parseResponse(User.class, http, response, "user", RedmineJSONParser::parseUser);
 	}
 
 	/**
@@ -233,11 +274,10 @@ public class Transport {
         }
 		URI uri = getURIConfigurator().getObjectsURI(object.getClass(), params);
 		HttpPost httpPost = new HttpPost(uri);
-		String body = RedmineJSONBuilder.toSimpleJSON(config.singleObjectName, object, config.writer);
-		setEntity(httpPost, body);
-		String response = send(httpPost);
+		setEntity(httpPost, config.singleObjectName, object, config.writer);
+		String response = send(object.getClass(), httpPost);
 		logger.debug(response);
-		return parseResponse(response, config.singleObjectName, config.parser);
+		return parseResponse(object.getClass(), httpPost, response, config.singleObjectName, config.parser);
 	}
 
 	/**
@@ -259,12 +299,10 @@ public class Transport {
 		URI uri = getURIConfigurator().getChildObjectsURI(parentClass,
 				parentId, object.getClass(), params);
 		HttpPost httpPost = new HttpPost(uri);
-		String body = RedmineJSONBuilder.toSimpleJSON(config.singleObjectName,
-				object, config.writer);
-		setEntity(httpPost, body);
-		String response = send(httpPost);
+		setEntity(httpPost, config.singleObjectName, object, config.writer);
+		String response = send(object.getClass(), httpPost);
 		logger.debug(response);
-		return parseResponse(response, config.singleObjectName, config.parser);
+		return parseResponse(object.getClass(), httpPost, response, config.singleObjectName, config.parser);
 	}
 
 	/*
@@ -284,10 +322,8 @@ public class Transport {
 		final URI uri = getURIConfigurator().getObjectURI(obj.getClass(),
 				Integer.toString(id), params);
 		final HttpPut http = new HttpPut(uri);
-		final String body = RedmineJSONBuilder.toSimpleJSON(
-				config.singleObjectName, obj, config.writer);
-		setEntity(http, body);
-		send(http);
+		setEntity(http, config.singleObjectName, obj, config.writer);
+		send(obj.getClass(), http);
 	}
 
 	/*
@@ -299,9 +335,8 @@ public class Transport {
 		final EntityConfig<T> config = getConfig(obj.getClass());
 		URI uri = getURIConfigurator().getChildIdURI(parentClass, parentId, obj.getClass(), objId, params);
 		final HttpPut http = new HttpPut(uri);
-		final String body = RedmineJSONBuilder.toSimpleJSON(config.singleObjectName, obj, config.writer);
-		setEntity(http, body);
-		send(http);
+		setEntity(http, config.singleObjectName, obj, config.writer);
+		send(obj.getClass(), http);
 	}
 
 	/**
@@ -319,7 +354,7 @@ public class Transport {
     public <T> void deleteChildId(Class<?> parentClass, String parentId, T object, Integer value) throws RedmineException {
         URI uri = getURIConfigurator().getChildIdURI(parentClass, parentId, object.getClass(), value);
         HttpDelete httpDelete = new HttpDelete(uri);
-        String response = send(httpDelete);
+        String response = send(object.getClass(), httpDelete);
         logger.debug(response);
     }
 
@@ -337,7 +372,7 @@ public class Transport {
 			throws RedmineException {
 		final URI uri = getURIConfigurator().getObjectURI(classs, id);
 		final HttpDelete http = new HttpDelete(uri);
-		send(http);
+		send(classs, http);
 	}
 
 	/**
@@ -356,12 +391,241 @@ public class Transport {
 	 */
 	public <T> T getObject(Class<T> classs, String key, RequestParam... params)
 			throws RedmineException {
+		if (coalescer != null && isBatchable(classs, key, params)) {
+			return coalescer.get(classs, key, normalizeBatchParams(params));
+		}
 		final EntityConfig<T> config = getConfig(classs);
 		final URI uri = getURIConfigurator().getObjectURI(classs, key, params);
 		final HttpGet http = new HttpGet(uri);
-		String response = send(http);
+		if (conditionalGetCache != null) {
+			final JSONObject response = getConditionally(classs, http);
+			final long start = System.nanoTime();
+			try {
+				return parseObject(response, config.singleObjectName, config.parser);
+			} catch (RedmineFormatException e) {
+				throw recordError(classs, http, e);
+			} finally {
+				recordPhase(classs, http, Phase.PARSE, start);
+			}
+		}
+		String response = send(classs, http);
 		logger.debug(response);
-		return parseResponse(response, config.singleObjectName, config.parser);
+		return parseResponse(classs, http, response, config.singleObjectName, config.parser);
+	}
+
+	/**
+	 * Sends the request with validators of the previous response, if there was one.
+	 */
+	private JSONObject getConditionally(Class<?> objectClass, HttpGet http) throws RedmineException {
+		final String cacheKey = onBehalfOfUser == null ? http.getURI().toString()
+				: http.getURI() + "\n" + onBehalfOfUser;
+		final ConditionalGetCache.Validators cached = conditionalGetCache.get(cacheKey);
+		if (cached != null) {
+			cached.addConditions(http);
+		}
+		return send(objectClass, http, response -> {
+			if (cached != null && response.getResponseCode() == HttpStatus.SC_NOT_MODIFIED) {
+				return conditionalGetCache.hit(cached);
+			}
+			final String body = Communicators.contentReader().processContent(response);
+			logger.debug(body);
+			try {
+				final JSONObject json = RedmineJSONParser.getResponse(body);
+				conditionalGetCache.put(cacheKey, response, json);
+				return json;
+			} catch (JSONException e) {
+				throw new RedmineFormatException(e);
+			}
+		});
+	}
+
+	/**
+	 * Loads objects with the given ids using a list request with an id filter, like "issue_id=1,2,3".
+	 * Objects which are not found are skipped.
+	 *
+	 * @param idFilter name of the filter parameter.
+	 * @param ids      ids to load. Keep their number below the page size limit of the server, otherwise
+	 *                 more than one request is needed.
+	 * @param params   other request parameters.
+	 */
+	public <T> List<T> getObjectsByIds(Class<T> objectClass, String idFilter, Collection<?> ids,
+									   Collection<? extends RequestParam> params) throws RedmineException {
+		final StringBuilder idsStr = new StringBuilder();
+		for (Object id : ids) {
+			if (idsStr.length() > 0) {
+				idsStr.append(',');
+			}
+			idsStr.append(id);
+		}
+		final List<T> result = new ArrayList<>(ids.size());
+		// server can return fewer objects than requested if its page size limit is lower than the number of ids
+		while (true) {
+			final List<RequestParam> newParams = new ArrayList<>(params);
+			newParams.add(new RequestParam(idFilter, idsStr.toString()));
+			newParams.add(new RequestParam("limit", String.valueOf(ids.size())));
+			newParams.add(new RequestParam("offset", String.valueOf(result.size())));
+			final ResultsWrapper<T> page = getObjectsListNoPaging(objectClass, newParams);
+			if (!page.hasSomeResults()) {
+				return result;
+			}
+			result.addAll(page.getResults());
+			final Integer total = page.getTotalFoundOnServer();
+			if (total == null || result.size() >= total) {
+				return result;
+			}
+		}
+	}
+
+	/**
+	 * Lists of objects cached by the given cache are returned from memory by
+	 * {@link #getObjectsList(Class, Collection)} while they are fresh. NULL disables caching (default).
+	 */
+	public void setReferenceDataCache(ReferenceDataCache cache) {
+		this.referenceDataCache = cache;
+	}
+
+	public ReferenceDataCache getReferenceDataCache() {
+		return referenceDataCache;
+	}
+
+	/**
+	 * Enables conditional GET requests for single objects (see {@link #getObject(Class, String, RequestParam...)}):
+	 * "ETag" and "Last-Modified" of responses are remembered in the cache, and when the server says that the object
+	 * did not change, the remembered response is used. NULL disables conditional requests (default).
+	 */
+	public void setConditionalGetCache(ConditionalGetCache cache) {
+		this.conditionalGetCache = cache;
+	}
+
+	/**
+	 * Measurements of all requests are reported to the given metrics. NULL disables measuring (default).
+	 */
+	public void setMetrics(TransportMetrics metrics) {
+		this.metrics = metrics;
+	}
+
+	/**
+	 * Failed requests are sent again as the policy says. NULL disables retries (default).
+	 */
+	public void setRetryPolicy(RetryPolicy policy) {
+		retryingCommunicator.setPolicy(policy);
+	}
+
+	/**
+	 * Requests are not sent while the breaker is open. Each retry made by {@link RetryPolicy} counts
+	 * as a separate request for the breaker. NULL disables the breaker (default).
+	 */
+	public void setCircuitBreaker(CircuitBreaker breaker) {
+		circuitBreakerCommunicator.setBreaker(breaker);
+	}
+
+	/**
+	 * Limits the rate of requests sent to the server. Reads (GET, HEAD) and writes (POST, PUT, DELETE)
+	 * have separate budgets, so that a burst of updates does not starve lookups and vice versa.
+	 * The same limiter may be passed for both to have a single budget. NULL means no limit (default).
+	 * <p>
+	 * Each request sent to the server takes one permit, including retries made by {@link RetryPolicy}.
+	 * Callers waiting for a shared GET (see {@link #setSingleFlightGets(boolean)}) take no permits.
+	 */
+	public void setRateLimiters(RateLimiter readLimiter, RateLimiter writeLimiter) {
+		rateLimitingCommunicator.setLimiters(readLimiter, writeLimiter);
+	}
+
+	/**
+	 * Create and update requests stream the object JSON into the connection with chunked transfer encoding
+	 * by default. When enabled, the body is serialized into memory first and sent with a "Content-Length" header,
+	 * for servers or proxies which reject chunked request bodies (HTTP 411). Disabled by default.
+	 */
+	public void setBufferRequestBodies(boolean enabled) {
+		this.bufferRequestBodies = enabled;
+	}
+
+	/**
+	 * When enabled, identical GET requests (same URI and same "on behalf of" user) running at the same time
+	 * are sent to the server only once: callers which come while the first request is in flight wait
+	 * for its response. Useful when many threads load the same reference data at once. Conditional GETs
+	 * are never shared.
+	 * <p>
+	 * GET responses are read into memory completely in this mode. Disabled by default.
+	 */
+	public void setSingleFlightGets(boolean enabled) {
+		requestCommunicator = enabled ? new SingleFlightCommunicator(errorCheckingCommunicator)
+				: errorCheckingCommunicator;
+	}
+
+	/**
+	 * Enables coalescing of single-object lookups: {@link #getObject(Class, String, RequestParam...)} calls which
+	 * are made by different threads within the time window are sent as one list request with an id filter.
+	 * Each caller still gets its own result or exception.
+	 * <p>
+	 * Only issue lookups are grouped, because Redmine supports an id filter for issues only. Issues must be
+	 * requested by numeric id with no parameters except "include" with "relations" or "attachments"
+	 * (other includes are not supported by the issues list). All other lookups are sent as usual.
+	 * <p>
+	 * Note that the first lookup of a group is delayed by the time window. Missing issues and issues not visible
+	 * to the current user are both reported as {@link NotFoundException}.
+	 *
+	 * @param window max time to wait for other lookups. 0 disables coalescing (default).
+	 */
+	public void setRequestCoalescing(long window, TimeUnit unit) {
+		if (window < 0) {
+			throw new IllegalArgumentException("Time window must be >= 0. You provided: " + window);
+		}
+		this.coalescer = window == 0 ? null
+				: new RequestCoalescer(this::getObjectsByKeys, window, unit, IssueManager.MAX_IDS_PER_REQUEST);
+	}
+
+	/**
+	 * Starts an explicit batch of single-object lookups. Unlike {@link #setRequestCoalescing(long, TimeUnit)},
+	 * nothing is sent until the batch is executed. See {@link ObjectBatch}.
+	 */
+	public ObjectBatch startBatch() {
+		return new ObjectBatch(this, this::getObjectsByKeys, IssueManager.MAX_IDS_PER_REQUEST);
+	}
+
+	boolean isBatchable(Class<?> objectClass, String key, RequestParam... params) {
+		if (objectClass != Issue.class || key == null || key.isEmpty() || !key.chars().allMatch(Character::isDigit)) {
+			return false;
+		}
+		for (RequestParam param : params) {
+			if (!param.getName().equals("include")) {
+				return false;
+			}
+			for (String include : param.getValue().split(",")) {
+				if (!include.isEmpty() && !BATCHABLE_ISSUE_INCLUDES.contains(include)) {
+					return false;
+				}
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * Empty "include" parameters are dropped, so that lookups with and without them can be grouped.
+	 */
+	static List<RequestParam> normalizeBatchParams(RequestParam... params) {
+		final List<RequestParam> result = new ArrayList<>();
+		for (RequestParam param : params) {
+			if (!param.getValue().isEmpty()) {
+				result.add(param);
+			}
+		}
+		return result;
+	}
+
+	private Map<String, Object> getObjectsByKeys(Class<?> objectClass, Collection<String> keys,
+												 List<RequestParam> params) throws RedmineException {
+		final List<RequestParam> newParams = new ArrayList<>(params);
+		// single issue lookup finds closed issues too
+		newParams.add(new RequestParam("status_id", "*"));
+		final Map<String, Object> result = new HashMap<>();
+		for (Object object : getObjectsByIds(objectClass, "issue_id", keys, newParams)) {
+			if (object instanceof FluentStyle) {
+				((FluentStyle) object).setTransport(this);
+			}
+			result.put(String.valueOf(((Identifiable) object).getId()), object);
+		}
+		return result;
 	}
 
 	/**
@@ -379,10 +643,7 @@ public class Transport {
 			ContentHandler<BasicHttpResponse, R> handler)
 			throws RedmineException {
 		final HttpGet request = new HttpGet(uri);
-        if (onBehalfOfUser != null) {
-            request.addHeader("X-Redmine-Switch-User", onBehalfOfUser);
-        }
-        return errorCheckingCommunicator.sendRequest(request, handler);
+        return send(Attachment.class, request, errorCheckingCommunicator, handler);
     }
 
 	/**
@@ -417,8 +678,9 @@ public class Transport {
 		entity.setContentType("application/octet-stream");
 		request.setEntity(entity);
 
-		final String result = send(request);
-		return parseResponse(result, "upload", input -> JsonInput.getStringNotNull(input, "token"));
+		final String result = send(Attachment.class, request);
+		return parseResponse(Attachment.class, request, result, "upload",
+				input -> JsonInput.getStringNotNull(input, "token"));
 	}
 
 	/**
@@ -454,32 +716,155 @@ public class Transport {
 	 */
 	public <T> List<T> getObjectsList(Class<T> objectClass,
 									  Collection<? extends RequestParam> params) throws RedmineException {
-		final List<T> result = new ArrayList<>();
-		int offset = 0;
+		if (referenceDataCache != null) {
+			return referenceDataCache.get(objectClass, params, () -> loadObjectsList(objectClass, params, null));
+		}
+		return loadObjectsList(objectClass, params, null);
+	}
 
-		Integer totalObjectsFoundOnServer;
-		do {
-			final List<RequestParam> newParams = new ArrayList<>(params);
-			newParams.add(new RequestParam("limit", String.valueOf(objectsPerPage)));
-			newParams.add(new RequestParam("offset", String.valueOf(offset)));
+	/**
+	 * Same as {@link #getObjectsList(Class, Collection)}, but only the fields of the projection are read.
+	 */
+	public <T> List<T> getObjectsList(Class<T> objectClass, Collection<? extends RequestParam> params,
+									  Projection<T> projection) throws RedmineException {
+		return loadObjectsList(objectClass, params, projection);
+	}
 
-			final ResultsWrapper<T> wrapper = getObjectsListNoPaging(objectClass, newParams);
-			result.addAll(wrapper.getResults());
+	private <T> List<T> loadObjectsList(Class<T> objectClass, Collection<? extends RequestParam> params,
+										Projection<T> projection) throws RedmineException {
+		final List<T> result = new ArrayList<>();
+		final ResultsWrapper<T> firstPage = getPage(objectClass, params, 0, projection);
+		result.addAll(firstPage.getResults());
 
-			totalObjectsFoundOnServer = wrapper.getTotalFoundOnServer();
-			// Necessary for trackers.
-			// TODO Alexey: is this still necessary for Redmine 2.x?
-			if (totalObjectsFoundOnServer == null) {
-				break;
-			}
+		final Integer totalObjectsFoundOnServer = firstPage.getTotalFoundOnServer();
+		// Necessary for trackers.
+		// TODO Alexey: is this still necessary for Redmine 2.x?
+		if (totalObjectsFoundOnServer == null || !firstPage.hasSomeResults()) {
+			return result;
+		}
+		if (executor != null && maxParallelRequests > 1) {
+			loadRemainingPagesInParallel(objectClass, params, projection, firstPage, result);
+			return result;
+		}
+		int offset = firstPage.getResultsNumber();
+		while (offset < totalObjectsFoundOnServer) {
+			final ResultsWrapper<T> wrapper = getPage(objectClass, params, offset, projection);
+			result.addAll(wrapper.getResults());
 			if (!wrapper.hasSomeResults()) {
 				break;
 			}
 			offset += wrapper.getResultsNumber();
-		} while (offset < totalObjectsFoundOnServer);
+		}
 		return result;
 	}
 
+	/**
+	 * Returns a lazy iterator over all objects found using the provided parameters. Unlike
+	 * {@link #getObjectsList(Class, Collection)}, pages are requested from the server only when the iterator
+	 * reaches the end of the current page, so memory usage is bounded by one page.
+	 * <p>
+	 * Server errors are thrown as {@link com.taskadapter.redmineapi.UncheckedRedmineException}
+	 * during the iteration.
+	 */
+	public <T> Iterator<T> iterateObjects(Class<T> objectClass, Collection<? extends RequestParam> params) {
+		return iterateObjects(objectClass, params, null);
+	}
+
+	/**
+	 * Same as {@link #iterateObjects(Class, Collection)}, but only the fields of the projection are read.
+	 * NULL projection reads all fields.
+	 */
+	public <T> Iterator<T> iterateObjects(Class<T> objectClass, Collection<? extends RequestParam> params,
+										  Projection<T> projection) {
+		final List<RequestParam> copy = new ArrayList<>(params);
+		return new PagingIterator<>(offset -> getPage(objectClass, copy, offset, projection));
+	}
+
+	/**
+	 * Same as {@link #iterateObjects(Class, Collection)}, but returns a sequential {@link Stream}.
+	 */
+	public <T> Stream<T> streamObjects(Class<T> objectClass, Collection<? extends RequestParam> params) {
+		return streamObjects(objectClass, params, null);
+	}
+
+	/**
+	 * Same as {@link #iterateObjects(Class, Collection, Projection)}, but returns a sequential {@link Stream}.
+	 */
+	public <T> Stream<T> streamObjects(Class<T> objectClass, Collection<? extends RequestParam> params,
+									   Projection<T> projection) {
+		final Iterator<T> iterator = iterateObjects(objectClass, params, projection);
+		return StreamSupport.stream(Spliterators.spliteratorUnknownSize(iterator,
+				Spliterator.ORDERED | Spliterator.NONNULL), false);
+	}
+
+	/**
+	 * Executes independent calls, at the same time when an executor is configured (see
+	 * {@link #setExecutor(Executor, int)}), one by one in the calling thread otherwise.
+	 * If a call fails, calls which are still waiting are cancelled and its exception is thrown.
+	 *
+	 * @return results in the order of calls.
+	 */
+	public <R> List<R> callAll(List<? extends RedmineCallable<? extends R>> calls) throws RedmineException {
+		final List<R> results = new ArrayList<>(calls.size());
+		if (executor == null || maxParallelRequests <= 1 || calls.size() <= 1) {
+			for (RedmineCallable<? extends R> call : calls) {
+				results.add(call.call());
+			}
+			return results;
+		}
+		ParallelCalls.runInOrder(executor, maxParallelRequests, calls.iterator(), results::add);
+		return results;
+	}
+
+	/**
+	 * Once the first page told us the total number of objects on the server, all other offsets are known,
+	 * so we can request them at the same time. At most {@link #maxParallelRequests} pages are loaded at once.
+	 * Pages are added to the result in offset order. Objects can move between pages while we are loading them
+	 * (e.g. when a new issue is created), so objects with an ID already present in the result are skipped.
+	 */
+	private <T> void loadRemainingPagesInParallel(Class<T> objectClass, Collection<? extends RequestParam> params,
+												  Projection<T> projection, ResultsWrapper<T> firstPage,
+												  List<T> result) throws RedmineException {
+		final int total = firstPage.getTotalFoundOnServer();
+		// server can return fewer objects than we asked for, e.g. Redmine caps page size at 100 by default
+		final int pageSize = firstPage.getLimitOnServer() != null && firstPage.getLimitOnServer() > 0
+				? firstPage.getLimitOnServer() : firstPage.getResultsNumber();
+		final Set<Integer> seenIds = new HashSet<>();
+		result.forEach(object -> addId(seenIds, object));
+
+		final List<RedmineCallable<ResultsWrapper<T>>> pages = new ArrayList<>();
+		for (int offset = pageSize; offset < total; offset += pageSize) {
+			final int pageOffset = offset;
+			pages.add(() -> getPage(objectClass, params, pageOffset, projection));
+		}
+		ParallelCalls.runInOrder(executor, maxParallelRequests, pages.iterator(), page -> {
+			for (T object : page.getResults()) {
+				if (addId(seenIds, object)) {
+					result.add(object);
+				}
+			}
+		});
+	}
+
+	/**
+	 * @return false if the object has an ID which was already seen.
+	 */
+	private static boolean addId(Set<Integer> seenIds, Object object) {
+		if (object instanceof Identifiable) {
+			final Integer id = ((Identifiable) object).getId();
+			return id == null || seenIds.add(id);
+		}
+		return true;
+	}
+
+	private <T> ResultsWrapper<T> getPage(Class<T> objectClass, Collection<? extends RequestParam> params,
+										  int offset, Projection<T> projection) throws RedmineException {
+		final List<RequestParam> newParams = new ArrayList<>(params);
+		newParams.add(new RequestParam("limit", String.valueOf(objectsPerPage)));
+		newParams.add(new RequestParam("offset", String.valueOf(offset)));
+		return getObjectsListNoPaging(objectClass, newParams, projection);
+	}
+
 	/**
 	 * Returns an object list. Provide your own "limit" and "offset" parameters if you need those, otherwise
 	 * this method will return the first page of some default size only (this default is controlled by
@@ -489,19 +874,139 @@ public class Transport {
 	 */
 	public <T> ResultsWrapper<T> getObjectsListNoPaging(Class<T> objectClass,
 											  Collection<? extends RequestParam> params) throws RedmineException {
+		return getObjectsListNoPaging(objectClass, params, null);
+	}
+
+	/**
+	 * Same as {@link #getObjectsListNoPaging(Class, Collection)}, but only the fields of the projection are read.
+	 * NULL projection reads all fields.
+	 */
+	public <T> ResultsWrapper<T> getObjectsListNoPaging(Class<T> objectClass, Collection<? extends RequestParam> params,
+														Projection<T> projection) throws RedmineException {
 		final EntityConfig<T> config = getConfig(objectClass);
+		final List<T> results = new ArrayList<>();
+		final JSONObject responseObject = readList(objectClass, params, projection, results::add);
 		try {
-			final JSONObject responseObject = getJsonResponseFromGet(objectClass, params);
-			List<T> results = JsonInput.getListOrNull(responseObject, config.multiObjectName, config.parser);
 			Integer totalFoundOnServer = JsonInput.getIntOrNull(responseObject, KEY_TOTAL_COUNT);
 			Integer limitOnServer = JsonInput.getIntOrNull(responseObject, KEY_LIMIT);
 			Integer offsetOnServer = JsonInput.getIntOrNull(responseObject, KEY_OFFSET);
-			return new ResultsWrapper<>(totalFoundOnServer, limitOnServer, offsetOnServer, results);
+			return new ResultsWrapper<>(totalFoundOnServer, limitOnServer, offsetOnServer,
+					responseObject.isNull(config.multiObjectName) ? null : results);
 		} catch (JSONException e) {
 			throw new RedmineFormatException(e);
 		}
 	}
 
+	/**
+	 * Passes all objects found using the provided parameters to the consumer, one by one, as they are read
+	 * from the server response. Paging is handled automatically like in {@link #getObjectsList(Class, Collection)},
+	 * but neither the response text nor the list of objects is kept in memory.
+	 */
+	public <T> void forEachObject(Class<T> objectClass, Collection<? extends RequestParam> params,
+								  Consumer<? super T> consumer) throws RedmineException {
+		forEachObject(objectClass, params, null, consumer);
+	}
+
+	/**
+	 * Same as {@link #forEachObject(Class, Collection, Consumer)}, but only the fields of the projection are read.
+	 * NULL projection reads all fields.
+	 */
+	public <T> void forEachObject(Class<T> objectClass, Collection<? extends RequestParam> params,
+								  Projection<T> projection, Consumer<? super T> consumer) throws RedmineException {
+		final EntityConfig<T> config = getConfig(objectClass);
+		forEach(objectClass, params, projection == null ? null : projection.getJsonFields()::contains,
+				projection == null ? config.parser : projection.getParser(), consumer);
+	}
+
+	/**
+	 * Same as {@link #forEachObject(Class, Collection, Consumer)}, but hands over raw JSON objects of the list
+	 * instead of beans. Use this to collect data into your own structures without creating beans first.
+	 *
+	 * @param jsonFields top-level fields to keep in the JSON objects, NULL to keep all. Other fields are skipped
+	 *                   while the response is read.
+	 */
+	public void forEachJsonObject(Class<?> objectClass, Collection<? extends RequestParam> params,
+								  Set<String> jsonFields, Consumer<JSONObject> consumer) throws RedmineException {
+		forEach(objectClass, params, jsonFields == null ? null : jsonFields::contains, json -> json, consumer);
+	}
+
+	private <R> void forEach(Class<?> objectClass, Collection<? extends RequestParam> params, Predicate<String> fields,
+							 JsonObjectParser<R> parser, Consumer<? super R> consumer) throws RedmineException {
+		final int[] pageCount = new int[1];
+		int offset = 0;
+		while (true) {
+			final List<RequestParam> newParams = new ArrayList<>(params);
+			newParams.add(new RequestParam("limit", String.valueOf(objectsPerPage)));
+			newParams.add(new RequestParam("offset", String.valueOf(offset)));
+			pageCount[0] = 0;
+			final JSONObject responseObject = readList(objectClass, newParams, fields, parser, object -> {
+				pageCount[0]++;
+				consumer.accept(object);
+			});
+			final Integer totalFoundOnServer;
+			try {
+				totalFoundOnServer = JsonInput.getIntOrNull(responseObject, KEY_TOTAL_COUNT);
+			} catch (JSONException e) {
+				throw new RedmineFormatException(e);
+			}
+			offset += pageCount[0];
+			if (totalFoundOnServer == null || pageCount[0] == 0 || offset >= totalFoundOnServer) {
+				return;
+			}
+		}
+	}
+
+	/**
+	 * Requests a list of objects and parses the response while it is being received. Parsed objects are
+	 * passed to the consumer.
+	 *
+	 * @return all other fields of the response (like "total_count").
+	 */
+	private <T> JSONObject readList(Class<T> objectClass, Collection<? extends RequestParam> params,
+									Projection<T> projection, Consumer<? super T> consumer) throws RedmineException {
+		final EntityConfig<T> config = getConfig(objectClass);
+		return readList(objectClass, params, projection == null ? null : projection.getJsonFields()::contains,
+				projection == null ? config.parser : projection.getParser(), consumer);
+	}
+
+	private <R> JSONObject readList(Class<?> objectClass, Collection<? extends RequestParam> params,
+									Predicate<String> fields, JsonObjectParser<R> parser,
+									Consumer<? super R> consumer) throws RedmineException {
+		final EntityConfig<?> config = getConfig(objectClass);
+		final URI uri = getURIConfigurator().getObjectsURI(objectClass, new ArrayList<>(params));
+		final HttpGet http = new HttpGet(uri);
+		final TransportMetrics currentMetrics = metrics;
+		if (currentMetrics == null) {
+			return send(objectClass, http, response -> readList(response, config.multiObjectName, fields,
+					json -> consumer.accept(parser.parse(json))));
+		}
+		final long[] parseNanos = new long[1];
+		final JSONObject result = send(objectClass, http, response -> readList(response, config.multiObjectName, fields,
+				json -> {
+					final long start = System.nanoTime();
+					final R object = parser.parse(json);
+					parseNanos[0] += System.nanoTime() - start;
+					consumer.accept(object);
+				}));
+		currentMetrics.recordPhase(objectClass, http.getMethod(), Phase.PARSE, parseNanos[0]);
+		return result;
+	}
+
+	private static JSONObject readList(BasicHttpResponse response, String listField, Predicate<String> fields,
+									   Consumer<JSONObject> consumer) throws RedmineException {
+		try (Reader reader = Communicators.characterDecoder().processContent(response)) {
+			return JsonListReader.readList(reader, listField, fields, consumer);
+		} catch (JSONException e) {
+			// JSONTokener reports read errors as JSONException
+			if (e.getCause() instanceof IOException) {
+				throw new RedmineTransportException(e.getCause());
+			}
+			throw new RedmineFormatException(e);
+		} catch (IOException e) {
+			throw new RedmineTransportException(e);
+		}
+	}
+
 	/**
 	 * Use this method if you need direct access to Json results.
 	 <pre>
@@ -516,8 +1021,13 @@ public class Transport {
 		List<RequestParam> paramsList = new ArrayList<>(newParams);
 		final URI uri = getURIConfigurator().getObjectsURI(objectClass, paramsList);
 		final HttpGet http = new HttpGet(uri);
-		final String response = send(http);
-		return RedmineJSONParser.getResponse(response);
+		final String response = send(objectClass, http);
+		final long start = System.nanoTime();
+		try {
+			return RedmineJSONParser.getResponse(response);
+		} finally {
+			recordPhase(objectClass, http, Phase.PARSE, start);
+		}
 	}
 
 	public <T> List<T> getChildEntries(Class<?> parentClass, int parentId, Class<T> classs) throws RedmineException {
@@ -536,13 +1046,16 @@ public class Transport {
 				parentKey, classs, new RequestParam("limit", String.valueOf(objectsPerPage)));
 
 		HttpGet http = new HttpGet(uri);
-		String response = send(http);
+		String response = send(classs, http);
 		final JSONObject responseObject;
+		final long start = System.nanoTime();
 		try {
 			responseObject = RedmineJSONParser.getResponse(response);
 			return JsonInput.getListNotNull(responseObject, config.multiObjectName, config.parser);
 		} catch (JSONException e) {
-			throw new RedmineFormatException("Bad categories response " + response, e);
+			throw recordError(classs, http, new RedmineFormatException("Bad categories response " + response, e));
+		} finally {
+			recordPhase(classs, http, Phase.PARSE, start);
 		}
 	}
 
@@ -554,9 +1067,9 @@ public class Transport {
         final EntityConfig<T> config = getConfig(classs);
 		final URI uri = getURIConfigurator().getChildIdURI(parentClass, parentId, classs, childId, params);
         HttpGet http = new HttpGet(uri);
-        String response = send(http);
+        String response = send(classs, http);
 
-        return parseResponse(response, config.singleObjectName, config.parser);
+        return parseResponse(classs, http, response, config.singleObjectName, config.parser);
     }
 
     /**
@@ -570,6 +1083,24 @@ public class Transport {
 		this.objectsPerPage = pageSize;
 	}
 	
+	/**
+	 * Allows this transport to run independent requests at the same time, e.g. to load pages of a large list
+	 * in parallel once the first page reported the total number of objects on the server.
+	 * By default all requests are executed one by one in the calling thread.
+	 * <p>
+	 * The HttpClient must support concurrent requests (the default one created by RedmineManagerFactory does).
+	 *
+	 * @param executor            executor to run requests in. NULL disables parallel requests.
+	 * @param maxParallelRequests max number of requests one call can run at the same time.
+	 */
+	public void setExecutor(Executor executor, int maxParallelRequests) {
+		if (maxParallelRequests <= 0) {
+			throw new IllegalArgumentException("Max parallel requests must be > 0. You provided: " + maxParallelRequests);
+		}
+		this.executor = executor;
+		this.maxParallelRequests = maxParallelRequests;
+	}
+
 	public void addUserToGroup(int userId, int groupId) throws RedmineException {
 		logger.debug("adding user " + userId + " to group " + groupId + "...");
 		URI uri = getURIConfigurator().getChildObjectsURI(Group.class, Integer.toString(groupId), User.class);
@@ -583,7 +1114,7 @@ public class Transport {
 		}
 		String body = writer.toString();
 		setEntity(httpPost, body);
-		String response = send(httpPost);
+		String response = send(User.class, httpPost);
 		logger.debug(response);
 	}
 
@@ -600,21 +1131,94 @@ public class Transport {
 		}
 		String body = writer.toString();
 		setEntity(httpPost, body);
-		String response = send(httpPost);
+		String response = send(Watcher.class, httpPost);
 		logger.debug(response);
 	}
 
-    private String send(HttpRequestBase http) throws RedmineException {
+    private String send(Class<?> objectClass, HttpRequestBase http) throws RedmineException {
+        return send(objectClass, http, Communicators.contentReader());
+    }
+
+    private <R> R send(Class<?> objectClass, HttpRequestBase http,
+                       ContentHandler<BasicHttpResponse, R> handler) throws RedmineException {
+        return send(objectClass, http, requestCommunicator, handler);
+    }
+
+    /**
+     * @param objectClass class of requested objects, metrics are recorded for it.
+     */
+    private <R> R send(Class<?> objectClass, HttpRequestBase http, Communicator<BasicHttpResponse> communicator,
+                       ContentHandler<BasicHttpResponse, R> handler) throws RedmineException {
         if (onBehalfOfUser != null) {
             http.addHeader("X-Redmine-Switch-User", onBehalfOfUser);
         }
-        return communicator.sendRequest(http);
+        final TransportMetrics currentMetrics = metrics;
+        if (currentMetrics == null) {
+            return communicator.sendRequest(http, handler);
+        }
+        final String method = http.getMethod();
+        final HttpEntity entity = http instanceof HttpEntityEnclosingRequest
+                ? ((HttpEntityEnclosingRequest) http).getEntity() : null;
+        if (entity != null && entity.getContentLength() >= 0) {
+            currentMetrics.recordBytesWritten(objectClass, method, entity.getContentLength());
+        }
+        final long start = System.nanoTime();
+        try {
+            return communicator.sendRequest(http, response -> {
+                final long received = System.nanoTime();
+                if (entity instanceof JsonEntity && ((JsonEntity<?>) entity).getBytesWritten() >= 0) {
+                    // streamed body, its size is known only after it was sent
+                    currentMetrics.recordBytesWritten(objectClass, method, ((JsonEntity<?>) entity).getBytesWritten());
+                }
+                currentMetrics.recordPhase(objectClass, method, Phase.NETWORK, received - start);
+                final CountingInputStream stream = new CountingInputStream(response.getStream());
+                try {
+                    return handler.processContent(new BasicHttpResponse(response.getResponseCode(), stream,
+                            response.getCharset(), response.getHeaders()));
+                } finally {
+                    currentMetrics.recordPhase(objectClass, method, Phase.READ, System.nanoTime() - received);
+                    currentMetrics.recordBytesRead(objectClass, method, stream.getCount());
+                }
+            });
+        } catch (RedmineException | RuntimeException e) {
+            currentMetrics.recordError(objectClass, method, e.getClass());
+            throw e;
+        }
+    }
+
+    private void recordPhase(Class<?> objectClass, HttpRequestBase http, Phase phase, long startNanos) {
+        final TransportMetrics currentMetrics = metrics;
+        if (currentMetrics != null) {
+            currentMetrics.recordPhase(objectClass, http.getMethod(), phase, System.nanoTime() - startNanos);
+        }
+    }
+
+    private <E extends Exception> E recordError(Class<?> objectClass, HttpRequestBase http, E error) {
+        final TransportMetrics currentMetrics = metrics;
+        if (currentMetrics != null) {
+            currentMetrics.recordError(objectClass, http.getMethod(), error.getClass());
+        }
+        return error;
     }
 
-	private <T> T parseResponse(String response, String tag,
+	private <T> T parseResponse(Class<?> objectClass, HttpRequestBase http, String response, String tag,
                                      JsonObjectParser<T> parser) throws RedmineFormatException {
+		final long start = System.nanoTime();
+		try {
+			return parseObject(RedmineJSONParser.getResponse(response), tag, parser);
+		} catch (JSONException e) {
+			throw recordError(objectClass, http, new RedmineFormatException(e));
+		} catch (RedmineFormatException e) {
+			throw recordError(objectClass, http, e);
+		} finally {
+			recordPhase(objectClass, http, Phase.PARSE, start);
+		}
+	}
+
+	private <T> T parseObject(JSONObject response, String tag,
+							  JsonObjectParser<T> parser) throws RedmineFormatException {
 		try {
-			T parse = parser.parse(RedmineJSONParser.getResponseSingleObject(response, tag));
+			T parse = parser.parse(JsonInput.getObjectNotNull(response, tag));
 			if (parse instanceof FluentStyle) {
 				((FluentStyle) parse).setTransport(this);
 			}
@@ -624,6 +1228,24 @@ public class Transport {
 		}
 	}
 
+	/**
+	 * @throws IllegalArgumentException if the object is not valid, before anything is sent.
+	 */
+	private <T> void setEntity(HttpEntityEnclosingRequest request, String tag, T object,
+			JsonObjectWriter<T> writer) {
+		RedmineJSONBuilder.validate(object);
+		final JsonEntity<T> entity = new JsonEntity<>(tag, object, writer, CONTENT_TYPE);
+		if (!bufferRequestBodies) {
+			request.setEntity(entity);
+			return;
+		}
+		try {
+			request.setEntity(new BufferedHttpEntity(entity));
+		} catch (IOException e) {
+			throw new RedmineInternalError("Unexpected IOException while writing to memory", e);
+		}
+	}
+
 	private static void setEntity(HttpEntityEnclosingRequest request, String body) {
 		setEntity(request, body, CONTENT_TYPE);
 	}
@@ -32,10 +32,13 @@ import java.net.MalformedURLException;
 import java.net.URI;
 import java.net.URISyntaxException;
 import java.net.URL;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.stream.Collectors;
@@ -70,7 +73,40 @@ public class URIConfigurator {
         urls.put(File.class, "files");
     }
 
+    /**
+     * Characters left as is in the path, same as {@link URIBuilder} uses.
+     */
+    private static final boolean[] PATH_SAFE = safeChars("_-!.~'()*" + ";:@&=+$," + "/");
+    /**
+     * Characters left as is in query parameter names and values, same as {@link URIBuilder} uses.
+     */
+    private static final boolean[] QUERY_SAFE = safeChars("-_.*");
+    private static final char[] HEX = "0123456789ABCDEF".toCharArray();
+
+    /**
+     * Encoded entity paths, e.g. "issues" or "enumerations/issue_priorities".
+     */
+    private static final Map<Class<?>, String> encodedUrls = new HashMap<>();
+
+    static {
+        urls.forEach((type, url) -> encodedUrls.put(type, encodePath(new StringBuilder(), url).toString()));
+    }
+
     private final URL baseURL;
+    /**
+     * Scheme, authority and encoded base path with a trailing "/", e.g. "https://host/redmine/".
+     * NULL if the base URL is not a plain hierarchical one (with query, fragment, etc.): such URIs are built
+     * with {@link URIBuilder}.
+     */
+    private final String prefix;
+    /**
+     * True if the base URL has no path. Leading slashes of the relative part are dropped then, like URIBuilder does.
+     */
+    private final boolean emptyBasePath;
+    /**
+     * Prefix with the entity path for every known entity, e.g. "https://host/redmine/issues".
+     */
+    private final Map<Class<?>, String> templates = new HashMap<>();
 
     public URIConfigurator(String host) {
         if (host == null || host.isEmpty()) {
@@ -81,6 +117,36 @@ public class URIConfigurator {
         } catch (MalformedURLException e) {
             throw new IllegalArgumentException("Illegal host URL " + host, e);
         }
+        final URI baseURI = toURIOrNull(baseURL);
+        if (baseURI == null || baseURI.isOpaque() || baseURI.getRawAuthority() == null
+                || baseURI.getRawQuery() != null || baseURI.getRawFragment() != null) {
+            this.prefix = null;
+            this.emptyBasePath = false;
+        } else {
+            final String path = baseURI.getPath() == null ? "" : baseURI.getPath();
+            int slashes = 0;
+            while (slashes < path.length() && path.charAt(slashes) == '/') {
+                slashes++;
+            }
+            this.emptyBasePath = slashes == path.length();
+            final StringBuilder builder = new StringBuilder()
+                    .append(baseURI.getScheme()).append("://").append(baseURI.getRawAuthority());
+            if (emptyBasePath) {
+                builder.append('/');
+            } else {
+                encodePath(builder, path.substring(Math.max(0, slashes - 1))).append('/');
+            }
+            this.prefix = builder.toString();
+            encodedUrls.forEach((type, url) -> templates.put(type, prefix + url));
+        }
+    }
+
+    private static URI toURIOrNull(URL url) {
+        try {
+            return url.toURI();
+        } catch (URISyntaxException e) {
+            return null;
+        }
     }
 
     public URI createURI(String query) {
@@ -97,8 +163,29 @@ public class URIConfigurator {
      */
     private URI createURI(String query,
                           Collection<RequestParam> origParams) {
-        var distinctParams = distinct(origParams);
-        var nameValueParams = toNameValue(distinctParams);
+        if (prefix == null) {
+            return buildURI(query, origParams);
+        }
+        if (query.isEmpty()) {
+            // the base path is used as is, without a trailing slash
+            return buildURI(query, origParams);
+        }
+        int start = 0;
+        if (emptyBasePath) {
+            while (start < query.length() && query.charAt(start) == '/') {
+                start++;
+            }
+        }
+        final StringBuilder builder = new StringBuilder(prefix.length() + query.length() + 64).append(prefix);
+        encodePath(builder, start == 0 ? query : query.substring(start));
+        return toURI(appendQuery(builder, origParams));
+    }
+
+    /**
+     * The general way to build a URI, used for unusual base URLs.
+     */
+    private URI buildURI(String query, Collection<RequestParam> origParams) {
+        var nameValueParams = toNameValue(distinct(origParams));
         try {
             var builder = new URIBuilder(baseURL.toURI());
             //extra List creation needed because addParameters doesn't accept Collection<? extends NameValuePair>
@@ -112,12 +199,45 @@ public class URIConfigurator {
         }
     }
 
+    private static URI toURI(StringBuilder builder) {
+        try {
+            return new URI(builder.toString());
+        } catch (URISyntaxException e) {
+            throw new RedmineInternalError(e);
+        }
+    }
+
+    private static StringBuilder appendQuery(StringBuilder builder, Collection<RequestParam> params) {
+        char separator = '?';
+        for (RequestParam param : distinct(params)) {
+            builder.append(separator);
+            encodeQuery(builder, param.getName()).append('=');
+            encodeQuery(builder, param.getValue());
+            separator = '&';
+        }
+        return builder;
+    }
+
+    /**
+     * @return params without NULLs and without repeated names (the first param with a name wins), in the given order.
+     */
     static Collection<RequestParam> distinct(Collection<RequestParam> origParams) {
-        return origParams
-                .stream()
-                .filter(Objects::nonNull)
-                .collect(Collectors.toMap(RequestParam::getName, a -> a, (s1, s2) -> s1))
-                .values();
+        final List<RequestParam> result = new ArrayList<>(origParams.size());
+        for (RequestParam param : origParams) {
+            if (param != null && !containsName(result, param.getName())) {
+                result.add(param);
+            }
+        }
+        return result;
+    }
+
+    private static boolean containsName(List<RequestParam> params, String name) {
+        for (int i = 0; i < params.size(); i++) {
+            if (params.get(i).getName().equals(name)) {
+                return true;
+            }
+        }
+        return false;
     }
 
     static Collection<NameValuePair> toNameValue(Collection<RequestParam> origParams) {
@@ -125,15 +245,67 @@ public class URIConfigurator {
                 .stream()
                 .filter(Objects::nonNull)
                 .map(p -> new BasicNameValuePair(p.getName(), p.getValue()))
-                .collect(Collectors.toSet());
+                .collect(Collectors.toCollection(LinkedHashSet::new));
+    }
+
+    private static boolean[] safeChars(String punctuation) {
+        final boolean[] result = new boolean[128];
+        for (char c = 'a'; c <= 'z'; c++) {
+            result[c] = true;
+            result[Character.toUpperCase(c)] = true;
+        }
+        for (char c = '0'; c <= '9'; c++) {
+            result[c] = true;
+        }
+        for (int i = 0; i < punctuation.length(); i++) {
+            result[punctuation.charAt(i)] = true;
+        }
+        return result;
+    }
+
+    static StringBuilder encodePath(StringBuilder builder, String text) {
+        return encode(builder, text, PATH_SAFE, false);
+    }
+
+    static StringBuilder encodeQuery(StringBuilder builder, String text) {
+        return encode(builder, text, QUERY_SAFE, true);
+    }
+
+    /**
+     * Percent-encodes UTF-8 bytes of the text, except for the safe ASCII characters.
+     */
+    private static StringBuilder encode(StringBuilder builder, String text, boolean[] safe, boolean blankAsPlus) {
+        final int length = text.length();
+        int i = 0;
+        while (i < length && text.charAt(i) < 128 && safe[text.charAt(i)]) {
+            i++;
+        }
+        if (i == length) {
+            return builder.append(text);
+        }
+        builder.append(text, 0, i);
+        final byte[] bytes = text.substring(i).getBytes(StandardCharsets.UTF_8);
+        for (byte b : bytes) {
+            final int c = b & 0xff;
+            if (c < 128 && safe[c]) {
+                builder.append((char) c);
+            } else if (blankAsPlus && c == ' ') {
+                builder.append('+');
+            } else {
+                builder.append('%').append(HEX[c >> 4]).append(HEX[c & 0xf]);
+            }
+        }
+        return builder;
     }
 
     public URI getChildObjectsURI(Class<?> parent, String parentId,
                                   Class<?> child, RequestParam... args) {
-        final String base = getConfig(parent);
-        final String detail = getConfig(child);
-        return createURI(base + "/" + parentId + "/" + detail + URL_POSTFIX,
-                args);
+        if (prefix == null) {
+            return createURI(getConfig(parent) + "/" + parentId + "/" + getConfig(child) + URL_POSTFIX,
+                    args);
+        }
+        final StringBuilder builder = startURI(parent, parentId).append('/').append(getEncoded(child));
+        return finishURI(builder, Arrays.asList(args));
     }
 
     public URI getChildIdURI(Class<?> parent, String parentId,
@@ -143,33 +315,72 @@ public class URIConfigurator {
 
     public URI getChildIdURI(Class<?> parent, String parentId,
                              Class<?> child, String value, RequestParam... params) {
-        final String base = getConfig(parent);
-        final String detail = getConfig(child);
-        return createURI(base + "/" + parentId + "/" + detail +
-                "/" + value + URL_POSTFIX, params);
+        if (prefix == null) {
+            return createURI(getConfig(parent) + "/" + parentId + "/" + getConfig(child) +
+                    "/" + value + URL_POSTFIX, params);
+        }
+        final StringBuilder builder = startURI(parent, parentId).append('/').append(getEncoded(child)).append('/');
+        return finishURI(encodePath(builder, value), Arrays.asList(params));
     }
 
     public URI getObjectsURI(Class<?> child, RequestParam... params) {
-        final String detail = getConfig(child);
-        return createURI(detail + URL_POSTFIX, params);
+        return getObjectsURI(child, Arrays.asList(params));
     }
 
     public URI getObjectsURI(Class<?> child,
                              Collection<RequestParam> args) {
-        final String detail = getConfig(child);
-        return createURI(detail + URL_POSTFIX, args);
+        if (prefix == null) {
+            return createURI(getConfig(child) + URL_POSTFIX, args);
+        }
+        return finishURI(new StringBuilder(128).append(getTemplate(child)), args);
     }
 
     public URI getObjectURI(Class<?> object, String id, RequestParam... params) {
-        final String detail = getConfig(object);
-        return createURI(detail + "/" + id + URL_POSTFIX, params);
+        if (prefix == null) {
+            return createURI(getConfig(object) + "/" + id + URL_POSTFIX, params);
+        }
+        return finishURI(startURI(object, id), Arrays.asList(params));
+    }
+
+    /**
+     * @return builder with the entity template and the encoded id, e.g. "https://host/issues/123"
+     */
+    private StringBuilder startURI(Class<?> type, String id) {
+        final String template = getTemplate(type);
+        final StringBuilder builder = new StringBuilder(template.length() + id.length() + 64)
+                .append(template).append('/');
+        return encodePath(builder, id);
+    }
+
+    private URI finishURI(StringBuilder builder, Collection<RequestParam> params) {
+        return toURI(appendQuery(builder.append(URL_POSTFIX), params));
+    }
+
+    private String getTemplate(Class<?> item) {
+        final String template = templates.get(item);
+        if (template == null) {
+            throw unsupported(item);
+        }
+        return template;
+    }
+
+    private static String getEncoded(Class<?> item) {
+        final String encoded = encodedUrls.get(item);
+        if (encoded == null) {
+            throw unsupported(item);
+        }
+        return encoded;
+    }
+
+    private static RedmineInternalError unsupported(Class<?> item) {
+        return new RedmineInternalError("Unsupported item class "
+                + item.getCanonicalName());
     }
 
     private String getConfig(Class<?> item) {
         final String guess = urls.get(item);
         if (guess == null)
-            throw new RedmineInternalError("Unsupported item class "
-                    + item.getCanonicalName());
+            throw unsupported(item);
         return guess;
     }
 
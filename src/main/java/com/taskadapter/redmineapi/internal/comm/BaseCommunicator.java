@@ -38,7 +38,7 @@ public class BaseCommunicator implements Communicator<HttpResponse> {
 			ContentHandler<HttpResponse, R> handler) throws RedmineException {
 		logger.debug(request.getRequestLine().toString());
 
-		request.addHeader("Accept-Encoding", "gzip");
+		request.setHeader("Accept-Encoding", "gzip");
 		try {
 			final HttpResponse httpResponse = client
 					.execute((HttpUriRequest) request);
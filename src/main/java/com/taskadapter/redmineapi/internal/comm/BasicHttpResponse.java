@@ -1,6 +1,9 @@
 package com.taskadapter.redmineapi.internal.comm;
 
 import java.io.InputStream;
+import java.util.Collections;
+import java.util.Map;
+import java.util.TreeMap;
 
 /**
  * Basic http entity. Just an iternal implementation to use with proper
@@ -13,13 +16,25 @@ public final class BasicHttpResponse {
 	private final int responseCode;
 	private final InputStream stream;
 	private final String charset;
+	private final Map<String, String> headers;
 
 	public BasicHttpResponse(int responseCode, InputStream stream,
 			String charset) {
+		this(responseCode, stream, charset, Collections.emptyMap());
+	}
+
+	/**
+	 * @param headers response headers. Names are case-insensitive.
+	 */
+	public BasicHttpResponse(int responseCode, InputStream stream,
+			String charset, Map<String, String> headers) {
 		super();
 		this.responseCode = responseCode;
 		this.stream = stream;
 		this.charset = charset;
+		final Map<String, String> copy = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+		copy.putAll(headers);
+		this.headers = Collections.unmodifiableMap(copy);
 	}
 
 	public int getResponseCode() {
@@ -34,4 +49,15 @@ public final class BasicHttpResponse {
 		return charset;
 	}
 
+	/**
+	 * @return value of the response header or NULL if there is no such header.
+	 */
+	public String getHeader(String name) {
+		return headers.get(name);
+	}
+
+	public Map<String, String> getHeaders() {
+		return headers;
+	}
+
 }
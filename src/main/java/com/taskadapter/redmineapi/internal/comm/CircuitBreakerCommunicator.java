@@ -0,0 +1,57 @@
+package com.taskadapter.redmineapi.internal.comm;
+
+import org.apache.http.HttpRequest;
+
+import com.taskadapter.redmineapi.CircuitBreaker;
+import com.taskadapter.redmineapi.RedmineException;
+import com.taskadapter.redmineapi.RedmineTransportException;
+
+/**
+ * Reports outcomes of requests to a {@link CircuitBreaker} and does not send requests while it is open.
+ * Must be placed before the error handler, so that it sees raw response codes. Transport errors and
+ * 5xx responses are failures. The outcome is recorded as soon as the response status arrives, reading the body
+ * is not timed and its errors are not counted. Without a breaker requests are passed through as is.
+ */
+public final class CircuitBreakerCommunicator implements Communicator<BasicHttpResponse> {
+	private final Communicator<BasicHttpResponse> peer;
+	private volatile CircuitBreaker breaker;
+
+	public CircuitBreakerCommunicator(Communicator<BasicHttpResponse> peer) {
+		this.peer = peer;
+	}
+
+	/**
+	 * @param breaker NULL disables the breaker.
+	 */
+	public void setBreaker(CircuitBreaker breaker) {
+		this.breaker = breaker;
+	}
+
+	@Override
+	public <R> R sendRequest(HttpRequest request,
+			ContentHandler<BasicHttpResponse, R> contentHandler) throws RedmineException {
+		final CircuitBreaker currentBreaker = breaker;
+		if (currentBreaker == null) {
+			return peer.sendRequest(request, contentHandler);
+		}
+		final long permission = currentBreaker.acquirePermission();
+		final long start = System.nanoTime();
+		final boolean[] recorded = new boolean[1];
+		boolean transportError = false;
+		try {
+			return peer.sendRequest(request, response -> {
+				// the content handler may be a slow streaming consumer, it is not a part of the call
+				recorded[0] = true;
+				currentBreaker.onComplete(permission, System.nanoTime() - start, response.getResponseCode() >= 500);
+				return contentHandler.processContent(response);
+			});
+		} catch (RedmineTransportException e) {
+			transportError = true;
+			throw e;
+		} finally {
+			if (!recorded[0]) {
+				currentBreaker.onComplete(permission, System.nanoTime() - start, transportError);
+			}
+		}
+	}
+}
@@ -70,6 +70,14 @@ public final class Communicators {
 		return CHAR_CONTENT_READER;
 	}
 
+	/**
+	 * @return handler giving a reader over the response body. Use it to process large responses
+	 *         without reading them into a string first. The reader must be consumed inside the handler chain.
+	 */
+	public static ContentHandler<BasicHttpResponse, Reader> characterDecoder() {
+		return CHARACTER_DECODER;
+	}
+
 	public static <K, I, R> ContentHandler<K, R> compose(
 			ContentHandler<I, R> cont1, ContentHandler<K, I> cont2) {
 		return new ComposingHandler<>(cont1, cont2);
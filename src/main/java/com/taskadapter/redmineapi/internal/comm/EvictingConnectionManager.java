@@ -0,0 +1,56 @@
+package com.taskadapter.redmineapi.internal.comm;
+
+import org.apache.http.conn.ClientConnectionRequest;
+import org.apache.http.conn.routing.HttpRoute;
+import org.apache.http.conn.scheme.SchemeRegistry;
+import org.apache.http.impl.conn.PoolingClientConnectionManager;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Thread-safe pooling connection manager. Connections are kept alive and reused between requests,
+ * so one HttpClient (and thus one RedmineManager) can be shared by many threads.
+ * <p>
+ * Connections which stayed idle longer than the configured timeout are closed. The check is done
+ * lazily when a connection is requested (at most once per idle timeout), so no background thread is needed.
+ */
+public class EvictingConnectionManager extends PoolingClientConnectionManager {
+
+    private final long idleTimeoutMillis;
+    private final AtomicLong lastEviction = new AtomicLong(System.currentTimeMillis());
+
+    /**
+     * @param registry       schemes to support.
+     * @param maxTotal       max number of connections in the pool.
+     * @param maxPerRoute    max number of connections to one host (route).
+     * @param idleTimeout    idle connections are closed after this time.
+     * @param idleTimeoutUnit time unit for idleTimeout.
+     */
+    public EvictingConnectionManager(SchemeRegistry registry, int maxTotal, int maxPerRoute,
+                                     long idleTimeout, TimeUnit idleTimeoutUnit) {
+        super(registry);
+        if (maxTotal <= 0 || maxPerRoute <= 0) {
+            throw new IllegalArgumentException("Connection limits must be > 0. You provided: maxTotal="
+                    + maxTotal + ", maxPerRoute=" + maxPerRoute);
+        }
+        setMaxTotal(maxTotal);
+        setDefaultMaxPerRoute(maxPerRoute);
+        this.idleTimeoutMillis = idleTimeoutUnit.toMillis(idleTimeout);
+    }
+
+    @Override
+    public ClientConnectionRequest requestConnection(HttpRoute route, Object state) {
+        evictIfDue();
+        return super.requestConnection(route, state);
+    }
+
+    private void evictIfDue() {
+        final long now = System.currentTimeMillis();
+        final long last = lastEviction.get();
+        if (now - last >= idleTimeoutMillis && lastEviction.compareAndSet(last, now)) {
+            closeExpiredConnections();
+            closeIdleConnections(idleTimeoutMillis, TimeUnit.MILLISECONDS);
+        }
+    }
+}
@@ -0,0 +1,41 @@
+package com.taskadapter.redmineapi.internal.comm;
+
+import org.apache.http.HttpRequest;
+
+import com.taskadapter.redmineapi.RateLimiter;
+import com.taskadapter.redmineapi.RedmineException;
+
+/**
+ * Takes a permit from the read limiter (GET, HEAD) or the write limiter (other methods) before each request.
+ * Must be placed after the retrying communicator, so that every retry takes its own permit.
+ * Without a limiter requests are passed through as is.
+ */
+public final class RateLimitingCommunicator implements Communicator<BasicHttpResponse> {
+	private final Communicator<BasicHttpResponse> peer;
+	private volatile RateLimiter readLimiter;
+	private volatile RateLimiter writeLimiter;
+
+	public RateLimitingCommunicator(Communicator<BasicHttpResponse> peer) {
+		this.peer = peer;
+	}
+
+	/**
+	 * @param readLimiter  NULL means no limit for reads.
+	 * @param writeLimiter NULL means no limit for writes.
+	 */
+	public void setLimiters(RateLimiter readLimiter, RateLimiter writeLimiter) {
+		this.readLimiter = readLimiter;
+		this.writeLimiter = writeLimiter;
+	}
+
+	@Override
+	public <R> R sendRequest(HttpRequest request,
+			ContentHandler<BasicHttpResponse, R> contentHandler) throws RedmineException {
+		final String method = request.getRequestLine().getMethod();
+		final RateLimiter limiter = method.equals("GET") || method.equals("HEAD") ? readLimiter : writeLimiter;
+		if (limiter != null) {
+			limiter.acquire(method + " " + request.getRequestLine().getUri());
+		}
+		return peer.sendRequest(request, contentHandler);
+	}
+}
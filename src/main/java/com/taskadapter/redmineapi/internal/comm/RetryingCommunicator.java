@@ -0,0 +1,156 @@
+package com.taskadapter.redmineapi.internal.comm;
+
+import java.util.Date;
+
+import org.apache.http.HttpEntity;
+import org.apache.http.HttpEntityEnclosingRequest;
+import org.apache.http.HttpRequest;
+import org.apache.http.client.utils.DateUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.taskadapter.redmineapi.RedmineException;
+import com.taskadapter.redmineapi.RetryPolicy;
+
+/**
+ * Sends a request again when it fails with a retryable error or a retryable HTTP status, as the
+ * {@link RetryPolicy} says. Must be placed before the error handler, so that it sees raw responses.
+ * Without a policy requests are passed through as is.
+ * <p>
+ * A request is sent again only if it failed before the content handler was called. Content handlers may stream
+ * objects to the caller, so a failure while reading the body is reported as is: a retry would deliver
+ * the objects read so far once again.
+ */
+public final class RetryingCommunicator implements Communicator<BasicHttpResponse> {
+	private final Logger logger = LoggerFactory.getLogger(RetryingCommunicator.class);
+
+	private final Communicator<BasicHttpResponse> peer;
+	private final Sleeper sleeper;
+	private volatile RetryPolicy policy;
+
+	/**
+	 * Waits between attempts.
+	 */
+	interface Sleeper {
+		void sleep(long millis) throws InterruptedException;
+	}
+
+	public RetryingCommunicator(Communicator<BasicHttpResponse> peer) {
+		this(peer, Thread::sleep);
+	}
+
+	RetryingCommunicator(Communicator<BasicHttpResponse> peer, Sleeper sleeper) {
+		this.peer = peer;
+		this.sleeper = sleeper;
+	}
+
+	/**
+	 * @param policy NULL disables retries.
+	 */
+	public void setPolicy(RetryPolicy policy) {
+		this.policy = policy;
+	}
+
+	@Override
+	public <R> R sendRequest(HttpRequest request,
+			ContentHandler<BasicHttpResponse, R> contentHandler) throws RedmineException {
+		final RetryPolicy currentPolicy = policy;
+		if (currentPolicy == null || currentPolicy.getMaxAttempts() <= 1
+				|| !currentPolicy.isRetryableMethod(request.getRequestLine().getMethod())
+				|| !isRepeatable(request)) {
+			return peer.sendRequest(request, contentHandler);
+		}
+		for (int attempt = 1; ; attempt++) {
+			final boolean lastAttempt = attempt >= currentPolicy.getMaxAttempts();
+			final Attempt<R> result;
+			final boolean[] handlerStarted = new boolean[1];
+			try {
+				result = peer.sendRequest(request, response -> {
+					if (!lastAttempt && currentPolicy.isRetryableStatus(response.getResponseCode())) {
+						return Attempt.retry(response.getResponseCode(), getRetryAfterMillis(currentPolicy, response));
+					}
+					handlerStarted[0] = true;
+					return Attempt.done(contentHandler.processContent(response));
+				});
+			} catch (RedmineException e) {
+				if (lastAttempt || handlerStarted[0] || !currentPolicy.isRetryableException(e)) {
+					throw e;
+				}
+				final long delay = currentPolicy.getDelayMillis(attempt);
+				logger.debug("Attempt " + attempt + " of " + request.getRequestLine() + " failed, retrying in "
+						+ delay + " ms", e);
+				sleep(delay);
+				continue;
+			}
+			if (result.done) {
+				return result.value;
+			}
+			final long delay = Math.max(currentPolicy.getDelayMillis(attempt), result.retryAfterMillis);
+			logger.debug("Attempt " + attempt + " of " + request.getRequestLine() + " got status "
+					+ result.statusCode + ", retrying in " + delay + " ms");
+			sleep(delay);
+		}
+	}
+
+	private void sleep(long millis) throws RedmineException {
+		try {
+			sleeper.sleep(millis);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new RedmineException("Interrupted while waiting to retry a request", e);
+		}
+	}
+
+	/**
+	 * Request bodies which can be read only once (e.g. uploaded streams) can't be sent again.
+	 */
+	private static boolean isRepeatable(HttpRequest request) {
+		if (request instanceof HttpEntityEnclosingRequest) {
+			final HttpEntity entity = ((HttpEntityEnclosingRequest) request).getEntity();
+			return entity == null || entity.isRepeatable();
+		}
+		return true;
+	}
+
+	/**
+	 * "Retry-After" can be a number of seconds or a date.
+	 *
+	 * @return 0 if there is no valid header.
+	 */
+	static long getRetryAfterMillis(RetryPolicy policy, BasicHttpResponse response) {
+		final String retryAfter = response.getHeader("Retry-After");
+		if (!policy.isRespectRetryAfter() || retryAfter == null) {
+			return 0;
+		}
+		long millis;
+		try {
+			millis = Long.parseLong(retryAfter.trim()) * 1000;
+		} catch (NumberFormatException e) {
+			final Date date = DateUtils.parseDate(retryAfter.trim());
+			millis = date == null ? 0 : date.getTime() - System.currentTimeMillis();
+		}
+		return Math.max(0, Math.min(millis, policy.getMaxBackoffMillis()));
+	}
+
+	private static final class Attempt<R> {
+		private final boolean done;
+		private final R value;
+		private final int statusCode;
+		private final long retryAfterMillis;
+
+		private Attempt(boolean done, R value, int statusCode, long retryAfterMillis) {
+			this.done = done;
+			this.value = value;
+			this.statusCode = statusCode;
+			this.retryAfterMillis = retryAfterMillis;
+		}
+
+		static <R> Attempt<R> done(R value) {
+			return new Attempt<>(true, value, 0, 0);
+		}
+
+		static <R> Attempt<R> retry(int statusCode, long retryAfterMillis) {
+			return new Attempt<>(false, null, statusCode, retryAfterMillis);
+		}
+	}
+}
@@ -0,0 +1,131 @@
+package com.taskadapter.redmineapi.internal.comm;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.CountDownLatch;
+
+import org.apache.http.Header;
+import org.apache.http.HttpRequest;
+
+import com.taskadapter.redmineapi.RedmineException;
+import com.taskadapter.redmineapi.RedmineTransportException;
+
+/**
+ * Sends only one of identical GET requests running at the same time. Identical means same URI and same
+ * "X-Redmine-Switch-User" header. Callers which come while the request is in flight wait for it and get
+ * a copy of its response (or its exception) instead of sending their own request. Conditional requests
+ * ("If-None-Match" or "If-Modified-Since") are always sent on their own, a plain request can't use their
+ * "304 Not Modified" answer.
+ * <p>
+ * Responses of GET requests are read into memory before they are handed to content handlers.
+ */
+public final class SingleFlightCommunicator implements Communicator<BasicHttpResponse> {
+	private static final String SWITCH_USER_HEADER = "X-Redmine-Switch-User";
+
+	private final Communicator<BasicHttpResponse> peer;
+	private final ConcurrentMap<String, Flight> inFlight = new ConcurrentHashMap<>();
+
+	public SingleFlightCommunicator(Communicator<BasicHttpResponse> peer) {
+		this.peer = peer;
+	}
+
+	@Override
+	public <R> R sendRequest(HttpRequest request,
+			ContentHandler<BasicHttpResponse, R> contentHandler) throws RedmineException {
+		if (!"GET".equals(request.getRequestLine().getMethod())
+				|| request.containsHeader("If-None-Match") || request.containsHeader("If-Modified-Since")) {
+			return peer.sendRequest(request, contentHandler);
+		}
+		final String key = getKey(request);
+		final Flight flight = new Flight();
+		final Flight existing = inFlight.putIfAbsent(key, flight);
+		final BufferedResponse response;
+		if (existing == null) {
+			BufferedResponse result = null;
+			Exception failure = null;
+			try {
+				result = peer.sendRequest(request, SingleFlightCommunicator::buffer);
+			} catch (RedmineException | RuntimeException e) {
+				failure = e;
+				throw e;
+			} catch (Error e) {
+				failure = new RedmineException("Request failed in another thread", e);
+				throw e;
+			} finally {
+				inFlight.remove(key, flight);
+				flight.complete(result, failure);
+			}
+			response = result;
+		} else {
+			response = existing.await();
+		}
+		return contentHandler.processContent(response.toResponse());
+	}
+
+	private static String getKey(HttpRequest request) {
+		final Header switchUser = request.getLastHeader(SWITCH_USER_HEADER);
+		final String uri = request.getRequestLine().getUri();
+		return switchUser == null ? uri : uri + '\n' + switchUser.getValue();
+	}
+
+	private static BufferedResponse buffer(BasicHttpResponse response) throws RedmineException {
+		try {
+			return new BufferedResponse(response.getResponseCode(),
+					response.getStream().readAllBytes(), response.getCharset(), response.getHeaders());
+		} catch (IOException e) {
+			throw new RedmineTransportException(e);
+		}
+	}
+
+	private static final class BufferedResponse {
+		private final int responseCode;
+		private final byte[] body;
+		private final String charset;
+		private final Map<String, String> headers;
+
+		BufferedResponse(int responseCode, byte[] body, String charset, Map<String, String> headers) {
+			this.responseCode = responseCode;
+			this.body = body;
+			this.charset = charset;
+			this.headers = headers;
+		}
+
+		BasicHttpResponse toResponse() {
+			return new BasicHttpResponse(responseCode, new ByteArrayInputStream(body), charset, headers);
+		}
+	}
+
+	/**
+	 * Request in progress.
+	 */
+	private static final class Flight {
+		private final CountDownLatch done = new CountDownLatch(1);
+		private volatile BufferedResponse response;
+		private volatile Exception error;
+
+		void complete(BufferedResponse response, Exception error) {
+			this.response = response;
+			this.error = error;
+			done.countDown();
+		}
+
+		BufferedResponse await() throws RedmineException {
+			try {
+				done.await();
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				throw new RedmineException("Interrupted while waiting for Redmine response", e);
+			}
+			if (error instanceof RedmineException) {
+				throw (RedmineException) error;
+			}
+			if (error instanceof RuntimeException) {
+				throw (RuntimeException) error;
+			}
+			return response;
+		}
+	}
+}
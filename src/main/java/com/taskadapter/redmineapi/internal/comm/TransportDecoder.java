@@ -3,9 +3,12 @@ package com.taskadapter.redmineapi.internal.comm;
 import java.io.IOException;
 import java.io.InputStream;
 import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.zip.GZIPInputStream;
 import java.util.zip.InflaterInputStream;
 
+import org.apache.http.Header;
 import org.apache.http.HttpEntity;
 import org.apache.http.HttpResponse;
 import com.taskadapter.redmineapi.RedmineException;
@@ -24,10 +27,11 @@ final class TransportDecoder implements
 	public BasicHttpResponse processContent(HttpResponse response)
 			throws RedmineException {
 		final HttpEntity entity = response.getEntity();
+		final Map<String, String> headers = getHeaders(response);
 		if (entity == null) {
 			return new BasicHttpResponse(response.getStatusLine().getStatusCode(),
 					InputStream.nullInputStream(),
-					StandardCharsets.UTF_8.name());
+					StandardCharsets.UTF_8.name(), headers);
 		}
 		final String charset = HttpUtil.getCharset(entity);
 		final String encoding = HttpUtil.getEntityEncoding(entity);
@@ -35,12 +39,20 @@ final class TransportDecoder implements
 			final InputStream initialStream = entity.getContent();
 			return new BasicHttpResponse(response.getStatusLine()
 					.getStatusCode(), decodeStream(encoding, initialStream),
-					charset);
+					charset, headers);
 		} catch (IOException e) {
 			throw new RedmineTransportException(e);
 		}
 	}
 
+	private static Map<String, String> getHeaders(HttpResponse response) {
+		final Map<String, String> headers = new HashMap<>();
+		for (Header header : response.getAllHeaders()) {
+			headers.put(header.getName(), header.getValue());
+		}
+		return headers;
+	}
+
 	/**
 	 * Decodes a transport stream.
 	 * 
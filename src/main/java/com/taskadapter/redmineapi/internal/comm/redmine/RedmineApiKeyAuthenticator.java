@@ -25,7 +25,7 @@ public class RedmineApiKeyAuthenticator<K> implements Communicator<K> {
     @Override
     public <R> R sendRequest(HttpRequest request, ContentHandler<K, R> handler)
             throws RedmineException {
-        request.addHeader("X-Redmine-API-Key", apiKey);
+        request.setHeader("X-Redmine-API-Key", apiKey);
         return peer.sendRequest(request, handler);
     }
 }
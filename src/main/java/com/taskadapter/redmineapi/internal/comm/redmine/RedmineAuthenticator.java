@@ -48,7 +48,7 @@ public class RedmineAuthenticator<K> implements Communicator<K> {
 	public <R> R sendRequest(HttpRequest request, ContentHandler<K, R> handler)
 			throws RedmineException {
 		if (authKey != null)
-			request.addHeader("Authorization", authKey);
+			request.setHeader("Authorization", authKey);
 		return peer.sendRequest(request, handler);
 	}
 
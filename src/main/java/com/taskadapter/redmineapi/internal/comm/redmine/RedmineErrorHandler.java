@@ -34,6 +34,10 @@ public final class RedmineErrorHandler implements
 	public BasicHttpResponse processContent(BasicHttpResponse httpResponse)
 			throws RedmineException {
 		final int responseCode = httpResponse.getResponseCode();
+		if (responseCode == HttpStatus.SC_NOT_MODIFIED) {
+			// answer to a conditional GET: the client already has the current version
+			return httpResponse;
+		}
 		if (responseCode == HttpStatus.SC_UNAUTHORIZED) {
 			throw new RedmineAuthenticationException(
 					"Authorization error. Please check if you provided a valid API access key or Login and Password and REST API service is enabled on the server.");
@@ -49,7 +49,7 @@ public class RedmineUserPasswordAuthenticator<K> implements Communicator<K> {
 	public <R> R sendRequest(HttpRequest request, ContentHandler<K, R> handler)
 			throws RedmineException {
 		if (authKey != null)
-			request.addHeader("Authorization", authKey);
+			request.setHeader("Authorization", authKey);
 		return peer.sendRequest(request, handler);
 	}
 
@@ -0,0 +1,236 @@
+package com.taskadapter.redmineapi.internal.json;
+
+import org.json.JSONArray;
+import org.json.JSONException;
+import org.json.JSONObject;
+import org.json.JSONTokener;
+
+import java.io.Reader;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+
+/**
+ * Reads a JSON object with a list of objects inside, like Redmine list response:
+ * <pre>
+ * {"issues":[{...}, {...}], "total_count":36, "offset":0, "limit":25}
+ * </pre>
+ * The text is read directly from the stream. Elements of the list are parsed one at a time and handed over
+ * to a consumer as soon as they are complete, so the whole response is never kept in memory.
+ */
+public final class JsonListReader {
+
+    private JsonListReader() {
+        throw new UnsupportedOperationException();
+    }
+
+    /**
+     * @param reader    JSON text source.
+     * @param listField name of the list field, e.g. "issues".
+     * @param consumer  receives list elements in their order.
+     * @return object with all other top-level fields (e.g. "total_count"). If the list field is present in the
+     * input, it is present in the result too, as an empty array or as NULL.
+     * @throws JSONException if the input is not valid JSON or list elements are not objects.
+     */
+    public static JSONObject readList(Reader reader, String listField, Consumer<JSONObject> consumer)
+            throws JSONException {
+        return readList(reader, listField, null, consumer);
+    }
+
+    /**
+     * Same as {@link #readList(Reader, String, Consumer)}, but list elements only get the top-level fields accepted
+     * by the filter. Values of other fields are skipped in the text without being built, only their brackets and
+     * quotes are matched.
+     *
+     * @param elementFields accepts names of fields to keep in list elements, NULL to keep all.
+     */
+    public static JSONObject readList(Reader reader, String listField, Predicate<String> elementFields,
+                                      Consumer<JSONObject> consumer) throws JSONException {
+        final JSONTokener tokener = new JSONTokener(reader);
+        final JSONObject otherFields = new JSONObject();
+        if (tokener.nextClean() != '{') {
+            throw tokener.syntaxError("A JSONObject text must begin with '{'");
+        }
+        for (;;) {
+            char c = tokener.nextClean();
+            switch (c) {
+                case 0:
+                    throw tokener.syntaxError("A JSONObject text must end with '}'");
+                case '}':
+                    return otherFields;
+                default:
+                    tokener.back();
+            }
+            final String key = tokener.nextValue().toString();
+            if (tokener.nextClean() != ':') {
+                throw tokener.syntaxError("Expected a ':' after a key");
+            }
+            if (key.equals(listField)) {
+                otherFields.put(key, readElements(tokener, elementFields, consumer));
+            } else {
+                otherFields.put(key, tokener.nextValue());
+            }
+
+            switch (tokener.nextClean()) {
+                case ',':
+                    if (tokener.nextClean() == '}') {
+                        return otherFields;
+                    }
+                    tokener.back();
+                    break;
+                case '}':
+                    return otherFields;
+                default:
+                    throw tokener.syntaxError("Expected a ',' or '}'");
+            }
+        }
+    }
+
+    private static Object readElements(JSONTokener tokener, Predicate<String> elementFields,
+                                       Consumer<JSONObject> consumer) throws JSONException {
+        if (tokener.nextClean() != '[') {
+            tokener.back();
+            final Object value = tokener.nextValue();
+            if (JSONObject.NULL.equals(value)) {
+                return JSONObject.NULL;
+            }
+            throw tokener.syntaxError("Expected a list of objects");
+        }
+        if (tokener.nextClean() == ']') {
+            return new JSONArray();
+        }
+        tokener.back();
+        for (;;) {
+            if (elementFields == null) {
+                final Object element = tokener.nextValue();
+                if (!(element instanceof JSONObject)) {
+                    throw tokener.syntaxError("List element is not an object: " + element);
+                }
+                consumer.accept((JSONObject) element);
+            } else {
+                consumer.accept(readObject(tokener, elementFields));
+            }
+            switch (tokener.nextClean()) {
+                case ',':
+                    if (tokener.nextClean() == ']') {
+                        return new JSONArray();
+                    }
+                    tokener.back();
+                    break;
+                case ']':
+                    return new JSONArray();
+                default:
+                    throw tokener.syntaxError("Expected a ',' or ']'");
+            }
+        }
+    }
+
+    private static JSONObject readObject(JSONTokener tokener, Predicate<String> fields) throws JSONException {
+        if (tokener.nextClean() != '{') {
+            throw tokener.syntaxError("List element is not an object");
+        }
+        final JSONObject result = new JSONObject();
+        if (tokener.nextClean() == '}') {
+            return result;
+        }
+        tokener.back();
+        for (;;) {
+            final String key = tokener.nextValue().toString();
+            if (tokener.nextClean() != ':') {
+                throw tokener.syntaxError("Expected a ':' after a key");
+            }
+            if (fields.test(key)) {
+                result.put(key, tokener.nextValue());
+            } else {
+                skipValue(tokener);
+            }
+            switch (tokener.nextClean()) {
+                case ',':
+                    if (tokener.nextClean() == '}') {
+                        return result;
+                    }
+                    tokener.back();
+                    break;
+                case '}':
+                    return result;
+                default:
+                    throw tokener.syntaxError("Expected a ',' or '}'");
+            }
+        }
+    }
+
+    private static void skipValue(JSONTokener tokener) throws JSONException {
+        final char first = tokener.nextClean();
+        switch (first) {
+            case '"':
+            case '\'':
+                skipString(tokener, first);
+                return;
+            case '{':
+            case '[':
+                skipNested(tokener);
+                return;
+            default:
+                if (isValueEnd(first)) {
+                    throw tokener.syntaxError("Missing value");
+                }
+        }
+        // number, true, false or null
+        for (;;) {
+            final char c = tokener.next();
+            if (c == 0) {
+                throw tokener.syntaxError("Unexpected end of text");
+            }
+            if (isValueEnd(c)) {
+                tokener.back();
+                return;
+            }
+        }
+    }
+
+    private static boolean isValueEnd(char c) {
+        return c <= ' ' || c == ',' || c == '}' || c == ']';
+    }
+
+    private static void skipString(JSONTokener tokener, char quote) throws JSONException {
+        for (;;) {
+            final char c = tokener.next();
+            switch (c) {
+                case 0:
+                case '\n':
+                case '\r':
+                    throw tokener.syntaxError("Unterminated string");
+                case '\\':
+                    tokener.next();
+                    break;
+                default:
+                    if (c == quote) {
+                        return;
+                    }
+            }
+        }
+    }
+
+    private static void skipNested(JSONTokener tokener) throws JSONException {
+        int depth = 1;
+        while (depth > 0) {
+            final char c = tokener.next();
+            switch (c) {
+                case 0:
+                    throw tokener.syntaxError("Unexpected end of text");
+                case '"':
+                case '\'':
+                    skipString(tokener, c);
+                    break;
+                case '{':
+                case '[':
+                    depth++;
+                    break;
+                case '}':
+                case ']':
+                    depth--;
+                    break;
+                default:
+            }
+        }
+    }
+}
@@ -0,0 +1,90 @@
+package com.taskadapter.redmineapi.metrics;
+
+import java.beans.ConstructorProperties;
+
+/**
+ * Snapshot of measurements for one endpoint (object class and HTTP method), as shown in JMX.
+ * Durations are in milliseconds.
+ */
+public final class EndpointStatistics {
+    private final String endpoint;
+    private final long responses;
+    private final long errors;
+    private final long bytesRead;
+    private final long bytesWritten;
+    private final double networkP50Millis;
+    private final double networkP99Millis;
+    private final double networkMaxMillis;
+    private final double readP99Millis;
+    private final double parseP99Millis;
+
+    @ConstructorProperties({"endpoint", "responses", "errors", "bytesRead", "bytesWritten", "networkP50Millis",
+            "networkP99Millis", "networkMaxMillis", "readP99Millis", "parseP99Millis"})
+    public EndpointStatistics(String endpoint, long responses, long errors, long bytesRead, long bytesWritten,
+                              double networkP50Millis, double networkP99Millis, double networkMaxMillis,
+                              double readP99Millis, double parseP99Millis) {
+        this.endpoint = endpoint;
+        this.responses = responses;
+        this.errors = errors;
+        this.bytesRead = bytesRead;
+        this.bytesWritten = bytesWritten;
+        this.networkP50Millis = networkP50Millis;
+        this.networkP99Millis = networkP99Millis;
+        this.networkMaxMillis = networkMaxMillis;
+        this.readP99Millis = readP99Millis;
+        this.parseP99Millis = parseP99Millis;
+    }
+
+    /**
+     * @return e.g. "Issue GET".
+     */
+    public String getEndpoint() {
+        return endpoint;
+    }
+
+    public long getResponses() {
+        return responses;
+    }
+
+    public long getErrors() {
+        return errors;
+    }
+
+    public long getBytesRead() {
+        return bytesRead;
+    }
+
+    public long getBytesWritten() {
+        return bytesWritten;
+    }
+
+    public double getNetworkP50Millis() {
+        return networkP50Millis;
+    }
+
+    public double getNetworkP99Millis() {
+        return networkP99Millis;
+    }
+
+    public double getNetworkMaxMillis() {
+        return networkMaxMillis;
+    }
+
+    public double getReadP99Millis() {
+        return readP99Millis;
+    }
+
+    public double getParseP99Millis() {
+        return parseP99Millis;
+    }
+
+    @Override
+    public String toString() {
+        return "EndpointStatistics{" +
+                "endpoint='" + endpoint + '\'' +
+                ", responses=" + responses +
+                ", errors=" + errors +
+                ", networkP99Millis=" + networkP99Millis +
+                '}';
+    }
+}
@@ -0,0 +1,147 @@
+package com.taskadapter.redmineapi.metrics;
+
+import javax.management.JMException;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Keeps latency histograms and counters in memory, per endpoint. Can be exposed as an MXBean:
+ * <pre>
+ InMemoryTransportMetrics metrics = new InMemoryTransportMetrics();
+ redmineManager.setMetrics(metrics);
+ metrics.registerMBean("main");
+ * </pre>
+ * Then it is visible in JConsole and other JMX tools as
+ * <code>com.taskadapter.redmineapi:type=TransportMetrics,name="main"</code>.
+ */
+public final class InMemoryTransportMetrics implements TransportMetrics, TransportMetricsMXBean {
+    public static final String JMX_DOMAIN = "com.taskadapter.redmineapi";
+
+    private final Map<String, Endpoint> endpoints = new ConcurrentHashMap<>();
+
+    @Override
+    public void recordPhase(Class<?> objectClass, String method, Phase phase, long durationNanos) {
+        endpoint(objectClass, method).histograms.get(phase).record(durationNanos);
+    }
+
+    @Override
+    public void recordBytesRead(Class<?> objectClass, String method, long bytes) {
+        endpoint(objectClass, method).bytesRead.add(bytes);
+    }
+
+    @Override
+    public void recordBytesWritten(Class<?> objectClass, String method, long bytes) {
+        endpoint(objectClass, method).bytesWritten.add(bytes);
+    }
+
+    @Override
+    public void recordError(Class<?> objectClass, String method, Class<? extends Throwable> errorType) {
+        endpoint(objectClass, method).errors.computeIfAbsent(errorType.getName(), k -> new LongAdder()).increment();
+    }
+
+    /**
+     * @return histogram of the phase or NULL if nothing was recorded for the endpoint.
+     */
+    public LatencyHistogram getHistogram(Class<?> objectClass, String method, Phase phase) {
+        final Endpoint endpoint = endpoints.get(endpointName(objectClass, method));
+        return endpoint == null ? null : endpoint.histograms.get(phase);
+    }
+
+    @Override
+    public List<EndpointStatistics> getEndpoints() {
+        final List<EndpointStatistics> result = new ArrayList<>();
+        new TreeMap<>(endpoints).forEach((name, endpoint) -> {
+            final LatencyHistogram network = endpoint.histograms.get(Phase.NETWORK);
+            result.add(new EndpointStatistics(name, network.getCount(),
+                    endpoint.errors.values().stream().mapToLong(LongAdder::sum).sum(),
+                    endpoint.bytesRead.sum(), endpoint.bytesWritten.sum(),
+                    network.getPercentile(50, TimeUnit.MILLISECONDS),
+                    network.getPercentile(99, TimeUnit.MILLISECONDS),
+                    network.getMax(TimeUnit.MILLISECONDS),
+                    endpoint.histograms.get(Phase.READ).getPercentile(99, TimeUnit.MILLISECONDS),
+                    endpoint.histograms.get(Phase.PARSE).getPercentile(99, TimeUnit.MILLISECONDS)));
+        });
+        return result;
+    }
+
+    @Override
+    public Map<String, Long> getErrorCounts() {
+        final Map<String, Long> result = new TreeMap<>();
+        endpoints.values().forEach(endpoint -> endpoint.errors.forEach(
+                (type, count) -> result.merge(type, count.sum(), Long::sum)));
+        return result;
+    }
+
+    @Override
+    public long getBytesRead() {
+        return endpoints.values().stream().mapToLong(e -> e.bytesRead.sum()).sum();
+    }
+
+    @Override
+    public long getBytesWritten() {
+        return endpoints.values().stream().mapToLong(e -> e.bytesWritten.sum()).sum();
+    }
+
+    @Override
+    public void reset() {
+        endpoints.clear();
+    }
+
+    /**
+     * Registers this object in the platform MBean server.
+     *
+     * @param name value of "name" key of the MBean name, to tell several RedmineManagers apart.
+     * @return name of the registered MBean.
+     * @throws IllegalStateException if registration failed, e.g. the name is already taken.
+     */
+    public ObjectName registerMBean(String name) {
+        try {
+            final ObjectName objectName = getObjectName(name);
+            ManagementFactory.getPlatformMBeanServer().registerMBean(this, objectName);
+            return objectName;
+        } catch (JMException e) {
+            throw new IllegalStateException("Cannot register transport metrics MBean with name " + name, e);
+        }
+    }
+
+    public void unregisterMBean(String name) {
+        try {
+            ManagementFactory.getPlatformMBeanServer().unregisterMBean(getObjectName(name));
+        } catch (JMException e) {
+            throw new IllegalStateException("Cannot unregister transport metrics MBean with name " + name, e);
+        }
+    }
+
+    private static ObjectName getObjectName(String name) throws JMException {
+        return new ObjectName(JMX_DOMAIN + ":type=TransportMetrics,name=" + ObjectName.quote(name));
+    }
+
+    private Endpoint endpoint(Class<?> objectClass, String method) {
+        return endpoints.computeIfAbsent(endpointName(objectClass, method), k -> new Endpoint());
+    }
+
+    private static String endpointName(Class<?> objectClass, String method) {
+        return objectClass.getSimpleName() + " " + method;
+    }
+
+    private static final class Endpoint {
+        private final Map<Phase, LatencyHistogram> histograms = new EnumMap<>(Phase.class);
+        private final Map<String, LongAdder> errors = new ConcurrentHashMap<>();
+        private final LongAdder bytesRead = new LongAdder();
+        private final LongAdder bytesWritten = new LongAdder();
+
+        private Endpoint() {
+            for (Phase phase : Phase.values()) {
+                histograms.put(phase, new LatencyHistogram());
+            }
+        }
+    }
+}
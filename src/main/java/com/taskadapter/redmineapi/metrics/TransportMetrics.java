@@ -0,0 +1,42 @@
+package com.taskadapter.redmineapi.metrics;
+
+/**
+ * Receives measurements of requests made by {@link com.taskadapter.redmineapi.internal.Transport}.
+ * Implement it to forward the numbers to your metrics library, or use {@link InMemoryTransportMetrics}.
+ * <p>
+ * Measurements are reported per endpoint: class of the requested objects (e.g. Issue) and HTTP method.
+ * Methods are called by the threads making the requests, they must be thread-safe and fast.
+ */
+public interface TransportMetrics {
+
+    enum Phase {
+        /**
+         * From sending the request until the response is received (including retries and waiting
+         * for a shared response). Does not include waiting for rate limiter permits.
+         */
+        NETWORK,
+        /**
+         * Reading the response body, including decompression and decoding of characters.
+         */
+        READ,
+        /**
+         * Converting JSON into objects. List responses are parsed while being read, for them this is the time
+         * spent creating objects from JSON elements, and it is included in READ time too.
+         */
+        PARSE
+    }
+
+    void recordPhase(Class<?> objectClass, String method, Phase phase, long durationNanos);
+
+    /**
+     * @param bytes number of bytes of the response body, after decompression.
+     */
+    void recordBytesRead(Class<?> objectClass, String method, long bytes);
+
+    /**
+     * @param bytes number of bytes of the request body. Not reported when the length is not known in advance.
+     */
+    void recordBytesWritten(Class<?> objectClass, String method, long bytes);
+
+    void recordError(Class<?> objectClass, String method, Class<? extends Throwable> errorType);
+}
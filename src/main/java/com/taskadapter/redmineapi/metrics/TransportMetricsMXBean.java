@@ -0,0 +1,26 @@
+package com.taskadapter.redmineapi.metrics;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * JMX view of {@link InMemoryTransportMetrics}.
+ */
+public interface TransportMetricsMXBean {
+
+    List<EndpointStatistics> getEndpoints();
+
+    /**
+     * @return number of errors per exception class name, for all endpoints.
+     */
+    Map<String, Long> getErrorCounts();
+
+    long getBytesRead();
+
+    long getBytesWritten();
+
+    /**
+     * Forgets all measurements.
+     */
+    void reset();
+}
@@ -0,0 +1,59 @@
+package com.taskadapter.redmineapi;
+
+import com.taskadapter.redmineapi.bean.Issue;
+import com.taskadapter.redmineapi.internal.FakeCommunicator;
+import com.taskadapter.redmineapi.internal.Transport;
+import com.taskadapter.redmineapi.internal.URIConfigurator;
+import org.junit.After;
+import org.junit.Test;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.Assert.fail;
+
+public class AsyncRedmineManagerTest {
+
+    private final ExecutorService executor = Executors.newFixedThreadPool(2);
+
+    @After
+    public void shutdownExecutor() {
+        executor.shutdown();
+    }
+
+    @Test
+    public void requestIsExecutedInTheExecutor() throws Exception {
+        Thread caller = Thread.currentThread();
+        Thread[] requestThread = new Thread[1];
+        AsyncRedmineManager manager = create(FakeCommunicator.withBodies(r -> {
+            requestThread[0] = Thread.currentThread();
+            return "{\"issue\":{\"id\":12,\"subject\":\"async\"}}";
+        }));
+
+        Issue issue = manager.getIssueManager().getIssueById(12).get();
+
+        assertThat(issue.getSubject()).isEqualTo("async");
+        assertThat(requestThread[0]).isNotSameAs(caller);
+    }
+
+    @Test
+    public void redmineErrorsCompleteTheFutureExceptionally() throws InterruptedException {
+        AsyncRedmineManager manager = create(FakeCommunicator.withResponses(r -> FakeCommunicator.response(404, "")));
+
+        CompletableFuture<Issue> future = manager.getIssueManager().getIssueById(12);
+        try {
+            future.get();
+            fail("must have failed");
+        } catch (ExecutionException e) {
+            assertThat(e.getCause()).isInstanceOf(NotFoundException.class);
+        }
+    }
+
+    private AsyncRedmineManager create(FakeCommunicator communicator) {
+        Transport transport = new Transport(new URIConfigurator("http://localhost:3000"), communicator);
+        return new AsyncRedmineManager(new RedmineManager(transport), executor);
+    }
+}
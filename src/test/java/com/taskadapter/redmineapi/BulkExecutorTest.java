@@ -0,0 +1,104 @@
+package com.taskadapter.redmineapi;
+
+import org.junit.Test;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.Assert.fail;
+
+public class BulkExecutorTest {
+
+    @Test
+    public void resultsAreReturnedInItemOrder() throws RedmineException {
+        List<Integer> items = IntStream.rangeClosed(1, 200).boxed().collect(Collectors.toList());
+        try (BulkExecutor bulk = BulkExecutor.create(16)) {
+            BulkResult<Integer, String> result = bulk.run(items, i -> "#" + i);
+
+            assertThat(result.hasFailures()).isFalse();
+            assertThat(result.getResults()).isEqualTo(items.stream().map(i -> "#" + i).collect(Collectors.toList()));
+        }
+    }
+
+    @Test
+    public void concurrencyIsCapped() throws RedmineException {
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger maxRunning = new AtomicInteger();
+        List<Integer> items = IntStream.range(0, 100).boxed().collect(Collectors.toList());
+        try (BulkExecutor bulk = BulkExecutor.create(3)) {
+            bulk.run(items, i -> {
+                maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+                try {
+                    Thread.sleep(1);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                running.decrementAndGet();
+                return i;
+            });
+        }
+        assertThat(maxRunning.get()).isBetween(1, 3);
+    }
+
+    @Test
+    public void failuresAreCollectedWithoutStoppingOtherCalls() throws RedmineException {
+        List<Integer> items = IntStream.rangeClosed(1, 10).boxed().collect(Collectors.toList());
+        try (BulkExecutor bulk = BulkExecutor.create(4)) {
+            BulkResult<Integer, Integer> result = bulk.run(items, i -> {
+                if (i % 5 == 0) {
+                    throw new NotFoundException("no " + i);
+                }
+                return i;
+            });
+
+            assertThat(result.getResults()).containsExactly(1, 2, 3, 4, 6, 7, 8, 9);
+            assertThat(result.getFailures()).extracting("item").containsExactly(5, 10);
+            try {
+                result.throwIfFailed();
+                fail("must have failed");
+            } catch (NotFoundException e) {
+                assertThat(e.getMessage()).isEqualTo("no 5");
+                assertThat(e.getSuppressed()).hasSize(1);
+            }
+        }
+    }
+
+    @Test
+    public void repeatedThrowIfFailedDoesNotAddMoreSuppressedErrors() throws RedmineException {
+        try (BulkExecutor bulk = BulkExecutor.create(2)) {
+            BulkResult<Integer, Integer> result = bulk.run(List.of(1, 2, 3), i -> {
+                throw new NotFoundException("no " + i);
+            });
+            for (int attempt = 0; attempt < 3; attempt++) {
+                try {
+                    result.throwIfFailed();
+                    fail("must have failed");
+                } catch (NotFoundException e) {
+                    assertThat(e.getSuppressed()).hasSize(2);
+                }
+            }
+        }
+    }
+
+    @Test
+    public void errorThrownByCallIsRethrown() throws RedmineException {
+        List<Integer> items = IntStream.rangeClosed(1, 10).boxed().collect(Collectors.toList());
+        AtomicInteger finished = new AtomicInteger();
+        try (BulkExecutor bulk = BulkExecutor.create(4)) {
+            bulk.run(items, i -> {
+                finished.incrementAndGet();
+                if (i == 3) {
+                    throw new AssertionError("broken " + i);
+                }
+                return i;
+            });
+            fail("must have failed");
+        } catch (AssertionError e) {
+            assertThat(e.getMessage()).isEqualTo("broken 3");
+            assertThat(finished.get()).isEqualTo(10);
+        }
+    }
+}
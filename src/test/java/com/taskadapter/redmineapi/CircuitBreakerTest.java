@@ -0,0 +1,176 @@
+package com.taskadapter.redmineapi;
+
+import com.taskadapter.redmineapi.CircuitBreaker.State;
+import com.taskadapter.redmineapi.bean.Issue;
+import com.taskadapter.redmineapi.internal.FakeCommunicator;
+import com.taskadapter.redmineapi.internal.Transport;
+import com.taskadapter.redmineapi.internal.URIConfigurator;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.Assert.fail;
+
+public class CircuitBreakerTest {
+
+    private final AtomicLong now = new AtomicLong();
+    private final List<String> transitions = new ArrayList<>();
+    private final CircuitBreaker breaker = new CircuitBreaker(now::get)
+            .setSlidingWindowSize(4)
+            .setMinimumNumberOfCalls(4)
+            .setFailureRateThreshold(50)
+            .setSlowCallThreshold(100, 1, TimeUnit.SECONDS)
+            .setWaitInOpenState(10, TimeUnit.SECONDS)
+            .setPermittedCallsInHalfOpenState(2)
+            .setStateListener((from, to) -> transitions.add(from + "->" + to));
+
+    @Test
+    public void opensWhenFailureRateReachesThreshold() throws RedmineException {
+        complete(false);
+        complete(true);
+        complete(false);
+        assertThat(breaker.getState()).isEqualTo(State.CLOSED);
+        complete(true);
+
+        assertThat(breaker.getState()).isEqualTo(State.OPEN);
+        assertThat(transitions).containsExactly("CLOSED->OPEN");
+    }
+
+    @Test
+    public void rateIsComputedOverSlidingWindow() throws RedmineException {
+        complete(true);
+        for (int i = 0; i < 5; i++) {
+            complete(false);
+        }
+        complete(true);
+
+        assertThat(breaker.getState()).isEqualTo(State.CLOSED);
+    }
+
+    @Test
+    public void opensWhenAllCallsAreSlow() throws RedmineException {
+        for (int i = 0; i < 4; i++) {
+            breaker.onComplete(breaker.acquirePermission(), TimeUnit.SECONDS.toNanos(2), false);
+        }
+        assertThat(breaker.getState()).isEqualTo(State.OPEN);
+    }
+
+    @Test
+    public void openBreakerRejectsRequestsUntilWaitIsOver() throws RedmineException {
+        open();
+        now.addAndGet(TimeUnit.SECONDS.toNanos(9));
+        try {
+            breaker.acquirePermission();
+            fail("Must have failed");
+        } catch (CircuitBreakerOpenException e) {
+            // expected
+        }
+        now.addAndGet(TimeUnit.SECONDS.toNanos(1));
+        breaker.acquirePermission();
+
+        assertThat(breaker.getState()).isEqualTo(State.HALF_OPEN);
+    }
+
+    @Test
+    public void halfOpenBreakerAllowsLimitedTrialsAndCloses() throws RedmineException {
+        open();
+        now.addAndGet(TimeUnit.SECONDS.toNanos(10));
+        long first = breaker.acquirePermission();
+        long second = breaker.acquirePermission();
+        try {
+            breaker.acquirePermission();
+            fail("Must have failed");
+        } catch (CircuitBreakerOpenException e) {
+            // expected
+        }
+        breaker.onComplete(first, 0, false);
+        breaker.onComplete(second, 0, false);
+
+        assertThat(breaker.getState()).isEqualTo(State.CLOSED);
+        assertThat(transitions).containsExactly("CLOSED->OPEN", "OPEN->HALF_OPEN", "HALF_OPEN->CLOSED");
+    }
+
+    @Test
+    public void failedTrialsOpenBreakerAgain() throws RedmineException {
+        open();
+        now.addAndGet(TimeUnit.SECONDS.toNanos(10));
+        complete(true);
+        complete(false);
+
+        assertThat(breaker.getState()).isEqualTo(State.OPEN);
+    }
+
+    @Test
+    public void lateResultsFromPreviousStateAreIgnored() throws RedmineException {
+        long stale = breaker.acquirePermission();
+        open();
+        now.addAndGet(TimeUnit.SECONDS.toNanos(10));
+        complete(false);
+        breaker.onComplete(stale, 0, true);
+        complete(false);
+
+        assertThat(breaker.getState()).isEqualTo(State.CLOSED);
+    }
+
+    @Test
+    public void serverErrorsOpenBreakerAndStopRequests() throws RedmineException {
+        AtomicInteger status = new AtomicInteger(503);
+        FakeCommunicator communicator = FakeCommunicator.withResponses(r ->
+                FakeCommunicator.response(status.get(), "{\"issue\":{\"id\":1}}"));
+        RedmineManager manager = new RedmineManager(
+                new Transport(new URIConfigurator("http://localhost:3000"), communicator));
+        manager.setCircuitBreaker(breaker);
+
+        for (int i = 0; i < 4; i++) {
+            manager.getIssueManager().getIssueById(1);
+        }
+        try {
+            manager.getIssueManager().getIssueById(1);
+            fail("Must have failed");
+        } catch (CircuitBreakerOpenException e) {
+            assertThat(communicator.getRequests()).hasSize(4);
+        }
+
+        status.set(200);
+        now.addAndGet(TimeUnit.SECONDS.toNanos(10));
+        manager.getIssueManager().getIssueById(1);
+        manager.getIssueManager().getIssueById(1);
+        assertThat(breaker.getState()).isEqualTo(State.CLOSED);
+    }
+
+    @Test
+    public void consumerErrorsAreNotCountedAsFailures() throws RedmineException {
+        FakeCommunicator communicator = FakeCommunicator.withBodies(r -> FakeCommunicator.issuesPage(r.getURI(), 3, 25));
+        Transport transport = new Transport(new URIConfigurator("http://localhost:3000"), communicator);
+        transport.setCircuitBreaker(breaker);
+
+        for (int i = 0; i < 4; i++) {
+            try {
+                transport.forEachObject(Issue.class, Collections.emptyList(), issue -> {
+                    throw new IllegalStateException("consumer failed");
+                });
+                fail("Must have failed");
+            } catch (IllegalStateException e) {
+                assertThat(e).hasMessage("consumer failed");
+            }
+        }
+        assertThat(breaker.getState()).isEqualTo(State.CLOSED);
+        assertThat(transitions).isEmpty();
+    }
+
+    private void open() throws RedmineException {
+        for (int i = 0; i < 4; i++) {
+            complete(true);
+        }
+    }
+
+    private void complete(boolean failed) throws RedmineException {
+        breaker.onComplete(breaker.acquirePermission(), 0, failed);
+    }
+}
@@ -0,0 +1,102 @@
+package com.taskadapter.redmineapi;
+
+import com.taskadapter.redmineapi.bean.Issue;
+import com.taskadapter.redmineapi.bean.Project;
+import com.taskadapter.redmineapi.internal.FakeCommunicator;
+import com.taskadapter.redmineapi.internal.RedmineJSONParser;
+import com.taskadapter.redmineapi.internal.Transport;
+import com.taskadapter.redmineapi.internal.URIConfigurator;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.Assert.fail;
+
+public class IssueManagerTest {
+
+    @Test
+    public void idsAreSplitIntoChunksOfLimitedSize() {
+        List<Integer> ids = IntStream.rangeClosed(1, 250).boxed().collect(Collectors.toList());
+
+        List<List<Integer>> chunks = IssueManager.splitIds(ids);
+
+        assertThat(chunks.stream().map(List::size).collect(Collectors.toList())).containsExactly(100, 100, 50);
+    }
+
+    @Test
+    public void duplicatesAndNullsAreSkipped() {
+        List<List<Integer>> chunks = IssueManager.splitIds(Arrays.asList(3, null, 1, 3, 2, 1));
+
+        assertThat(chunks).containsExactly(Arrays.asList(3, 1, 2));
+    }
+
+    @Test
+    public void issuesAreLoadedWithIdFilterAndReturnedInRequestedOrder() throws RedmineException {
+        // server knows issues 1..200 and returns at most 40 issues per page
+        FakeCommunicator communicator = FakeCommunicator.withBodies(r -> FakeCommunicator.issuesById(r.getURI(), 200, 40));
+        IssueManager issueManager = new IssueManager(
+                new Transport(new URIConfigurator("http://localhost:3000"), communicator));
+        List<Integer> ids = IntStream.iterate(300, i -> i - 2).limit(150).boxed().collect(Collectors.toList());
+
+        Map<Integer, Issue> issues = issueManager.getIssuesByIds(ids);
+
+        List<Integer> expected = ids.stream().filter(id -> id <= 200).collect(Collectors.toList());
+        assertThat(issues.keySet()).containsExactlyElementsOf(expected);
+        assertThat(issues.get(100).getId()).isEqualTo(100);
+        assertThat(FakeCommunicator.param(communicator.getRequests().get(0), "status_id")).isEqualTo("*");
+        // 2 chunks of 100 and 50 ids, the server page limit makes each of them take 2 pages
+        assertThat(communicator.getRequests()).hasSize(4);
+    }
+
+    @Test
+    public void includesNotSupportedByIssuesListAreRejected() throws RedmineException {
+        FakeCommunicator communicator = FakeCommunicator.withBodies(r -> FakeCommunicator.issuesById(r.getURI(), 200, 40));
+        IssueManager issueManager = new IssueManager(
+                new Transport(new URIConfigurator("http://localhost:3000"), communicator));
+
+        assertThat(issueManager.getIssuesByIds(Arrays.asList(1, 2), Include.relations, Include.attachments)).hasSize(2);
+        try {
+            issueManager.getIssuesByIds(Arrays.asList(1, 2), Include.relations, Include.journals);
+            fail("must have failed");
+        } catch (IllegalArgumentException e) {
+            assertThat(e.getMessage()).contains("journals");
+        }
+        assertThat(communicator.getRequests()).hasSize(1);
+    }
+
+    @Test
+    public void onlyRequestedPropertiesAreParsed() throws RedmineException {
+        FakeCommunicator communicator = FakeCommunicator.withBodies(r -> "{\"issues\":[{\"id\":7,"
+                + "\"subject\":\"subject\",\"description\":\"long text\",\"status\":{\"id\":1,\"name\":\"New\"},"
+                + "\"assigned_to\":{\"id\":3,\"name\":\"John\"},\"custom_fields\":[{\"id\":1,\"name\":\"f\",\"value\":\"v\"}],"
+                + "\"created_on\":\"2020-01-01T10:00:00Z\",\"updated_on\":\"2020-01-02T10:00:00Z\"}],"
+                + "\"total_count\":1,\"offset\":0,\"limit\":25}");
+        IssueManager issueManager = new IssueManager(
+                new Transport(new URIConfigurator("http://localhost:3000"), communicator));
+
+        List<Issue> issues = issueManager.getIssuesWithFields(new Params(),
+                Issue.SUBJECT, Issue.STATUS_NAME, Issue.ASSIGNEE_NAME, Issue.UPDATED_ON).getResults();
+
+        Issue issue = issues.get(0);
+        assertThat(issue.getId()).isEqualTo(7);
+        assertThat(issue.getSubject()).isEqualTo("subject");
+        assertThat(issue.getStatusName()).isEqualTo("New");
+        assertThat(issue.getAssigneeName()).isEqualTo("John");
+        assertThat(issue.getUpdatedOn()).isNotNull();
+        assertThat(issue.getStorage().isPropertySet(Issue.DESCRIPTION)).isFalse();
+        assertThat(issue.getStorage().isPropertySet(Issue.STATUS_ID)).isFalse();
+        assertThat(issue.getStorage().isPropertySet(Issue.ASSIGNEE_ID)).isFalse();
+        assertThat(issue.getStorage().isPropertySet(Issue.CREATED_ON)).isFalse();
+        assertThat(issue.getCustomFields()).isEmpty();
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void propertiesOfOtherClassesAreRejected() {
+        RedmineJSONParser.issueProjection(Arrays.asList(Issue.SUBJECT, Project.NAME));
+    }
+}
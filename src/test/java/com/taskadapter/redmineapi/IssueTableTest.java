@@ -0,0 +1,116 @@
+package com.taskadapter.redmineapi;
+
+import com.taskadapter.redmineapi.IssueTable.Dimension;
+import com.taskadapter.redmineapi.IssueTable.Measure;
+import com.taskadapter.redmineapi.internal.FakeCommunicator;
+import com.taskadapter.redmineapi.internal.Transport;
+import com.taskadapter.redmineapi.internal.URIConfigurator;
+import org.json.JSONObject;
+import org.junit.Test;
+
+import java.net.URI;
+import java.time.Instant;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.entry;
+
+public class IssueTableTest {
+
+    @Test
+    public void fieldsAreStoredInColumns() {
+        IssueTable table = new IssueTable();
+        table.add(new JSONObject("{\"id\":5,\"subject\":\"first\",\"parent\":{\"id\":2},"
+                + "\"status\":{\"id\":1,\"name\":\"New\"},\"assigned_to\":{\"id\":7,\"name\":\"John\"},"
+                + "\"done_ratio\":30,\"estimated_hours\":2.5,\"created_on\":\"2020-01-02T03:04:05Z\"}"));
+        table.add(new JSONObject("{\"id\":6}"));
+
+        assertThat(table.size()).isEqualTo(2);
+        assertThat(table.getId(0)).isEqualTo(5);
+        assertThat(table.getSubject(0)).isEqualTo("first");
+        assertThat(table.getParentId(0)).isEqualTo(2);
+        assertThat(table.getId(Dimension.STATUS, 0)).isEqualTo(1);
+        assertThat(table.getName(Dimension.STATUS, 0)).isEqualTo("New");
+        assertThat(table.getName(Dimension.ASSIGNEE, 0)).isEqualTo("John");
+        assertThat(table.getDoneRatio(0)).isEqualTo(30);
+        assertThat(table.getEstimatedHours(0)).isEqualTo(2.5f);
+        assertThat(table.getCreatedOn(0)).isEqualTo(Instant.parse("2020-01-02T03:04:05Z").toEpochMilli());
+
+        assertThat(table.getSubject(1)).isNull();
+        assertThat(table.getParentId(1)).isEqualTo(IssueTable.NO_VALUE);
+        assertThat(table.getName(Dimension.STATUS, 1)).isNull();
+        assertThat(table.getId(Dimension.STATUS, 1)).isEqualTo(IssueTable.NO_VALUE);
+        assertThat(table.getEstimatedHours(1)).isNaN();
+        assertThat(table.getCreatedOn(1)).isEqualTo(IssueTable.NO_DATE);
+    }
+
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void rowsOutsideOfTableAreRejected() {
+        new IssueTable().getId(0);
+    }
+
+    @Test
+    public void rowsAreCountedAndSummedByDimension() {
+        IssueTable table = sampleTable();
+
+        assertThat(table.countBy(Dimension.STATUS)).containsExactly(
+                entry(null, 1), entry("New", 2), entry("Closed", 1));
+        Map<String, Double> hours = table.sumBy(Dimension.STATUS, Measure.SPENT_HOURS);
+        assertThat(hours).containsOnly(entry("New", 3.0), entry("Closed", 4.0));
+    }
+
+    @Test
+    public void filteredTableKeepsMatchingRows() {
+        IssueTable table = sampleTable();
+
+        IssueTable newIssues = table.filter(table.where(Dimension.STATUS, "New"));
+
+        assertThat(newIssues.size()).isEqualTo(2);
+        assertThat(newIssues.getId(0)).isEqualTo(1);
+        assertThat(newIssues.getId(1)).isEqualTo(3);
+        assertThat(newIssues.getName(Dimension.STATUS, 1)).isEqualTo("New");
+        assertThat(newIssues.countBy(Dimension.STATUS)).containsOnly(entry("New", 2));
+        assertThat(table.filter(table.where(Dimension.STATUS, "Unknown")).size()).isZero();
+        assertThat(table.filter(table.whereId(Dimension.STATUS, 5)).getId(0)).isEqualTo(2);
+    }
+
+    @Test
+    public void tableIsFilledFromAllPages() throws RedmineException {
+        FakeCommunicator communicator = FakeCommunicator.withBodies(r -> statusPage(r.getURI(), 130, 50));
+        IssueManager issueManager = new IssueManager(
+                new Transport(new URIConfigurator("http://localhost:3000"), communicator));
+
+        IssueTable table = issueManager.getIssueTable(new Params());
+
+        assertThat(table.size()).isEqualTo(130);
+        assertThat(table.getId(129)).isEqualTo(130);
+        assertThat(table.countBy(Dimension.STATUS)).containsOnly(entry("New", 65), entry("Closed", 65));
+        assertThat(communicator.getRequests()).hasSize(6);
+    }
+
+    private static IssueTable sampleTable() {
+        IssueTable table = new IssueTable();
+        table.add(new JSONObject("{\"id\":1,\"status\":{\"id\":1,\"name\":\"New\"},\"spent_hours\":1}"));
+        table.add(new JSONObject("{\"id\":2,\"status\":{\"id\":5,\"name\":\"Closed\"},\"spent_hours\":4}"));
+        table.add(new JSONObject("{\"id\":3,\"status\":{\"id\":1,\"name\":\"New\"},\"spent_hours\":2}"));
+        table.add(new JSONObject("{\"id\":4}"));
+        return table;
+    }
+
+    private static String statusPage(URI uri, int total, int maxPageSize) {
+        int offset = Integer.parseInt(FakeCommunicator.param(uri, "offset"));
+        int limit = Math.min(maxPageSize, Integer.parseInt(FakeCommunicator.param(uri, "limit")));
+        StringBuilder builder = new StringBuilder("{\"issues\":[");
+        for (int id = offset + 1; id <= Math.min(total, offset + limit); id++) {
+            if (id > offset + 1) {
+                builder.append(',');
+            }
+            String status = id % 2 == 0 ? "{\"id\":5,\"name\":\"Closed\"}" : "{\"id\":1,\"name\":\"New\"}";
+            builder.append("{\"id\":").append(id).append(",\"status\":").append(status)
+                    .append(",\"description\":\"skipped\",\"journals\":[{\"notes\":\"skipped\"}]}");
+        }
+        return builder.append("],\"total_count\":").append(total)
+                .append(",\"offset\":").append(offset)
+                .append(",\"limit\":").append(limit).append('}').toString();
+    }
+}
@@ -0,0 +1,102 @@
+package com.taskadapter.redmineapi;
+
+import com.taskadapter.redmineapi.internal.FakeCommunicator;
+import com.taskadapter.redmineapi.internal.Transport;
+import com.taskadapter.redmineapi.internal.URIConfigurator;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.Assert.fail;
+
+public class RateLimiterTest {
+
+    private final AtomicLong now = new AtomicLong();
+    private final List<Long> sleeps = new ArrayList<>();
+
+    @Test
+    public void burstIsAvailableImmediately() throws RedmineException {
+        RateLimiter limiter = limiter(1, 3);
+        for (int i = 0; i < 3; i++) {
+            limiter.acquire("request " + i);
+        }
+        assertThat(sleeps).isEmpty();
+    }
+
+    @Test
+    public void callersWaitForRefillInOrder() throws RedmineException {
+        RateLimiter limiter = limiter(2, 1);
+        limiter.acquire("first");
+        limiter.acquire("second");
+        limiter.acquire("third");
+
+        assertThat(sleeps).containsExactly(TimeUnit.MILLISECONDS.toNanos(500), TimeUnit.MILLISECONDS.toNanos(1000));
+    }
+
+    @Test
+    public void permitsAreRefilledUpToBurst() {
+        RateLimiter limiter = limiter(10, 5);
+        now.addAndGet(TimeUnit.MINUTES.toNanos(1));
+
+        assertThat(limiter.getAvailablePermits()).isEqualTo(5);
+    }
+
+    @Test
+    public void failFastLimiterThrowsWhenEmpty() throws RedmineException {
+        RateLimiter limiter = limiter(1, 1).setFailFast(true);
+        limiter.acquire("first");
+        try {
+            limiter.acquire("second");
+            fail("Must have failed");
+        } catch (RateLimitExceededException e) {
+            assertThat(e.getMessage()).contains("second");
+        }
+        now.addAndGet(TimeUnit.SECONDS.toNanos(1));
+        limiter.acquire("third");
+    }
+
+    @Test
+    public void readsAndWritesHaveSeparateBudgets() throws RedmineException {
+        FakeCommunicator communicator = FakeCommunicator.withBodies(r -> "{\"issue\":{\"id\":1}}");
+        RedmineManager manager = new RedmineManager(
+                new Transport(new URIConfigurator("http://localhost:3000"), communicator));
+        manager.setRateLimiters(limiter(1, 2).setFailFast(true), limiter(1, 1).setFailFast(true));
+
+        manager.getIssueManager().getIssueById(1);
+        manager.getIssueManager().deleteIssue(1);
+        manager.getIssueManager().getIssueById(1);
+        try {
+            manager.getIssueManager().getIssueById(1);
+            fail("Must have failed");
+        } catch (RateLimitExceededException e) {
+            assertThat(communicator.getRequests()).hasSize(3);
+        }
+    }
+
+    @Test
+    public void retriesTakePermits() throws RedmineException {
+        AtomicInteger status = new AtomicInteger(503);
+        FakeCommunicator communicator = FakeCommunicator.withResponses(r ->
+                FakeCommunicator.response(status.getAndSet(200), "{\"issue\":{\"id\":1}}"));
+        RedmineManager manager = new RedmineManager(
+                new Transport(new URIConfigurator("http://localhost:3000"), communicator));
+        manager.setRetryPolicy(new RetryPolicy().setBackoff(0, 0, TimeUnit.MILLISECONDS));
+        manager.setRateLimiters(limiter(1, 1).setFailFast(true), null);
+
+        try {
+            manager.getIssueManager().getIssueById(1);
+            fail("Must have failed");
+        } catch (RateLimitExceededException e) {
+            assertThat(communicator.getRequests()).hasSize(1);
+        }
+    }
+
+    private RateLimiter limiter(double permitsPerSecond, int burst) {
+        return new RateLimiter(permitsPerSecond, burst, now::get, sleeps::add);
+    }
+}
@@ -1,7 +1,14 @@
 package com.taskadapter.redmineapi;
 
+import org.apache.http.conn.ClientConnectionManager;
+import org.apache.http.conn.ssl.SSLSocketFactory;
+import org.apache.http.impl.conn.PoolingClientConnectionManager;
 import org.junit.Test;
 
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
 public class RedmineManagerFactoryTest {
 
     @SuppressWarnings("unused")
@@ -16,4 +23,22 @@ public class RedmineManagerFactoryTest {
         RedmineManagerFactory.createUnauthenticated("");
     }
 
+    @Test
+    public void defaultConnectionManagerIsPooling() {
+        ClientConnectionManager manager = RedmineManagerFactory.createDefaultConnectionManager();
+        assertThat(manager).isInstanceOf(PoolingClientConnectionManager.class);
+        PoolingClientConnectionManager pooling = (PoolingClientConnectionManager) manager;
+        assertThat(pooling.getMaxTotal()).isEqualTo(RedmineManagerFactory.DEFAULT_MAX_CONNECTIONS_TOTAL);
+        assertThat(pooling.getDefaultMaxPerRoute()).isEqualTo(RedmineManagerFactory.DEFAULT_MAX_CONNECTIONS_PER_ROUTE);
+        manager.shutdown();
+    }
+
+    @Test
+    public void connectionLimitsCanBeConfigured() {
+        PoolingClientConnectionManager manager = (PoolingClientConnectionManager) RedmineManagerFactory.createConnectionManager(
+                SSLSocketFactory.getSocketFactory(), 7, 3, 10, TimeUnit.SECONDS);
+        assertThat(manager.getMaxTotal()).isEqualTo(7);
+        assertThat(manager.getDefaultMaxPerRoute()).isEqualTo(3);
+        manager.shutdown();
+    }
 }
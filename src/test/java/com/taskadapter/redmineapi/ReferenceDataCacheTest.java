@@ -0,0 +1,77 @@
+package com.taskadapter.redmineapi;
+
+import com.taskadapter.redmineapi.bean.IssueStatus;
+import com.taskadapter.redmineapi.bean.Tracker;
+import com.taskadapter.redmineapi.bean.Version;
+import com.taskadapter.redmineapi.internal.FakeCommunicator;
+import com.taskadapter.redmineapi.internal.Transport;
+import com.taskadapter.redmineapi.internal.URIConfigurator;
+import org.junit.Test;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class ReferenceDataCacheTest {
+
+    private final AtomicLong now = new AtomicLong();
+    private final ReferenceDataCache cache = new ReferenceDataCache(now::get);
+    private final FakeCommunicator communicator = FakeCommunicator.withBodies(r ->
+            "{\"issue_statuses\":[{\"id\":1,\"name\":\"New\"},{\"id\":2,\"name\":\"Closed\"}]," +
+                    "\"trackers\":[{\"id\":1,\"name\":\"Bug\"}]}");
+    private final RedmineManager manager;
+
+    public ReferenceDataCacheTest() {
+        Transport transport = new Transport(new URIConfigurator("http://localhost:3000"), communicator);
+        manager = new RedmineManager(transport);
+        manager.setReferenceDataCache(cache);
+    }
+
+    @Test
+    public void listIsLoadedOnceWhileFresh() throws RedmineException {
+        List<IssueStatus> first = manager.getIssueManager().getStatuses();
+        now.addAndGet(TimeUnit.MINUTES.toNanos(9));
+        List<IssueStatus> second = manager.getIssueManager().getStatuses();
+
+        assertThat(second).hasSize(2);
+        assertThat(second.get(0)).isSameAs(first.get(0));
+        assertThat(communicator.getRequests()).hasSize(1);
+        assertThat(cache.getHitCount(IssueStatus.class)).isEqualTo(1);
+        assertThat(cache.getMissCount(IssueStatus.class)).isEqualTo(1);
+    }
+
+    @Test
+    public void expiredListIsLoadedAgain() throws RedmineException {
+        manager.getIssueManager().getStatuses();
+        now.addAndGet(TimeUnit.MINUTES.toNanos(ReferenceDataCache.DEFAULT_TIME_TO_LIVE_MINUTES));
+        manager.getIssueManager().getStatuses();
+
+        assertThat(communicator.getRequests()).hasSize(2);
+        assertThat(cache.getMissCount()).isEqualTo(2);
+    }
+
+    @Test
+    public void invalidationOnlyDropsListsOfOneClass() throws RedmineException {
+        manager.getIssueManager().getStatuses();
+        manager.getIssueManager().getTrackers();
+
+        cache.invalidate(IssueStatus.class);
+        manager.getIssueManager().getStatuses();
+        manager.getIssueManager().getTrackers();
+
+        assertThat(communicator.getRequests()).hasSize(3);
+        assertThat(cache.getHitCount(Tracker.class)).isEqualTo(1);
+    }
+
+    @Test
+    public void ttlCanBeConfiguredPerClass() {
+        cache.setTimeToLive(Version.class, 1, TimeUnit.MINUTES)
+                .setTimeToLive(Tracker.class, 0, TimeUnit.MINUTES);
+
+        assertThat(cache.isCached(Version.class)).isTrue();
+        assertThat(cache.isCached(Tracker.class)).isFalse();
+        assertThat(cache.isCached(IssueStatus.class)).isTrue();
+    }
+}
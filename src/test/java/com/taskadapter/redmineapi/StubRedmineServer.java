@@ -0,0 +1,309 @@
+package com.taskadapter.redmineapi;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.json.JSONArray;
+import org.json.JSONObject;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Minimal Redmine imitation on top of the JDK HTTP server, for load and latency tests without a real Redmine.
+ * Serves generated issues, projects and time entries:
+ * <ul>
+ * <li>GET issues.json, projects.json, time_entries.json with "offset" and "limit" (default 25, max 100)
+ * and "total_count" like Redmine does. issues.json also supports the "issue_id" filter.</li>
+ * <li>GET issues/{id}.json, projects/{id}.json, time_entries/{id}.json</li>
+ * <li>POST uploads.json returns a token.</li>
+ * </ul>
+ * Latency, random errors and gzip responses can be switched on while the server runs.
+ * Authentication is not checked.
+ */
+public final class StubRedmineServer implements AutoCloseable {
+    private static final int DEFAULT_LIMIT = 25;
+    private static final int MAX_LIMIT = 100;
+    private static final Pattern SINGLE_OBJECT = Pattern.compile("/(issues|projects|time_entries)/(\\d+)\\.json");
+    private static final Pattern LIST = Pattern.compile("/(issues|projects|time_entries)\\.json");
+
+    static {
+        // without it small responses wait for delayed TCP acknowledgements (~40 ms each)
+        System.setProperty("sun.net.httpserver.nodelay", "true");
+    }
+
+    private final HttpServer server;
+    private final ExecutorService executor;
+    private final Map<String, List<String>> objects = new HashMap<>();
+    private final AtomicInteger requestCount = new AtomicInteger();
+    private final AtomicInteger failuresLeft = new AtomicInteger();
+    private final AtomicLong uploadCount = new AtomicLong();
+
+    private volatile long latencyMillis;
+    private volatile double errorRate;
+    private volatile int errorStatus = 503;
+    private volatile boolean gzip;
+
+    private StubRedmineServer(int issues, int projects, int timeEntries) throws IOException {
+        objects.put("issues", generate(issues, StubRedmineServer::issue));
+        objects.put("projects", generate(projects, StubRedmineServer::project));
+        objects.put("time_entries", generate(timeEntries, StubRedmineServer::timeEntry));
+        server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+        executor = Executors.newCachedThreadPool(runnable -> {
+            final Thread thread = new Thread(runnable, "stub-redmine");
+            thread.setDaemon(true);
+            return thread;
+        });
+        server.setExecutor(executor);
+        server.createContext("/", this::handle);
+        server.start();
+    }
+
+    /**
+     * Starts a server on a free port of the loopback interface.
+     */
+    public static StubRedmineServer start(int issues, int projects, int timeEntries) throws IOException {
+        return new StubRedmineServer(issues, projects, timeEntries);
+    }
+
+    /**
+     * @return base URI to pass to {@link RedmineManagerFactory}.
+     */
+    public String getUri() {
+        return "http://" + server.getAddress().getHostString() + ":" + server.getAddress().getPort();
+    }
+
+    /**
+     * Every response is delayed by this time.
+     */
+    public StubRedmineServer setLatency(long latency, TimeUnit unit) {
+        this.latencyMillis = unit.toMillis(latency);
+        return this;
+    }
+
+    /**
+     * @param rate   part of requests, from 0 to 1, answered with the error status instead of data.
+     * @param status e.g. 503.
+     */
+    public StubRedmineServer setErrorRate(double rate, int status) {
+        this.errorRate = rate;
+        this.errorStatus = status;
+        return this;
+    }
+
+    /**
+     * The next count requests are answered with the given status.
+     */
+    public StubRedmineServer failNext(int count, int status) {
+        this.errorStatus = status;
+        failuresLeft.set(count);
+        return this;
+    }
+
+    /**
+     * Compresses responses for clients which accept gzip.
+     */
+    public StubRedmineServer setGzip(boolean gzip) {
+        this.gzip = gzip;
+        return this;
+    }
+
+    public int getRequestCount() {
+        return requestCount.get();
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+        executor.shutdownNow();
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        try (InputStream body = exchange.getRequestBody()) {
+            requestCount.incrementAndGet();
+            body.transferTo(OutputStream.nullOutputStream());
+            if (latencyMillis > 0) {
+                Thread.sleep(latencyMillis);
+            }
+            if (failuresLeft.getAndUpdate(n -> Math.max(0, n - 1)) > 0
+                    || errorRate > 0 && ThreadLocalRandom.current().nextDouble() < errorRate) {
+                respond(exchange, errorStatus, "{\"errors\":[\"Injected error\"]}");
+                return;
+            }
+            route(exchange);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (RuntimeException e) {
+            respond(exchange, 500, "{\"errors\":[\"" + e + "\"]}");
+        } finally {
+            exchange.close();
+        }
+    }
+
+    private void route(HttpExchange exchange) throws IOException {
+        final String method = exchange.getRequestMethod();
+        final String path = exchange.getRequestURI().getPath();
+        final Matcher single = SINGLE_OBJECT.matcher(path);
+        final Matcher list = LIST.matcher(path);
+        if (method.equals("POST") && path.equals("/uploads.json")) {
+            respond(exchange, 201, "{\"upload\":{\"token\":\"" + uploadCount.incrementAndGet() + ".stub\"}}");
+        } else if (method.equals("GET") && single.matches()) {
+            final List<String> all = objects.get(single.group(1));
+            final int id = Integer.parseInt(single.group(2));
+            if (id < 1 || id > all.size()) {
+                respond(exchange, 404, "");
+            } else {
+                respond(exchange, 200, "{\"" + singular(single.group(1)) + "\":" + all.get(id - 1) + "}");
+            }
+        } else if (method.equals("GET") && list.matches()) {
+            respond(exchange, 200, page(list.group(1), parseQuery(exchange.getRequestURI())));
+        } else {
+            respond(exchange, 404, "");
+        }
+    }
+
+    private String page(String name, Map<String, String> query) {
+        List<String> all = objects.get(name);
+        final String idFilter = query.get("issue_id");
+        if (name.equals("issues") && idFilter != null) {
+            final Set<Integer> ids = new HashSet<>();
+            for (String id : idFilter.split(",")) {
+                ids.add(Integer.parseInt(id.trim()));
+            }
+            final List<String> filtered = new ArrayList<>();
+            for (int id = 1; id <= all.size(); id++) {
+                if (ids.contains(id)) {
+                    filtered.add(all.get(id - 1));
+                }
+            }
+            all = filtered;
+        }
+        final int offset = Math.max(0, Integer.parseInt(query.getOrDefault("offset", "0")));
+        final int limit = Math.min(MAX_LIMIT, Math.max(1, Integer.parseInt(query.getOrDefault("limit",
+                String.valueOf(DEFAULT_LIMIT)))));
+        final StringBuilder result = new StringBuilder("{\"").append(name).append("\":[");
+        for (int i = offset; i < Math.min(all.size(), offset + limit); i++) {
+            if (i > offset) {
+                result.append(',');
+            }
+            result.append(all.get(i));
+        }
+        return result.append("],\"total_count\":").append(all.size())
+                .append(",\"offset\":").append(offset)
+                .append(",\"limit\":").append(limit)
+                .append('}').toString();
+    }
+
+    private void respond(HttpExchange exchange, int status, String body) throws IOException {
+        final byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", "application/json; charset=utf-8");
+        final String acceptEncoding = exchange.getRequestHeaders().getFirst("Accept-Encoding");
+        if (gzip && bytes.length > 0 && acceptEncoding != null && acceptEncoding.contains("gzip")) {
+            exchange.getResponseHeaders().set("Content-Encoding", "gzip");
+            exchange.sendResponseHeaders(status, 0);
+            try (OutputStream out = new GZIPOutputStream(exchange.getResponseBody())) {
+                out.write(bytes);
+            }
+        } else {
+            exchange.sendResponseHeaders(status, bytes.length == 0 ? -1 : bytes.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(bytes);
+            }
+        }
+    }
+
+    private static Map<String, String> parseQuery(URI uri) {
+        final Map<String, String> result = new HashMap<>();
+        final String query = uri.getRawQuery();
+        if (query != null) {
+            for (String pair : query.split("&")) {
+                final int index = pair.indexOf('=');
+                if (index > 0) {
+                    result.put(URLDecoder.decode(pair.substring(0, index), StandardCharsets.UTF_8),
+                            URLDecoder.decode(pair.substring(index + 1), StandardCharsets.UTF_8));
+                }
+            }
+        }
+        return result;
+    }
+
+    private static String singular(String name) {
+        return name.equals("issues") ? "issue" : name.equals("projects") ? "project" : "time_entry";
+    }
+
+    private interface Generator {
+        JSONObject generate(int id);
+    }
+
+    private static List<String> generate(int count, Generator generator) {
+        final List<String> result = new ArrayList<>(count);
+        for (int id = 1; id <= count; id++) {
+            result.add(generator.generate(id).toString());
+        }
+        return result;
+    }
+
+    private static JSONObject issue(int id) {
+        final int projectId = id % 10 + 1;
+        return new JSONObject()
+                .put("id", id)
+                .put("project", new JSONObject().put("id", projectId).put("name", "Project " + projectId))
+                .put("tracker", new JSONObject().put("id", 1).put("name", "Bug"))
+                .put("status", new JSONObject().put("id", id % 5 + 1).put("name", "Status " + (id % 5 + 1)))
+                .put("priority", new JSONObject().put("id", 2).put("name", "Normal"))
+                .put("author", new JSONObject().put("id", 1).put("name", "Redmine Admin"))
+                .put("subject", "Issue " + id)
+                .put("description", "Generated issue number " + id)
+                .put("start_date", "2020-01-15")
+                .put("done_ratio", id % 100)
+                .put("custom_fields", new JSONArray()
+                        .put(new JSONObject().put("id", 1).put("name", "Customer").put("value", "Customer " + id % 7)))
+                .put("created_on", "2020-01-15T10:00:00Z")
+                .put("updated_on", "2020-02-01T12:30:00Z");
+    }
+
+    private static JSONObject project(int id) {
+        return new JSONObject()
+                .put("id", id)
+                .put("name", "Project " + id)
+                .put("identifier", "project-" + id)
+                .put("description", "Generated project number " + id)
+                .put("status", 1)
+                .put("created_on", "2020-01-01T09:00:00Z")
+                .put("updated_on", "2020-01-01T09:00:00Z");
+    }
+
+    private static JSONObject timeEntry(int id) {
+        return new JSONObject()
+                .put("id", id)
+                .put("project", new JSONObject().put("id", id % 10 + 1).put("name", "Project " + (id % 10 + 1)))
+                .put("issue", new JSONObject().put("id", id))
+                .put("user", new JSONObject().put("id", 1).put("name", "Redmine Admin"))
+                .put("activity", new JSONObject().put("id", 9).put("name", "Development"))
+                .put("hours", 1.5)
+                .put("comments", "Work on issue " + id)
+                .put("spent_on", "2020-02-01")
+                .put("created_on", "2020-02-01T18:00:00Z")
+                .put("updated_on", "2020-02-01T18:00:00Z");
+    }
+}
@@ -0,0 +1,84 @@
+package com.taskadapter.redmineapi;
+
+import com.taskadapter.redmineapi.bean.Attachment;
+import com.taskadapter.redmineapi.bean.Issue;
+import com.taskadapter.redmineapi.bean.Project;
+import com.taskadapter.redmineapi.bean.TimeEntry;
+import org.apache.http.conn.ClientConnectionManager;
+import org.junit.After;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Runs RedmineManager over real HTTP against {@link StubRedmineServer}.
+ */
+public class StubRedmineServerTest {
+
+    private final StubRedmineServer server;
+    private final ClientConnectionManager connectionManager = RedmineManagerFactory.createDefaultConnectionManager();
+    private final RedmineManager manager;
+
+    public StubRedmineServerTest() throws IOException {
+        server = StubRedmineServer.start(230, 12, 60);
+        manager = RedmineManagerFactory.createWithApiKey(server.getUri(), "key",
+                RedmineManagerFactory.getNewHttpClient(server.getUri(), connectionManager));
+    }
+
+    @After
+    public void stopServer() {
+        connectionManager.shutdown();
+        server.close();
+    }
+
+    @Test
+    public void allPagesAreLoaded() throws RedmineException {
+        List<Issue> issues = manager.getIssueManager().getIssues(null, null);
+        List<Project> projects = manager.getProjectManager().getProjects();
+        List<TimeEntry> timeEntries = manager.getTimeEntryManager().getTimeEntries();
+
+        assertThat(issues).hasSize(230);
+        assertThat(issues.get(229).getSubject()).isEqualTo("Issue 230");
+        assertThat(projects).hasSize(12);
+        assertThat(timeEntries).hasSize(60);
+    }
+
+    @Test
+    public void singleObjectsAndIdFilterAreSupported() throws RedmineException {
+        assertThat(manager.getIssueManager().getIssueById(17).getSubject()).isEqualTo("Issue 17");
+        Map<Integer, Issue> issues = manager.getIssueManager().getIssuesByIds(Arrays.asList(3, 500, 1));
+
+        assertThat(issues.keySet()).containsExactly(3, 1);
+    }
+
+    @Test
+    public void gzipResponsesAreDecoded() throws RedmineException {
+        server.setGzip(true);
+
+        assertThat(manager.getIssueManager().getIssues(null, null)).hasSize(230);
+    }
+
+    @Test
+    public void injectedErrorsAreRetried() throws RedmineException {
+        manager.setRetryPolicy(new RetryPolicy().setBackoff(1, 10, TimeUnit.MILLISECONDS));
+        server.failNext(2, 503);
+
+        assertThat(manager.getIssueManager().getIssueById(5).getId()).isEqualTo(5);
+        assertThat(server.getRequestCount()).isEqualTo(3);
+    }
+
+    @Test
+    public void uploadReturnsToken() throws Exception {
+        Attachment attachment = manager.getAttachmentManager().uploadAttachment("file.txt", "text/plain",
+                "content".getBytes(StandardCharsets.UTF_8));
+
+        assertThat(attachment.getToken()).isEqualTo("1.stub");
+    }
+}
@@ -5,6 +5,7 @@ import org.junit.Test;
 import static org.assertj.core.api.Assertions.assertThat;
 import java.util.Calendar;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.Date;
 
 public class IssueTest {
@@ -18,4 +19,23 @@ public class IssueTest {
         issue.addCustomField(duplicateField);
         assertThat(issue.getCustomFields().size()).isEqualTo(1);
     }
+
+    @Test
+    public void collectionsAreNotCreatedUntilSomethingIsAdded() {
+        Issue issue = new Issue();
+        assertThat(issue.getWatchers()).isEmpty();
+        assertThat(issue.getStorage().getProperties()).isEmpty();
+
+        issue.addWatchers(Collections.singletonList(new Watcher().setId(1)));
+        assertThat(issue.getStorage().isPropertySet(Issue.WATCHERS)).isTrue();
+        assertThat(issue.getWatchers()).hasSize(1);
+    }
+
+    @Test
+    public void addingEmptyCollectionMarksPropertyAsSet() {
+        Issue issue = new Issue();
+        issue.addWatchers(Collections.emptyList());
+        assertThat(issue.getStorage().isPropertySet(Issue.WATCHERS)).isTrue();
+        assertThat(issue.getWatchers()).isEmpty();
+    }
 }
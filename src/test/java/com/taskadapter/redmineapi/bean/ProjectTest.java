@@ -0,0 +1,28 @@
+package com.taskadapter.redmineapi.bean;
+
+import org.junit.Test;
+
+import java.util.Collections;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class ProjectTest {
+    @Test
+    public void addingEmptyTrackersListMarksTrackersAsSet() {
+        Project project = new Project(null);
+        project.addTrackers(Collections.emptyList());
+        assertThat(project.getStorage().isPropertySet(Project.TRACKERS)).isTrue();
+        assertThat(project.getTrackers()).isEmpty();
+    }
+
+    @Test
+    public void customFieldsCollectionIsModifiable() {
+        Project project = new Project(null);
+        project.addCustomFields(Collections.singletonList(CustomFieldFactory.create(5, "name1", "value1")));
+        project.getCustomFields().clear();
+        assertThat(project.getCustomFields()).isEmpty();
+
+        project.getCustomFields().add(CustomFieldFactory.create(6, "name2", "value2"));
+        assertThat(project.getCustomFieldById(6)).isNotNull();
+    }
+}
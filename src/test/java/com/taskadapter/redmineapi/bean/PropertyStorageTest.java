@@ -0,0 +1,65 @@
+package com.taskadapter.redmineapi.bean;
+
+import org.junit.Test;
+
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class PropertyStorageTest {
+    @Test
+    public void propertiesGetOrdinalsPerDeclaringClass() {
+        assertThat(Issue.DATABASE_ID.getOrdinal()).isEqualTo(0);
+        assertThat(Issue.SUBJECT.getOrdinal()).isEqualTo(1);
+        assertThat(Project.DATABASE_ID.getOrdinal()).isEqualTo(0);
+        assertThat(Issue.SUBJECT.getOwner()).isEqualTo(Issue.class);
+        assertThat(Property.declaredBy(Issue.class)).contains(Issue.CHILDREN);
+    }
+
+    @Test
+    public void valueIsReturnedAfterSet() {
+        PropertyStorage storage = new PropertyStorage();
+        storage.set(Issue.SUBJECT, "subject");
+        storage.set(Issue.CHILDREN, null);
+
+        assertThat(storage.get(Issue.SUBJECT)).isEqualTo("subject");
+        assertThat(storage.isPropertySet(Issue.SUBJECT)).isTrue();
+        assertThat(storage.get(Issue.DESCRIPTION)).isNull();
+        assertThat(storage.isPropertySet(Issue.DESCRIPTION)).isFalse();
+    }
+
+    @Test
+    public void propertySetToNullIsStillSet() {
+        PropertyStorage storage = new PropertyStorage();
+        storage.set(Issue.ASSIGNEE_ID, null);
+        assertThat(storage.isPropertySet(Issue.ASSIGNEE_ID)).isTrue();
+        assertThat(storage.get(Issue.ASSIGNEE_ID)).isNull();
+    }
+
+    @Test
+    public void propertiesOfOtherClassesAreNotSet() {
+        PropertyStorage storage = new PropertyStorage();
+        storage.set(Issue.DATABASE_ID, 5);
+        assertThat(storage.isPropertySet(Project.DATABASE_ID)).isFalse();
+        assertThat(storage.get(Project.DATABASE_ID)).isNull();
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void propertiesOfDifferentClassesCannotBeMixed() {
+        PropertyStorage storage = new PropertyStorage();
+        storage.set(Issue.DATABASE_ID, 5);
+        storage.set(Project.DATABASE_ID, 5);
+    }
+
+    @Test
+    public void setPropertiesAreListedInDeclarationOrder() {
+        Issue issue = new Issue().setDescription("d").setSubject("s").setId(3);
+        List<Property<?>> properties = issue.getStorage().getProperties().stream()
+                .map(Map.Entry::getKey)
+                .collect(Collectors.toList());
+        assertThat(properties.indexOf(Issue.DATABASE_ID)).isLessThan(properties.indexOf(Issue.SUBJECT));
+        assertThat(properties.indexOf(Issue.SUBJECT)).isLessThan(properties.indexOf(Issue.DESCRIPTION));
+    }
+}
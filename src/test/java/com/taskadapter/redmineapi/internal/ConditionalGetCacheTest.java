@@ -0,0 +1,76 @@
+package com.taskadapter.redmineapi.internal;
+
+import com.taskadapter.redmineapi.RedmineException;
+import com.taskadapter.redmineapi.bean.Project;
+import org.apache.http.Header;
+import org.apache.http.HttpResponse;
+import org.junit.Test;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class ConditionalGetCacheTest {
+
+    private final AtomicReference<String> projectName = new AtomicReference<>("first");
+    private final ConditionalGetCache cache = new ConditionalGetCache(10);
+
+    /**
+     * Uses the project name as ETag.
+     */
+    private final FakeCommunicator communicator = FakeCommunicator.withResponses(request -> {
+        Header ifNoneMatch = request.getFirstHeader("If-None-Match");
+        String name = projectName.get();
+        if (ifNoneMatch != null && ifNoneMatch.getValue().equals(name)) {
+            return FakeCommunicator.response(304, "");
+        }
+        HttpResponse response = FakeCommunicator.response(200,
+                "{\"project\":{\"id\":1,\"identifier\":\"p\",\"name\":\"" + name + "\"}}");
+        response.addHeader("ETag", name);
+        return response;
+    });
+
+    private final Transport transport = new Transport(new URIConfigurator("http://localhost:3000"), communicator);
+
+    @Test
+    public void unchangedObjectIsTakenFromCache() throws RedmineException {
+        transport.setConditionalGetCache(cache);
+        Project first = transport.getObject(Project.class, "p");
+        Project second = transport.getObject(Project.class, "p");
+
+        assertThat(second.getName()).isEqualTo("first");
+        assertThat(second).isNotSameAs(first);
+        assertThat(cache.getHitCount()).isEqualTo(1);
+        assertThat(cache.getMissCount()).isEqualTo(1);
+    }
+
+    @Test
+    public void changedObjectIsDownloadedAgain() throws RedmineException {
+        transport.setConditionalGetCache(cache);
+        transport.getObject(Project.class, "p");
+        projectName.set("second");
+
+        assertThat(transport.getObject(Project.class, "p").getName()).isEqualTo("second");
+        assertThat(transport.getObject(Project.class, "p").getName()).isEqualTo("second");
+        assertThat(cache.getHitCount()).isEqualTo(1);
+        assertThat(cache.getMissCount()).isEqualTo(2);
+    }
+
+    @Test
+    public void leastRecentlyUsedResponsesAreDropped() throws RedmineException {
+        transport.setConditionalGetCache(cache);
+        for (int i = 0; i < 15; i++) {
+            transport.getObject(Project.class, "p" + i);
+        }
+        assertThat(cache.size()).isEqualTo(10);
+    }
+
+    @Test
+    public void noConditionalHeadersAreSentByDefault() throws RedmineException {
+        transport.getObject(Project.class, "p");
+        transport.getObject(Project.class, "p");
+
+        assertThat(cache.getMissCount()).isEqualTo(0);
+        assertThat(communicator.getRequests()).hasSize(2);
+    }
+}
@@ -0,0 +1,152 @@
+package com.taskadapter.redmineapi.internal;
+
+import com.taskadapter.redmineapi.RedmineException;
+import com.taskadapter.redmineapi.RedmineTransportException;
+import com.taskadapter.redmineapi.internal.comm.Communicator;
+import com.taskadapter.redmineapi.internal.comm.ContentHandler;
+import org.apache.http.HttpEntity;
+import org.apache.http.HttpEntityEnclosingRequest;
+import org.apache.http.HttpRequest;
+import org.apache.http.HttpResponse;
+import org.apache.http.HttpVersion;
+import org.apache.http.client.methods.HttpUriRequest;
+import org.apache.http.entity.ContentType;
+import org.apache.http.entity.StringEntity;
+import org.apache.http.message.BasicHttpResponse;
+import org.apache.http.message.BasicStatusLine;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.net.URI;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Communicator answering requests with JSON generated by a function instead of a real Redmine server.
+ */
+public class FakeCommunicator implements Communicator<HttpResponse> {
+    private final Function<HttpUriRequest, HttpResponse> responder;
+    private final List<URI> requests = new CopyOnWriteArrayList<>();
+    private final List<String> bodies = new CopyOnWriteArrayList<>();
+
+    private FakeCommunicator(Function<HttpUriRequest, HttpResponse> responder) {
+        this.responder = responder;
+    }
+
+    /**
+     * @param responder returns body of "200 OK" response for the given request
+     */
+    public static FakeCommunicator withBodies(Function<HttpUriRequest, String> responder) {
+        return new FakeCommunicator(request -> response(200, responder.apply(request)));
+    }
+
+    /**
+     * @param responder returns full HTTP response for the given request
+     */
+    public static FakeCommunicator withResponses(Function<HttpUriRequest, HttpResponse> responder) {
+        return new FakeCommunicator(responder);
+    }
+
+    @Override
+    public <R> R sendRequest(HttpRequest request, ContentHandler<HttpResponse, R> handler) throws RedmineException {
+        final HttpUriRequest uriRequest = (HttpUriRequest) request;
+        requests.add(uriRequest.getURI());
+        if (request instanceof HttpEntityEnclosingRequest) {
+            bodies.add(writeBody(((HttpEntityEnclosingRequest) request).getEntity()));
+        }
+        return handler.processContent(responder.apply(uriRequest));
+    }
+
+    public static HttpResponse response(int code, String body) {
+        final BasicHttpResponse response = new BasicHttpResponse(new BasicStatusLine(HttpVersion.HTTP_1_1, code, ""));
+        if (body != null) {
+            response.setEntity(new StringEntity(body, ContentType.APPLICATION_JSON));
+        }
+        return response;
+    }
+
+    public List<URI> getRequests() {
+        return requests;
+    }
+
+    /**
+     * @return bodies of requests with an entity, as sent to the server.
+     */
+    public List<String> getBodies() {
+        return bodies;
+    }
+
+    private static String writeBody(HttpEntity entity) throws RedmineException {
+        if (entity == null) {
+            return null;
+        }
+        // write the entity out the way HTTP client does, streaming entities are not read with getContent()
+        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try {
+            entity.writeTo(out);
+        } catch (IOException e) {
+            throw new RedmineTransportException(e);
+        }
+        return out.toString(StandardCharsets.UTF_8);
+    }
+
+    /**
+     * @return value of the given query parameter in the URI or null
+     */
+    public static String param(URI uri, String name) {
+        final String query = uri.getRawQuery();
+        if (query == null) {
+            return null;
+        }
+        for (String pair : query.split("&")) {
+            final int index = pair.indexOf('=');
+            if (index > 0 && pair.substring(0, index).equals(name)) {
+                return pair.substring(index + 1);
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Serves "issues.json" with the given number of issues and proper paging attributes.
+     */
+    public static String issuesPage(URI uri, int total, int maxPageSize) {
+        final int offset = Integer.parseInt(param(uri, "offset"));
+        final int limit = Math.min(maxPageSize, Integer.parseInt(param(uri, "limit")));
+        final StringBuilder builder = new StringBuilder("{\"issues\":[");
+        for (int id = offset + 1; id <= Math.min(total, offset + limit); id++) {
+            if (id > offset + 1) {
+                builder.append(',');
+            }
+            builder.append("{\"id\":").append(id).append(",\"subject\":\"issue ").append(id).append("\"}");
+        }
+        return builder.append("],\"total_count\":").append(total)
+                .append(",\"offset\":").append(offset)
+                .append(",\"limit\":").append(limit).append('}').toString();
+    }
+
+    /**
+     * Serves "issues.json" with "issue_id" filter. Issues with ids up to maxId exist.
+     */
+    public static String issuesById(URI uri, int maxId, int maxPageSize) {
+        final String ids = URLDecoder.decode(param(uri, "issue_id"), StandardCharsets.UTF_8);
+        final List<Integer> found = Arrays.stream(ids.split(","))
+                .map(Integer::valueOf)
+                .filter(id -> id <= maxId)
+                .collect(Collectors.toList());
+        final int offset = Integer.parseInt(param(uri, "offset"));
+        final int limit = Math.min(maxPageSize, Integer.parseInt(param(uri, "limit")));
+        final String page = found.stream()
+                .skip(offset)
+                .limit(limit)
+                .map(id -> "{\"id\":" + id + ",\"subject\":\"issue " + id + "\"}")
+                .collect(Collectors.joining(","));
+        return "{\"issues\":[" + page + "],\"total_count\":" + found.size()
+                + ",\"offset\":" + offset + ",\"limit\":" + limit + "}";
+    }
+}
@@ -0,0 +1,66 @@
+package com.taskadapter.redmineapi.internal;
+
+import com.taskadapter.redmineapi.bean.Issue;
+import org.apache.http.util.EntityUtils;
+import org.junit.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.Assert.fail;
+
+public class JsonEntityTest {
+
+    private static final String CONTENT_TYPE = "application/json; charset=utf-8";
+
+    @Test
+    public void objectIsWrittenAsUtf8SimpleJson() throws IOException {
+        Issue issue = new Issue().setSubject("Größe € \"quoted\"").setProjectId(1);
+        JsonEntity<Issue> entity = new JsonEntity<>("issue", issue, RedmineJSONBuilder::writeIssue, CONTENT_TYPE);
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        entity.writeTo(out);
+
+        String expected = RedmineJSONBuilder.toSimpleJSON("issue", issue, RedmineJSONBuilder::writeIssue);
+        assertThat(out.toString(StandardCharsets.UTF_8)).isEqualTo(expected);
+        assertThat(entity.getBytesWritten()).isEqualTo(expected.getBytes(StandardCharsets.UTF_8).length);
+        assertThat(entity.getContentType().getValue()).isEqualTo(CONTENT_TYPE);
+    }
+
+    @Test
+    public void entityIsRepeatableAndReflectsCurrentObjectState() throws IOException {
+        Issue issue = new Issue().setSubject("first");
+        JsonEntity<Issue> entity = new JsonEntity<>("issue", issue, RedmineJSONBuilder::writeIssue, CONTENT_TYPE);
+
+        assertThat(entity.isRepeatable()).isTrue();
+        assertThat(entity.isStreaming()).isFalse();
+        assertThat(entity.getContentLength()).isEqualTo(-1);
+        String first = EntityUtils.toString(entity, StandardCharsets.UTF_8);
+        issue.setSubject("second");
+        String second = EntityUtils.toString(entity, StandardCharsets.UTF_8);
+
+        assertThat(first).contains("\"first\"");
+        assertThat(second).contains("\"second\"");
+    }
+
+    @Test
+    public void outputErrorsArePassedToCaller() {
+        Issue issue = new Issue().setSubject("failing");
+        JsonEntity<Issue> entity = new JsonEntity<>("issue", issue, RedmineJSONBuilder::writeIssue, CONTENT_TYPE);
+        OutputStream broken = new OutputStream() {
+            @Override
+            public void write(int b) throws IOException {
+                throw new IOException("connection reset");
+            }
+        };
+        try {
+            entity.writeTo(broken);
+            fail("Must have failed");
+        } catch (IOException e) {
+            assertThat(e).hasMessage("connection reset");
+        }
+    }
+}
@@ -3,10 +3,17 @@ package com.taskadapter.redmineapi.internal;
 import org.junit.Test;
 
 import java.text.ParseException;
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
 import java.util.Date;
+import java.util.TimeZone;
 
 import static com.taskadapter.redmineapi.internal.RedmineDateParser.parse;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.fail;
 
 public class RedmineDateParserTest {
     private static final LocalDateFormat FULL_DATE_FORMAT_V3 = new LocalDateFormat("yyyy-MM-dd'T'HH:mm:ss.SSSz");
@@ -27,6 +34,77 @@ public class RedmineDateParserTest {
         dateIsParsedTo("2015-03-12T00:22:37.123Z", "2015-03-11T17:22:37.123PDT");
     }
 
+    @Test
+    public void numericTimeZoneOffsetsAreApplied() throws ParseException {
+        dateIsParsedTo("2015-03-12T03:22:37+03:00", "2015-03-11T17:22:37.000PDT");
+        dateIsParsedTo("2015-03-11T17:22:37-07:00", "2015-03-11T17:22:37.000PDT");
+        dateIsParsedTo("2015-03-11T17:22:37-0700", "2015-03-11T17:22:37.000PDT");
+        dateIsParsedTo("2015-03-11T17:22:37-07", "2015-03-11T17:22:37.000PDT");
+        dateIsParsedTo("2015/03/12 05:52:37 +0530", "2015-03-11T17:22:37.000PDT");
+    }
+
+    @Test
+    public void fractionOfSecondIsTruncatedToMillis() throws ParseException {
+        dateIsParsedTo("2015-03-12T00:22:37.1Z", "2015-03-11T17:22:37.100PDT");
+        dateIsParsedTo("2015-03-12T00:22:37.12Z", "2015-03-11T17:22:37.120PDT");
+        dateIsParsedTo("2015-03-12T00:22:37.123456789Z", "2015-03-11T17:22:37.123PDT");
+    }
+
+    @Test
+    public void resultMatchesJavaTimeForManyDays() throws ParseException {
+        final DateTimeFormatter format = DateTimeFormatter.ofPattern("yyyy-MM-dd'T'HH:mm:ss.SSSXXX");
+        OffsetDateTime time = OffsetDateTime.of(1969, 12, 25, 13, 45, 7, 0, ZoneOffset.ofHours(-5));
+        for (int i = 0; i < 60_000; i++) {
+            final String str = time.format(format);
+            assertThat(parse(str).getTime()).as(str).isEqualTo(time.toInstant().toEpochMilli());
+            time = time.plusHours(17).plusSeconds(1).plusNanos(7_000_000);
+        }
+    }
+
+    @Test
+    public void shortDatesAreMidnightInDefaultTimeZone() throws ParseException {
+        final TimeZone original = TimeZone.getDefault();
+        try {
+            for (String zone : new String[]{"America/Los_Angeles", "Europe/Berlin", "America/Sao_Paulo",
+                    "Pacific/Apia", "UTC"}) {
+                TimeZone.setDefault(TimeZone.getTimeZone(zone));
+                LocalDate date = LocalDate.of(2009, 1, 1);
+                for (int i = 0; i < 1500; i++) {
+                    final String str = date.toString();
+                    assertThat(parse(str).getTime()).as(zone + " " + str)
+                            .isEqualTo(date.atStartOfDay(ZoneId.of(zone)).toInstant().toEpochMilli());
+                    date = date.plusDays(1);
+                }
+            }
+        } finally {
+            TimeZone.setDefault(original);
+        }
+    }
+
+    @Test
+    public void malformedDatesAreRejected() {
+        dateIsRejected("");
+        dateIsRejected("2015-3-11");
+        dateIsRejected("2015.03.11");
+        dateIsRejected("2015-13-11");
+        dateIsRejected("2015-02-29");
+        dateIsRejected("2015-03-11T24:00:00Z");
+        dateIsRejected("2015-03-11T17:22:37");
+        dateIsRejected("2015-03-11T17:22:37.Z");
+        dateIsRejected("2015-03-11T17:22:37X");
+        dateIsRejected("2015-03-11T17:22:37+7");
+        dateIsRejected("2015/03/11 17:22:37");
+        dateIsRejected("2015/03/11T17:22:37Z");
+    }
+
+    private void dateIsRejected(String dateString) {
+        try {
+            parse(dateString);
+            fail("Expected ParseException for " + dateString);
+        } catch (ParseException expected) {
+        }
+    }
+
     private void dateIsParsedTo(String originalDateString, String expectedDateString) throws ParseException {
         assertThat(parse(originalDateString)).isEqualTo(getDate(expectedDateString));
     }
@@ -114,6 +114,15 @@ public class RedmineJSONParserTest {
 		}
 	}
 
+	@Test
+	public void missingArraysAreNotMarkedAsSetInParsedProject() throws JSONException {
+		final String projectString = "{\"project\":{\"identifier\":\"test1\",\"name\":\"test project\",\"id\":6143}}";
+		final Project project = RedmineJSONParser.parseProject(RedmineJSONParser.getResponseSingleObject(projectString, "project"));
+		assertThat(project.getStorage().isPropertySet(Project.TRACKERS)).isFalse();
+		assertThat(project.getStorage().isPropertySet(Project.CUSTOM_FIELDS)).isFalse();
+		assertThat(project.getTrackers()).isEmpty();
+	}
+
 	@Test
 	public void testParseProjectRedmine() throws IOException, JSONException {
 		String json = MyIOUtils.getResourceAsString("project/redmine_project.json");
@@ -193,6 +202,21 @@ public class RedmineJSONParserTest {
 				nonLatinAccentSymbols));
 	}
 
+	@Test
+	public void repeatedNamesShareOneStringInstance() throws JSONException {
+		String json = "{\"issues\":["
+				+ "{\"id\":1,\"status\":{\"id\":1,\"name\":\"New\"},\"author\":{\"id\":5,\"name\":\"John Smith\"}},"
+				+ "{\"id\":2,\"status\":{\"id\":1,\"name\":\"New\"},\"author\":{\"id\":5,\"name\":\"John Smith\"}}"
+				+ "]}";
+		List<Issue> issues = JsonInput.getListOrEmpty(RedmineJSONParser.getResponse(json), "issues",
+				RedmineJSONParser::parseIssue);
+		assertThat(issues.get(0).getStatusName()).isEqualTo("New");
+		assertThat(issues.get(1).getStatusName()).isSameAs(issues.get(0).getStatusName());
+		assertThat(issues.get(0).getAuthorId()).isEqualTo(5);
+		assertThat(issues.get(0).getAuthorName()).isEqualTo("John Smith");
+		assertThat(issues.get(1).getAuthorName()).isSameAs(issues.get(0).getAuthorName());
+	}
+
 	@Test
 	public void testParseInvalidPage() {
 		try {
@@ -0,0 +1,124 @@
+package com.taskadapter.redmineapi.internal;
+
+import com.taskadapter.redmineapi.IssueManager;
+import com.taskadapter.redmineapi.NotFoundException;
+import com.taskadapter.redmineapi.RedmineException;
+import com.taskadapter.redmineapi.bean.Issue;
+import com.taskadapter.redmineapi.bean.Project;
+import org.junit.Test;
+
+import java.net.URI;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.Assert.fail;
+
+public class RequestCoalescerTest {
+
+    private final FakeCommunicator communicator = FakeCommunicator.withBodies(r -> {
+        if (r.getURI().getPath().startsWith("/projects/")) {
+            return "{\"project\":{\"id\":1,\"identifier\":\"p\",\"name\":\"P\"}}";
+        }
+        return FakeCommunicator.issuesById(r.getURI(), 100, 100);
+    });
+    private final Transport transport = new Transport(new URIConfigurator("http://localhost:3000"), communicator);
+
+    @Test
+    public void concurrentLookupsAreSentAsOneRequest() throws Exception {
+        transport.setRequestCoalescing(500, TimeUnit.MILLISECONDS);
+        ExecutorService executor = Executors.newFixedThreadPool(10);
+        try {
+            List<Future<Issue>> futures = new ArrayList<>();
+            for (int id = 1; id <= 10; id++) {
+                String key = String.valueOf(id);
+                futures.add(executor.submit(() -> transport.getObject(Issue.class, key, new RequestParam("include", ""))));
+            }
+            for (int i = 0; i < futures.size(); i++) {
+                assertThat(futures.get(i).get().getId()).isEqualTo(i + 1);
+            }
+        } finally {
+            executor.shutdown();
+        }
+        assertThat(communicator.getRequests()).hasSize(1);
+        assertThat(FakeCommunicator.param(communicator.getRequests().get(0), "status_id")).isEqualTo("*");
+    }
+
+    @Test
+    public void missingObjectIsReportedAsNotFound() throws RedmineException {
+        transport.setRequestCoalescing(1, TimeUnit.MILLISECONDS);
+        try {
+            transport.getObject(Issue.class, 101);
+            fail("must have failed");
+        } catch (NotFoundException e) {
+            assertThat(e.getMessage()).contains("101");
+        }
+    }
+
+    @Test
+    public void lookupsWithUnsupportedIncludeAreNotCoalesced() {
+        assertThat(transport.isBatchable(Issue.class, "1", new RequestParam("include", "relations,attachments"))).isTrue();
+        assertThat(transport.isBatchable(Issue.class, "1", new RequestParam("include", "journals"))).isFalse();
+        assertThat(transport.isBatchable(Issue.class, "1", new RequestParam("key", "value"))).isFalse();
+        assertThat(transport.isBatchable(Project.class, "1")).isFalse();
+    }
+
+    @Test
+    public void batchSendsOneRequestPerGroupWhenExecuted() throws Exception {
+        CompletableFuture<Issue> issue1;
+        CompletableFuture<Issue> issue2;
+        CompletableFuture<Issue> issue3;
+        CompletableFuture<Issue> missing;
+        CompletableFuture<Project> project;
+        try (ObjectBatch batch = transport.startBatch()) {
+            issue1 = batch.getObject(Issue.class, 1);
+            issue2 = batch.getObject(Issue.class, 2, new RequestParam("include", ""));
+            issue3 = batch.getObject(Issue.class, 3, new RequestParam("include", "relations"));
+            missing = batch.getObject(Issue.class, 500);
+            project = batch.getObject(Project.class, "p");
+            assertThat(communicator.getRequests()).isEmpty();
+        }
+
+        assertThat(issue1.get().getId()).isEqualTo(1);
+        assertThat(issue2.get().getId()).isEqualTo(2);
+        assertThat(issue3.get().getId()).isEqualTo(3);
+        assertThat(project.get().getIdentifier()).isEqualTo("p");
+        try {
+            missing.get();
+            fail("must have failed");
+        } catch (ExecutionException e) {
+            assertThat(e.getCause()).isInstanceOf(NotFoundException.class);
+        }
+        // issues without includes, issues with relations, the project
+        assertThat(communicator.getRequests()).hasSize(3);
+    }
+
+    @Test
+    public void largeBatchIsSplitIntoRequestsOfLimitedSize() throws Exception {
+        FakeCommunicator communicator = FakeCommunicator.withBodies(r -> FakeCommunicator.issuesById(r.getURI(), 250, 100));
+        Transport transport = new Transport(new URIConfigurator("http://localhost:3000"), communicator);
+        List<CompletableFuture<Issue>> futures = new ArrayList<>();
+        try (ObjectBatch batch = transport.startBatch()) {
+            for (int id = 1; id <= 250; id++) {
+                futures.add(batch.getObject(Issue.class, id));
+            }
+        }
+
+        for (int i = 0; i < futures.size(); i++) {
+            assertThat(futures.get(i).get().getId()).isEqualTo(i + 1);
+        }
+        assertThat(communicator.getRequests()).hasSize(3);
+        for (URI request : communicator.getRequests()) {
+            String ids = URLDecoder.decode(FakeCommunicator.param(request, "issue_id"), StandardCharsets.UTF_8);
+            assertThat(ids.split(",")).hasSizeLessThanOrEqualTo(IssueManager.MAX_IDS_PER_REQUEST);
+        }
+    }
+}
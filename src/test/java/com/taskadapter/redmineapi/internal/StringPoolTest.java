@@ -0,0 +1,45 @@
+package com.taskadapter.redmineapi.internal;
+
+import org.junit.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class StringPoolTest {
+
+    @Test
+    public void equalStringsAreReplacedWithFirstInstance() {
+        StringPool pool = new StringPool(16, 100);
+        String first = new String("Bug");
+        String second = new String("Bug");
+        assertThat(pool.canonical(first)).isSameAs(first);
+        assertThat(pool.canonical(second)).isSameAs(first);
+    }
+
+    @Test
+    public void longStringsAreNotPooled() {
+        StringPool pool = new StringPool(16, 3);
+        String first = new String("Feature");
+        pool.canonical(first);
+        String second = new String("Feature");
+        assertThat(pool.canonical(second)).isSameAs(second);
+    }
+
+    @Test
+    public void nullIsReturnedAsIs() {
+        assertThat(new StringPool(16, 100).canonical(null)).isNull();
+    }
+
+    @Test
+    public void collidingValuesAreReturnedUnchanged() {
+        StringPool pool = new StringPool(4, 100);
+        for (int i = 0; i < 1000; i++) {
+            String value = "name" + i;
+            assertThat(pool.canonical(value)).isEqualTo(value);
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void capacityMustBePowerOfTwo() {
+        new StringPool(10, 100);
+    }
+}
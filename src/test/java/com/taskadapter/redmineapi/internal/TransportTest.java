@@ -0,0 +1,194 @@
+package com.taskadapter.redmineapi.internal;
+
+import com.taskadapter.redmineapi.NotFoundException;
+import com.taskadapter.redmineapi.RedmineException;
+import com.taskadapter.redmineapi.RedmineFormatException;
+import com.taskadapter.redmineapi.UncheckedRedmineException;
+import com.taskadapter.redmineapi.bean.Issue;
+import com.taskadapter.redmineapi.bean.Project;
+import org.apache.http.HttpEntityEnclosingRequest;
+import org.junit.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.Assert.fail;
+
+public class TransportTest {
+
+    private static final String URI = "http://localhost:3000";
+
+    @Test
+    public void allPagesAreLoadedOneByOneByDefault() throws RedmineException {
+        FakeCommunicator communicator = FakeCommunicator.withBodies(r -> FakeCommunicator.issuesPage(r.getURI(), 55, 100));
+        Transport transport = new Transport(new URIConfigurator(URI), communicator);
+        transport.setObjectsPerPage(10);
+
+        List<Issue> issues = transport.getObjectsList(Issue.class);
+
+        assertThat(ids(issues)).isEqualTo(range(1, 55));
+        assertThat(communicator.getRequests()).hasSize(6);
+    }
+
+    @Test
+    public void invalidObjectIsRejectedBeforeSending() throws RedmineException {
+        FakeCommunicator communicator = FakeCommunicator.withBodies(r -> "{\"project\":{\"id\":7}}");
+        Transport transport = new Transport(new URIConfigurator(URI), communicator);
+
+        try {
+            transport.addObject(new Project(transport).setIdentifier("no-name"));
+            fail("Must have failed");
+        } catch (IllegalArgumentException e) {
+            assertThat(e).hasMessageContaining("Project name must be set");
+        }
+        assertThat(communicator.getRequests()).isEmpty();
+    }
+
+    @Test
+    public void objectIsSentAsJsonBody() throws RedmineException {
+        FakeCommunicator communicator = FakeCommunicator.withBodies(r -> "{\"issue\":{\"id\":7}}");
+        Transport transport = new Transport(new URIConfigurator(URI), communicator);
+
+        Issue created = transport.addObject(new Issue().setSubject("new").setProjectId(1));
+
+        assertThat(created.getId()).isEqualTo(7);
+        assertThat(communicator.getBodies()).containsExactly(
+                RedmineJSONBuilder.toSimpleJSON("issue", new Issue().setSubject("new").setProjectId(1),
+                        RedmineJSONBuilder::writeIssue));
+    }
+
+    @Test
+    public void bodiesAreStreamedChunkedUnlessBufferingIsEnabled() throws RedmineException {
+        List<Long> contentLengths = new ArrayList<>();
+        FakeCommunicator communicator = FakeCommunicator.withBodies(r -> {
+            contentLengths.add(((HttpEntityEnclosingRequest) r).getEntity().getContentLength());
+            return "{\"issue\":{\"id\":7}}";
+        });
+        Transport transport = new Transport(new URIConfigurator(URI), communicator);
+
+        transport.addObject(new Issue().setSubject("new").setProjectId(1));
+        transport.setBufferRequestBodies(true);
+        transport.addObject(new Issue().setSubject("new").setProjectId(1));
+
+        String body = RedmineJSONBuilder.toSimpleJSON("issue", new Issue().setSubject("new").setProjectId(1),
+                RedmineJSONBuilder::writeIssue);
+        assertThat(contentLengths).containsExactly(-1L, (long) body.getBytes(StandardCharsets.UTF_8).length);
+        assertThat(communicator.getBodies()).containsExactly(body, body);
+    }
+
+    @Test
+    public void pagesAreLoadedInParallelAndReturnedInOffsetOrder() throws RedmineException {
+        FakeCommunicator communicator = FakeCommunicator.withBodies(r -> FakeCommunicator.issuesPage(r.getURI(), 1234, 100));
+        Transport transport = new Transport(new URIConfigurator(URI), communicator);
+        transport.setObjectsPerPage(100);
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            transport.setExecutor(executor, 4);
+            List<Issue> issues = transport.getObjectsList(Issue.class);
+
+            assertThat(ids(issues)).isEqualTo(range(1, 1234));
+            assertThat(communicator.getRequests()).hasSize(13);
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    public void parallelLoadingUsesPageSizeLimitedByServer() throws RedmineException {
+        FakeCommunicator communicator = FakeCommunicator.withBodies(r -> FakeCommunicator.issuesPage(r.getURI(), 250, 100));
+        Transport transport = new Transport(new URIConfigurator(URI), communicator);
+        transport.setObjectsPerPage(500);
+        transport.setExecutor(Runnable::run, 3);
+
+        assertThat(ids(transport.getObjectsList(Issue.class))).isEqualTo(range(1, 250));
+    }
+
+    @Test
+    public void duplicatesAreSkippedWhenObjectsMoveBetweenPages() throws RedmineException {
+        // every page after the first one starts with the last issue of the previous page
+        FakeCommunicator communicator = FakeCommunicator.withBodies(r -> {
+            int offset = Integer.parseInt(FakeCommunicator.param(r.getURI(), "offset"));
+            String page = FakeCommunicator.issuesPage(r.getURI(), 30, 10);
+            return offset == 0 ? page : page.replace("\"issues\":[", "\"issues\":[{\"id\":" + offset + "},");
+        });
+        Transport transport = new Transport(new URIConfigurator(URI), communicator);
+        transport.setObjectsPerPage(10);
+        transport.setExecutor(Runnable::run, 2);
+
+        assertThat(ids(transport.getObjectsList(Issue.class))).isEqualTo(range(1, 30));
+    }
+
+    @Test
+    public void streamRequestsNextPageOnlyWhenCurrentPageIsConsumed() {
+        FakeCommunicator communicator = FakeCommunicator.withBodies(r -> FakeCommunicator.issuesPage(r.getURI(), 95, 100));
+        Transport transport = new Transport(new URIConfigurator(URI), communicator);
+        transport.setObjectsPerPage(10);
+
+        Iterator<Issue> iterator = transport.iterateObjects(Issue.class, Collections.emptyList());
+        assertThat(communicator.getRequests()).isEmpty();
+        for (int i = 0; i < 10; i++) {
+            iterator.next();
+        }
+        assertThat(communicator.getRequests()).hasSize(1);
+        iterator.next();
+        assertThat(communicator.getRequests()).hasSize(2);
+
+        List<Integer> all = transport.streamObjects(Issue.class, Collections.emptyList())
+                .map(Issue::getId)
+                .collect(Collectors.toList());
+        assertThat(all).isEqualTo(range(1, 95));
+    }
+
+    @Test
+    public void streamErrorsAreThrownAsUncheckedExceptions() {
+        Transport transport = new Transport(new URIConfigurator(URI),
+                FakeCommunicator.withResponses(r -> FakeCommunicator.response(404, "{}")));
+        try {
+            transport.streamObjects(Issue.class, Collections.emptyList()).count();
+            fail("must have failed");
+        } catch (UncheckedRedmineException e) {
+            assertThat(e.getCause()).isInstanceOf(NotFoundException.class);
+        }
+    }
+
+    @Test
+    public void forEachObjectHandsOutObjectsOfAllPages() throws RedmineException {
+        FakeCommunicator communicator = FakeCommunicator.withBodies(r -> FakeCommunicator.issuesPage(r.getURI(), 42, 100));
+        Transport transport = new Transport(new URIConfigurator(URI), communicator);
+        transport.setObjectsPerPage(20);
+
+        List<Integer> ids = new ArrayList<>();
+        transport.forEachObject(Issue.class, Collections.emptyList(), issue -> ids.add(issue.getId()));
+
+        assertThat(ids).isEqualTo(range(1, 42));
+        assertThat(communicator.getRequests()).hasSize(3);
+    }
+
+    @Test
+    public void brokenListResponseIsReportedAsFormatError() {
+        Transport transport = new Transport(new URIConfigurator(URI),
+                FakeCommunicator.withBodies(r -> "{\"issues\":[{\"id\":1},"));
+        try {
+            transport.getObjectsListNoPaging(Issue.class, Collections.emptyList());
+            fail("must have failed");
+        } catch (RedmineException e) {
+            assertThat(e).isInstanceOf(RedmineFormatException.class);
+        }
+    }
+
+    private static List<Integer> ids(List<Issue> issues) {
+        return issues.stream().map(Issue::getId).collect(Collectors.toList());
+    }
+
+    private static List<Integer> range(int from, int toInclusive) {
+        return IntStream.rangeClosed(from, toInclusive).boxed().collect(Collectors.toList());
+    }
+}
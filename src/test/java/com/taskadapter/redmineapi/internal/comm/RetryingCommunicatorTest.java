@@ -0,0 +1,173 @@
+package com.taskadapter.redmineapi.internal.comm;
+
+import com.taskadapter.redmineapi.RedmineException;
+import com.taskadapter.redmineapi.RedmineTransportException;
+import com.taskadapter.redmineapi.RetryPolicy;
+import org.apache.http.client.methods.HttpGet;
+import org.apache.http.client.methods.HttpPost;
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.Assert.fail;
+
+public class RetryingCommunicatorTest {
+
+    private final Queue<Object> answers = new LinkedList<>();
+    private final List<Long> sleeps = new ArrayList<>();
+    private int requestsSent;
+
+    private final Communicator<BasicHttpResponse> server = new Communicator<BasicHttpResponse>() {
+        @Override
+        public <R> R sendRequest(org.apache.http.HttpRequest request,
+                                 ContentHandler<BasicHttpResponse, R> handler) throws RedmineException {
+            requestsSent++;
+            final Object answer = answers.remove();
+            if (answer instanceof RedmineException) {
+                throw (RedmineException) answer;
+            }
+            return handler.processContent((BasicHttpResponse) answer);
+        }
+    };
+
+    private final RetryingCommunicator communicator = new RetryingCommunicator(server, sleeps::add);
+
+    private final RetryPolicy policy = new RetryPolicy()
+            .setMaxAttempts(3)
+            .setBackoff(100, 1000, TimeUnit.MILLISECONDS)
+            .setJitter(0);
+
+    @Test
+    public void serviceUnavailableIsRetried() throws Exception {
+        communicator.setPolicy(policy);
+        answers.add(response(503, "down"));
+        answers.add(response(200, "ok"));
+
+        assertThat(send(new HttpGet("http://localhost/issues.json"))).isEqualTo("ok");
+        assertThat(requestsSent).isEqualTo(2);
+        assertThat(sleeps).containsExactly(100L);
+    }
+
+    @Test
+    public void postIsNotRetried() throws Exception {
+        communicator.setPolicy(policy);
+        answers.add(response(503, "down"));
+        answers.add(response(200, "ok"));
+
+        assertThat(send(new HttpPost("http://localhost/issues.json"))).isEqualTo("down");
+        assertThat(requestsSent).isEqualTo(1);
+    }
+
+    @Test
+    public void requestsAreNotRetriedWithoutPolicy() throws Exception {
+        answers.add(response(503, "down"));
+
+        assertThat(send(new HttpGet("http://localhost/issues.json"))).isEqualTo("down");
+        assertThat(requestsSent).isEqualTo(1);
+    }
+
+    @Test
+    public void transportErrorIsRetriedWithGrowingBackoff() throws Exception {
+        communicator.setPolicy(policy);
+        answers.add(new RedmineTransportException("connection reset"));
+        answers.add(new RedmineTransportException("connection reset"));
+        answers.add(response(200, "ok"));
+
+        assertThat(send(new HttpGet("http://localhost/issues.json"))).isEqualTo("ok");
+        assertThat(sleeps).containsExactly(100L, 200L);
+    }
+
+    @Test
+    public void lastFailureIsReportedWhenAttemptsAreUsedUp() throws Exception {
+        communicator.setPolicy(policy);
+        for (int i = 0; i < 3; i++) {
+            answers.add(new RedmineTransportException("failure " + i));
+        }
+        try {
+            send(new HttpGet("http://localhost/issues.json"));
+            fail("Must have failed");
+        } catch (RedmineTransportException e) {
+            assertThat(e.getMessage()).isEqualTo("failure 2");
+        }
+        assertThat(requestsSent).isEqualTo(3);
+    }
+
+    @Test
+    public void lastRetryableStatusIsReturnedAsIs() throws Exception {
+        communicator.setPolicy(policy);
+        for (int i = 0; i < 3; i++) {
+            answers.add(response(503, "down " + i));
+        }
+        assertThat(send(new HttpGet("http://localhost/issues.json"))).isEqualTo("down 2");
+    }
+
+    @Test
+    public void retryAfterHeaderIsRespected() throws Exception {
+        communicator.setPolicy(policy);
+        answers.add(response(429, "slow down", Collections.singletonMap("Retry-After", "1")));
+        answers.add(response(200, "ok"));
+
+        assertThat(send(new HttpGet("http://localhost/issues.json"))).isEqualTo("ok");
+        assertThat(sleeps).containsExactly(1000L);
+    }
+
+    @Test
+    public void nonRetryableErrorIsThrownImmediately() throws Exception {
+        communicator.setPolicy(policy);
+        answers.add(new RedmineException("bad"));
+        try {
+            send(new HttpGet("http://localhost/issues.json"));
+            fail("Must have failed");
+        } catch (RedmineException e) {
+            assertThat(e.getMessage()).isEqualTo("bad");
+        }
+        assertThat(requestsSent).isEqualTo(1);
+    }
+
+    @Test
+    public void failureWhileReadingBodyIsNotRetried() throws Exception {
+        communicator.setPolicy(policy);
+        answers.add(response(200, "a,b,c,d"));
+        answers.add(response(200, "a,b,c,d"));
+        final List<String> received = new ArrayList<>();
+        try {
+            communicator.sendRequest(new HttpGet("http://localhost/issues.json"), response -> {
+                final String[] elements = Communicators.contentReader().processContent(response).split(",");
+                for (int i = 0; i < elements.length; i++) {
+                    if (i == 2) {
+                        throw new RedmineTransportException("connection reset");
+                    }
+                    received.add(elements[i]);
+                }
+                return null;
+            });
+            fail("Must have failed");
+        } catch (RedmineTransportException e) {
+            assertThat(e.getMessage()).isEqualTo("connection reset");
+        }
+        assertThat(received).containsExactly("a", "b");
+        assertThat(requestsSent).isEqualTo(1);
+    }
+
+    private String send(org.apache.http.HttpRequest request) throws RedmineException {
+        return communicator.sendRequest(request, Communicators.contentReader());
+    }
+
+    private static BasicHttpResponse response(int code, String body) {
+        return response(code, body, Collections.emptyMap());
+    }
+
+    private static BasicHttpResponse response(int code, String body, Map<String, String> headers) {
+        return new BasicHttpResponse(code, new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8)),
+                "UTF-8", headers);
+    }
+}
@@ -0,0 +1,209 @@
+package com.taskadapter.redmineapi.internal.comm;
+
+import com.taskadapter.redmineapi.NotFoundException;
+import com.taskadapter.redmineapi.RedmineException;
+import org.apache.http.HttpRequest;
+import org.apache.http.client.methods.HttpGet;
+import org.apache.http.client.methods.HttpPost;
+import org.apache.http.client.methods.HttpRequestBase;
+import org.junit.After;
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.Assert.fail;
+
+public class SingleFlightCommunicatorTest {
+
+    private final ExecutorService executor = Executors.newFixedThreadPool(5);
+    private final AtomicInteger requestsSent = new AtomicInteger();
+    private final CountDownLatch release = new CountDownLatch(1);
+
+    @After
+    public void shutdownExecutor() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    public void concurrentIdenticalGetsAreSentOnce() throws Exception {
+        SingleFlightCommunicator communicator = new SingleFlightCommunicator(slowServer(false));
+
+        List<Future<String>> results = sendConcurrently(communicator, () -> new HttpGet("http://localhost/issues.json"));
+
+        for (Future<String> result : results) {
+            assertThat(result.get()).isEqualTo("response 1");
+        }
+        assertThat(requestsSent.get()).isEqualTo(1);
+    }
+
+    @Test
+    public void requestsOnBehalfOfDifferentUsersAreNotShared() throws Exception {
+        SingleFlightCommunicator communicator = new SingleFlightCommunicator(slowServer(false));
+        AtomicInteger user = new AtomicInteger();
+
+        List<Future<String>> results = sendConcurrently(communicator, () -> {
+            HttpGet get = new HttpGet("http://localhost/issues.json");
+            get.addHeader("X-Redmine-Switch-User", "user" + user.incrementAndGet());
+            return get;
+        });
+
+        for (Future<String> result : results) {
+            result.get();
+        }
+        assertThat(requestsSent.get()).isEqualTo(results.size());
+    }
+
+    @Test
+    public void postsAreAlwaysSent() throws Exception {
+        SingleFlightCommunicator communicator = new SingleFlightCommunicator(slowServer(false));
+
+        List<Future<String>> results = sendConcurrently(communicator, () -> new HttpPost("http://localhost/issues.json"));
+
+        for (Future<String> result : results) {
+            result.get();
+        }
+        assertThat(requestsSent.get()).isEqualTo(results.size());
+    }
+
+    @Test
+    public void errorIsReportedToAllWaitingCallers() throws Exception {
+        SingleFlightCommunicator communicator = new SingleFlightCommunicator(slowServer(true));
+
+        List<Future<String>> results = sendConcurrently(communicator, () -> new HttpGet("http://localhost/issues.json"));
+
+        for (Future<String> result : results) {
+            try {
+                result.get();
+                fail("must have failed");
+            } catch (ExecutionException e) {
+                assertThat(e.getCause()).isInstanceOf(NotFoundException.class);
+            }
+        }
+        assertThat(requestsSent.get()).isEqualTo(1);
+    }
+
+    @Test
+    public void errorThrownByServerReleasesWaitingCallers() throws Exception {
+        SingleFlightCommunicator communicator = new SingleFlightCommunicator(
+                slowServer(() -> { throw new OutOfMemoryError("no memory"); }));
+
+        List<Future<String>> results = sendConcurrently(communicator, () -> new HttpGet("http://localhost/issues.json"));
+
+        int errors = 0;
+        for (Future<String> result : results) {
+            assertThat(result.isDone()).isTrue();
+            try {
+                result.get();
+                fail("must have failed");
+            } catch (ExecutionException e) {
+                if (e.getCause() instanceof OutOfMemoryError) {
+                    errors++;
+                } else {
+                    assertThat(e.getCause()).isInstanceOf(RedmineException.class)
+                            .hasCauseInstanceOf(OutOfMemoryError.class);
+                }
+            }
+        }
+        assertThat(errors).isEqualTo(1);
+        assertThat(requestsSent.get()).isEqualTo(1);
+    }
+
+    @Test
+    public void responseHeadersAreSharedWithWaitingCallers() throws Exception {
+        SingleFlightCommunicator communicator = new SingleFlightCommunicator(slowServer(false));
+
+        List<Future<String>> results = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            results.add(executor.submit(() -> communicator.sendRequest(new HttpGet("http://localhost/issues.json"),
+                    response -> response.getHeader("ETag"))));
+        }
+        Thread.sleep(200);
+        release.countDown();
+
+        for (Future<String> result : results) {
+            assertThat(result.get(5, TimeUnit.SECONDS)).isEqualTo("\"v1\"");
+        }
+        assertThat(requestsSent.get()).isEqualTo(1);
+    }
+
+    @Test
+    public void conditionalGetsAreNotShared() throws Exception {
+        SingleFlightCommunicator communicator = new SingleFlightCommunicator(slowServer(false));
+        AtomicInteger number = new AtomicInteger();
+
+        List<Future<String>> results = sendConcurrently(communicator, () -> {
+            HttpGet get = new HttpGet("http://localhost/issues.json");
+            if (number.incrementAndGet() % 2 == 0) {
+                get.addHeader("If-None-Match", "\"v1\"");
+            }
+            return get;
+        });
+
+        for (Future<String> result : results) {
+            result.get();
+        }
+        // 3 plain requests share one flight, 2 conditional ones are sent on their own
+        assertThat(requestsSent.get()).isEqualTo(3);
+    }
+
+    private interface RequestFactory {
+        HttpRequestBase create();
+    }
+
+    private List<Future<String>> sendConcurrently(SingleFlightCommunicator communicator, RequestFactory requests)
+            throws InterruptedException {
+        List<Future<String>> results = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            results.add(executor.submit(() -> communicator.sendRequest(requests.create(), Communicators.contentReader())));
+        }
+        // give all callers time to join the request in flight
+        Thread.sleep(200);
+        release.countDown();
+        executor.shutdown();
+        executor.awaitTermination(5, TimeUnit.SECONDS);
+        return results;
+    }
+
+    private Communicator<BasicHttpResponse> slowServer(boolean fail) {
+        return slowServer(() -> {
+            if (fail) {
+                throw new NotFoundException("not found");
+            }
+        });
+    }
+
+    private interface Failure {
+        void check() throws RedmineException;
+    }
+
+    private Communicator<BasicHttpResponse> slowServer(Failure failure) {
+        return new Communicator<BasicHttpResponse>() {
+            @Override
+            public <R> R sendRequest(HttpRequest request,
+                                     ContentHandler<BasicHttpResponse, R> handler) throws RedmineException {
+                int number = requestsSent.incrementAndGet();
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    throw new RedmineException(e);
+                }
+                failure.check();
+                byte[] body = ("response " + number).getBytes(StandardCharsets.UTF_8);
+                return handler.processContent(new BasicHttpResponse(200, new ByteArrayInputStream(body), "UTF-8",
+                        Collections.singletonMap("ETag", "\"v1\"")));
+            }
+        };
+    }
+}
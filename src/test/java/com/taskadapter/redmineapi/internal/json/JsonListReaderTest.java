@@ -0,0 +1,73 @@
+package com.taskadapter.redmineapi.internal.json;
+
+import org.json.JSONException;
+import org.json.JSONObject;
+import org.junit.Test;
+
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class JsonListReaderTest {
+
+    @Test
+    public void elementsArePassedToConsumerAndOtherFieldsAreReturned() {
+        List<Integer> ids = new ArrayList<>();
+        JSONObject rest = read("{\"total_count\":2, \"issues\":[{\"id\":1,\"tags\":[1,2]},{\"id\":2}], \"limit\":25}", ids);
+
+        assertThat(ids).containsExactly(1, 2);
+        assertThat(rest.getInt("total_count")).isEqualTo(2);
+        assertThat(rest.getInt("limit")).isEqualTo(25);
+        assertThat(rest.getJSONArray("issues").length()).isEqualTo(0);
+    }
+
+    @Test
+    public void emptyAndNullListsAreSupported() {
+        List<Integer> ids = new ArrayList<>();
+        assertThat(read("{\"issues\":[]}", ids).has("issues")).isTrue();
+        assertThat(read("{\"issues\":null}", ids).isNull("issues")).isTrue();
+        assertThat(read("{\"other\":[1]}", ids).has("issues")).isFalse();
+        assertThat(ids).isEmpty();
+    }
+
+    @Test(expected = JSONException.class)
+    public void truncatedInputIsRejected() {
+        read("{\"issues\":[{\"id\":1}", new ArrayList<>());
+    }
+
+    @Test(expected = JSONException.class)
+    public void listOfNonObjectsIsRejected() {
+        read("{\"issues\":[1, 2]}", new ArrayList<>());
+    }
+
+    @Test
+    public void onlyAcceptedFieldsAreKeptInElements() {
+        List<JSONObject> elements = new ArrayList<>();
+        String json = "{\"issues\":[{\"id\":1, \"subject\":\"s1\", \"description\":\"with \\\"quotes\\\", ] and }\","
+                + " \"journals\":[{\"notes\":\"[{\"}], \"done_ratio\":50, \"is_private\":false, \"parent\":null},"
+                + " {\"custom_fields\":{\"a\":[1,{}]}, \"id\":2, \"subject\":\"s2\",}], \"total_count\":2}";
+
+        JSONObject rest = JsonListReader.readList(new StringReader(json), "issues",
+                field -> field.equals("id") || field.equals("subject"), elements::add);
+
+        assertThat(elements).hasSize(2);
+        assertThat(elements.get(0).keySet()).containsOnly("id", "subject");
+        assertThat(elements.get(0).getString("subject")).isEqualTo("s1");
+        assertThat(elements.get(1).keySet()).containsOnly("id", "subject");
+        assertThat(elements.get(1).getInt("id")).isEqualTo(2);
+        assertThat(rest.getInt("total_count")).isEqualTo(2);
+    }
+
+    @Test(expected = JSONException.class)
+    public void unterminatedSkippedValueIsRejected() {
+        JsonListReader.readList(new StringReader("{\"issues\":[{\"id\":1, \"journals\":[{\"a\":1}"), "issues",
+                field -> field.equals("id"), o -> {
+                });
+    }
+
+    private static JSONObject read(String json, List<Integer> ids) {
+        return JsonListReader.readList(new StringReader(json), "issues", o -> ids.add(o.getInt("id")));
+    }
+}
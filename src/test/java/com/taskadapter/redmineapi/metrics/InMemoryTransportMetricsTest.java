@@ -0,0 +1,95 @@
+package com.taskadapter.redmineapi.metrics;
+
+import com.taskadapter.redmineapi.NotFoundException;
+import com.taskadapter.redmineapi.RedmineException;
+import com.taskadapter.redmineapi.bean.Issue;
+import com.taskadapter.redmineapi.bean.Project;
+import com.taskadapter.redmineapi.internal.FakeCommunicator;
+import com.taskadapter.redmineapi.internal.Transport;
+import com.taskadapter.redmineapi.internal.URIConfigurator;
+import com.taskadapter.redmineapi.metrics.TransportMetrics.Phase;
+import org.junit.Test;
+
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.Assert.fail;
+
+public class InMemoryTransportMetricsTest {
+
+    private static final String ISSUE = "{\"issue\":{\"id\":1,\"subject\":\"first\"}}";
+
+    private final InMemoryTransportMetrics metrics = new InMemoryTransportMetrics();
+    private final FakeCommunicator communicator = FakeCommunicator.withResponses(request ->
+            request.getURI().getPath().contains("404") ? FakeCommunicator.response(404, "")
+                    : request.getMethod().equals("GET") && request.getURI().getPath().equals("/issues.json")
+                    ? FakeCommunicator.response(200, "{\"issues\":[{\"id\":1},{\"id\":2}],\"total_count\":2}")
+                    : FakeCommunicator.response(200, ISSUE));
+    private final Transport transport = new Transport(new URIConfigurator("http://localhost:3000"), communicator);
+
+    public InMemoryTransportMetricsTest() {
+        transport.setMetrics(metrics);
+    }
+
+    @Test
+    public void phasesAndBytesAreRecordedPerEndpoint() throws RedmineException {
+        transport.getObject(Issue.class, 1);
+        transport.getObject(Issue.class, 1);
+        transport.getObjectsList(Issue.class);
+
+        assertThat(metrics.getHistogram(Issue.class, "GET", Phase.NETWORK).getCount()).isEqualTo(3);
+        assertThat(metrics.getHistogram(Issue.class, "GET", Phase.READ).getCount()).isEqualTo(3);
+        assertThat(metrics.getHistogram(Issue.class, "GET", Phase.PARSE).getCount()).isEqualTo(3);
+        assertThat(metrics.getHistogram(Project.class, "GET", Phase.NETWORK)).isNull();
+        assertThat(metrics.getBytesRead()).isEqualTo(2 * ISSUE.length()
+                + "{\"issues\":[{\"id\":1},{\"id\":2}],\"total_count\":2}".length());
+    }
+
+    @Test
+    public void bytesWrittenAreRecorded() throws RedmineException {
+        transport.addObject(new Issue().setSubject("new").setProjectId(1));
+
+        assertThat(metrics.getBytesWritten()).isGreaterThan(0);
+        assertThat(metrics.getEndpoints()).extracting("endpoint").containsExactly("Issue POST");
+    }
+
+    @Test
+    public void errorsAreCountedByType() throws RedmineException {
+        try {
+            transport.getObject(Issue.class, 404);
+            fail("Must have failed");
+        } catch (NotFoundException e) {
+            // expected
+        }
+        assertThat(metrics.getErrorCounts()).containsEntry(NotFoundException.class.getName(), 1L);
+        assertThat(metrics.getEndpoints().get(0).getErrors()).isEqualTo(1);
+    }
+
+    @Test
+    public void statisticsAreVisibleInJmx() throws Exception {
+        transport.getObject(Issue.class, 1);
+        ObjectName name = metrics.registerMBean("test");
+        try {
+            Object endpoints = ManagementFactory.getPlatformMBeanServer().getAttribute(name, "Endpoints");
+            assertThat(endpoints).isInstanceOf(javax.management.openmbean.CompositeData[].class);
+            javax.management.openmbean.CompositeData[] data = (javax.management.openmbean.CompositeData[]) endpoints;
+            assertThat(data).hasSize(1);
+            assertThat(data[0].get("endpoint")).isEqualTo("Issue GET");
+            assertThat(data[0].get("responses")).isEqualTo(1L);
+        } finally {
+            metrics.unregisterMBean("test");
+        }
+    }
+
+    @Test
+    public void resetForgetsEverything() throws RedmineException {
+        transport.getObject(Issue.class, 1);
+        metrics.reset();
+
+        List<EndpointStatistics> endpoints = metrics.getEndpoints();
+        assertThat(endpoints).isEmpty();
+        assertThat(metrics.getBytesRead()).isEqualTo(0);
+    }
+}
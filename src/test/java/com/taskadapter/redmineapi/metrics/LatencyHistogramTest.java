@@ -0,0 +1,50 @@
+package com.taskadapter.redmineapi.metrics;
+
+import org.junit.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+public class LatencyHistogramTest {
+
+    private final LatencyHistogram histogram = new LatencyHistogram();
+
+    @Test
+    public void emptyHistogramReportsZeros() {
+        assertThat(histogram.getCount()).isEqualTo(0);
+        assertThat(histogram.getPercentile(99, TimeUnit.MILLISECONDS)).isEqualTo(0);
+        assertThat(histogram.getMean(TimeUnit.MILLISECONDS)).isEqualTo(0);
+    }
+
+    @Test
+    public void percentilesAreWithinBucketPrecision() {
+        for (int i = 1; i <= 1000; i++) {
+            histogram.record(TimeUnit.MILLISECONDS.toNanos(i));
+        }
+        assertThat(histogram.getCount()).isEqualTo(1000);
+        assertThat(histogram.getPercentile(50, TimeUnit.MILLISECONDS)).isBetween(500.0, 500 * 1.125);
+        assertThat(histogram.getPercentile(99, TimeUnit.MILLISECONDS)).isBetween(990.0, 1000.0);
+        assertThat(histogram.getPercentile(100, TimeUnit.MILLISECONDS)).isEqualTo(1000.0);
+        assertThat(histogram.getMax(TimeUnit.MILLISECONDS)).isEqualTo(1000.0);
+        assertThat(histogram.getMean(TimeUnit.MILLISECONDS)).isCloseTo(500.5, within(0.001));
+    }
+
+    @Test
+    public void bucketsCoverAllValuesWithoutGaps() {
+        for (long micros = 0; micros < 100_000; micros++) {
+            int bucket = LatencyHistogram.bucketOf(micros);
+            assertThat(LatencyHistogram.upperBoundOf(bucket)).isGreaterThanOrEqualTo(micros);
+            if (bucket > 0) {
+                assertThat(LatencyHistogram.upperBoundOf(bucket - 1)).isLessThan(micros);
+            }
+        }
+    }
+
+    @Test
+    public void hugeValuesGoToTheLastBucket() {
+        histogram.record(Long.MAX_VALUE);
+        assertThat(histogram.getPercentile(50, TimeUnit.DAYS)).isGreaterThan(10);
+    }
+}